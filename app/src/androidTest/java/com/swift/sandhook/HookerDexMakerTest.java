@@ -0,0 +1,122 @@
+package com.swift.sandhook;
+
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import com.swift.sandhook.xposedcompat.XposedCompat;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import de.robv.android.xposed.XC_MethodHook;
+import de.robv.android.xposed.XC_MethodReplacement;
+import de.robv.android.xposed.XposedBridge;
+import de.robv.android.xposed.XposedHelpers;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * hookers generated by HookerDexMaker are loaded & pass the verifier,
+ * on the single callback path & on the loop path
+ */
+@RunWith(AndroidJUnit4.class)
+public class HookerDexMakerTest {
+
+    private boolean useInternalStub;
+    private boolean useNewCallBackup;
+
+    @Before
+    public void setUp() {
+        useInternalStub = XposedCompat.useInternalStub;
+        useNewCallBackup = XposedCompat.useNewCallBackup;
+        XposedCompat.cacheDir = InstrumentationRegistry.getTargetContext().getCacheDir();
+        //HookerDexMaker only
+        XposedCompat.useInternalStub = false;
+        XposedCompat.useNewCallBackup = false;
+    }
+
+    @After
+    public void tearDown() {
+        XposedCompat.useInternalStub = useInternalStub;
+        XposedCompat.useNewCallBackup = useNewCallBackup;
+    }
+
+    @Test
+    public void singleCallback() {
+        XposedHelpers.findAndHookMethod(Target.class, "single", int.class, new XC_MethodHook() {
+            @Override
+            protected void beforeHookedMethod(MethodHookParam param) throws Throwable {
+                param.args[0] = (int) param.args[0] + 1;
+            }
+
+            @Override
+            protected void afterHookedMethod(MethodHookParam param) throws Throwable {
+                param.setResult((int) param.getResult() * 10);
+            }
+        });
+        assertEquals(30, Target.single(2));
+    }
+
+    @Test
+    public void callbackLoop() {
+        final List<String> calls = new ArrayList<>();
+        XposedHelpers.findAndHookMethod(Target.class, "loop", int.class, new XC_MethodHook(2) {
+            @Override
+            protected void beforeHookedMethod(MethodHookParam param) throws Throwable {
+                calls.add("before1");
+            }
+
+            @Override
+            protected void afterHookedMethod(MethodHookParam param) throws Throwable {
+                calls.add("after1");
+            }
+        });
+        XposedHelpers.findAndHookMethod(Target.class, "loop", int.class, new XC_MethodHook(1) {
+            @Override
+            protected void beforeHookedMethod(MethodHookParam param) throws Throwable {
+                calls.add("before2");
+                param.setResult(-1);
+            }
+        });
+        assertEquals(-1, Target.loop(2));
+        //higher priority runs first, the second one returns early
+        assertEquals("[before1, before2, after1]", calls.toString());
+    }
+
+    @Test
+    public void invokeOriginal() throws Throwable {
+        XposedHelpers.findAndHookMethod(Target.class, "concat", String.class, long.class, new XC_MethodReplacement() {
+            @Override
+            protected Object replaceHookedMethod(MethodHookParam param) throws Throwable {
+                return "hooked";
+            }
+        });
+        Target target = new Target();
+        assertEquals("hooked", target.concat("a", 1L));
+        //through the invoker generated with the hooker
+        Method concat = Target.class.getDeclaredMethod("concat", String.class, long.class);
+        assertEquals("a1", XposedBridge.invokeOriginalMethod(concat, target, new Object[] {"a", 1L}));
+    }
+
+    static class Target {
+
+        String concat(String a, long b) {
+            return a + b;
+        }
+
+        static int single(int a) {
+            return a + Integer.parseInt("0");
+        }
+
+        static int loop(int a) {
+            return a + Integer.parseInt("0");
+        }
+    }
+
+}
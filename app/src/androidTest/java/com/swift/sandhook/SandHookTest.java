@@ -0,0 +1,102 @@
+package com.swift.sandhook;
+
+import android.support.test.runner.AndroidJUnit4;
+
+import com.swift.sandhook.wrapper.HookWrapper;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * hook, swap hook & unhook of a replacement, origin runs again after unhook
+ */
+@RunWith(AndroidJUnit4.class)
+public class SandHookTest {
+
+    static Method backup;
+
+    @Test
+    public void hookAndUnhook() throws Throwable {
+        Method target = Target.class.getDeclaredMethod("hookAndUnhook", int.class);
+        hook(target, "timesTen", "backup1");
+        assertEquals(30, Target.hookAndUnhook(2));
+        assertTrue(SandHook.unhook(target));
+        assertEquals(3, Target.hookAndUnhook(2));
+        assertFalse(SandHook.unhook(target));
+    }
+
+    @Test
+    public void hookAgainAfterUnhook() throws Throwable {
+        Method target = Target.class.getDeclaredMethod("hookAgain", int.class);
+        hook(target, "timesTen", "backup2");
+        assertTrue(SandHook.unhook(target));
+        hook(target, "timesHundred", "backup3");
+        assertEquals(300, Target.hookAgain(2));
+        assertTrue(SandHook.unhook(target));
+        assertEquals(3, Target.hookAgain(2));
+    }
+
+    @Test
+    public void swapHook() throws Throwable {
+        Method target = Target.class.getDeclaredMethod("swapHook", int.class);
+        hook(target, "timesTen", "backup4");
+        assertEquals(30, Target.swapHook(2));
+        SandHook.swapHook(target, SandHookTest.class.getDeclaredMethod("timesHundred", int.class));
+        assertEquals(300, Target.swapHook(2));
+        assertTrue(SandHook.unhook(target));
+        assertEquals(3, Target.swapHook(2));
+    }
+
+    //each hook gets its own backup, hooks call origin by the current one
+    private static void hook(Method target, String hookName, String backupName) throws Throwable {
+        backup = SandHookTest.class.getDeclaredMethod(backupName, int.class);
+        Method hook = SandHookTest.class.getDeclaredMethod(hookName, int.class);
+        SandHook.hook(new HookWrapper.HookEntity(target, hook, backup));
+    }
+
+    public static int timesTen(int a) throws Throwable {
+        return (int) SandHook.callOriginByBackup(backup, null, a) * 10;
+    }
+
+    public static int timesHundred(int a) throws Throwable {
+        return (int) SandHook.callOriginByBackup(backup, null, a) * 100;
+    }
+
+    public static int backup1(int a) {
+        throw new IllegalStateException("backup is not bound");
+    }
+
+    public static int backup2(int a) {
+        throw new IllegalStateException("backup is not bound");
+    }
+
+    public static int backup3(int a) {
+        throw new IllegalStateException("backup is not bound");
+    }
+
+    public static int backup4(int a) {
+        throw new IllegalStateException("backup is not bound");
+    }
+
+    static class Target {
+
+        static int hookAndUnhook(int a) {
+            return a + Integer.parseInt("1");
+        }
+
+        static int hookAgain(int a) {
+            return a + Integer.parseInt("1");
+        }
+
+        static int swapHook(int a) {
+            return a + Integer.parseInt("1");
+        }
+    }
+
+}
@@ -111,8 +111,8 @@ namespace SandHook {
     class CastAccessFlag : public IMember<art::mirror::ArtMethod, uint32_t> {
     protected:
         Size calOffset(JNIEnv *jniEnv, art::mirror::ArtMethod *p) override {
-            uint32_t accessFlag = getIntFromJava(jniEnv, "com/swift/sandhook/SandHook",
-                                                 "testAccessFlag");
+            uint32_t accessFlag = static_cast<uint32_t>(getAddressFromJavaByCallMethod(jniEnv, "com/swift/sandhook/SandHook",
+                                                                                       "getTestAccessFlag"));
             if (accessFlag == 0) {
                 accessFlag = 524313;
                 //kAccPublicApi
@@ -180,7 +180,79 @@ namespace SandHook {
     };
 
 
-    void CastArtMethod::init(JNIEnv *env) {
+    template<typename T>
+    static T readLayoutMember(art::mirror::ArtMethod *method, jlong offset) {
+        return *reinterpret_cast<T *>(reinterpret_cast<Size>(method) + static_cast<Size>(offset));
+    }
+
+    //layout of a former process is used if it fits this art method
+    static bool restoreLayout(const jlong *layout, jsize layoutLen,
+                              art::mirror::ArtMethod *m1, art::mirror::ArtMethod *m2,
+                              art::mirror::ArtMethod *neverCall, art::mirror::ArtMethod *neverCallNative) {
+        if (layout == nullptr || layoutLen != CastArtMethod::LAYOUT_LEN)
+            return false;
+        Size size = CastArtMethod::size;
+        if (static_cast<Size>(layout[0]) != size)
+            return false;
+        for (int i = 1; i < CastArtMethod::LAYOUT_LEN; ++i) {
+            //parent size + 1 marks a member this art does not have
+            if (layout[i] < 0 || static_cast<Size>(layout[i]) > size + 1)
+                return false;
+        }
+        //the key of the cache can miss an art update, check members against the declared test methods
+        if (neverCall == nullptr || neverCallNative == nullptr)
+            return false;
+        if (static_cast<Size>(layout[1]) + sizeof(uint32_t) <= size) {
+            //method1 & method2 are public static final, neverCallNative is private native
+            uint32_t accessFlag = readLayoutMember<uint32_t>(m1, layout[1]);
+            uint32_t nativeAccessFlag = readLayoutMember<uint32_t>(neverCallNative, layout[1]);
+            if ((accessFlag & 0x119) != 0x19 || accessFlag != readLayoutMember<uint32_t>(m2, layout[1])
+                || (nativeAccessFlag & 0x109) != 0x100)
+                return false;
+        }
+        if (static_cast<Size>(layout[3]) + BYTE_POINT <= size) {
+            void *quickEntry = readLayoutMember<void *>(neverCallNative, layout[3]);
+            if (readLayoutMember<void *>(m1, layout[3]) == nullptr || quickEntry == nullptr)
+                return false;
+            //jni entry of a native method is the registered function, its quick entry is a stub
+            if (static_cast<Size>(layout[8]) + BYTE_POINT <= size) {
+                void *jniEntry = readLayoutMember<void *>(neverCallNative, layout[8]);
+                if (jniEntry != reinterpret_cast<void *>(Java_com_swift_sandhook_ClassNeverCall_neverCallNative)
+                    || quickEntry == jniEntry)
+                    return false;
+            }
+        }
+        if (static_cast<Size>(layout[6]) + sizeof(uint32_t) <= size) {
+            //methods of one class share the declaring class, other classes do not
+            uint32_t declaringClass = readLayoutMember<uint32_t>(m1, layout[6]);
+            if (declaringClass == 0 || declaringClass != readLayoutMember<uint32_t>(m2, layout[6])
+                || declaringClass == readLayoutMember<uint32_t>(neverCall, layout[6]))
+                return false;
+        }
+        CastArtMethod::accessFlag->restore(size, static_cast<Size>(layout[1]));
+        CastArtMethod::entryPointFromInterpreter->restore(size, static_cast<Size>(layout[2]));
+        CastArtMethod::entryPointQuickCompiled->restore(size, static_cast<Size>(layout[3]));
+        CastArtMethod::dexMethodIndex->restore(size, static_cast<Size>(layout[4]));
+        CastArtMethod::dexCacheResolvedMethods->restore(size, static_cast<Size>(layout[5]));
+        CastArtMethod::declaringClass->restore(size, static_cast<Size>(layout[6]));
+        CastArtMethod::hotnessCount->restore(size, static_cast<Size>(layout[7]));
+        CastArtMethod::entryPointFromJNI->restore(size, static_cast<Size>(layout[8]));
+        return true;
+    }
+
+    void CastArtMethod::getLayout(jlong *layout) {
+        layout[0] = size;
+        layout[1] = accessFlag->getOffset();
+        layout[2] = entryPointFromInterpreter->getOffset();
+        layout[3] = entryPointQuickCompiled->getOffset();
+        layout[4] = dexMethodIndex->getOffset();
+        layout[5] = dexCacheResolvedMethods->getOffset();
+        layout[6] = declaringClass->getOffset();
+        layout[7] = hotnessCount->getOffset();
+        layout[8] = entryPointFromJNI->getOffset();
+    }
+
+    void CastArtMethod::init(JNIEnv *env, const jlong *layout, jsize layoutLen) {
         //init ArtMethodSize
         jclass sizeTestClass = env->FindClass("com/swift/sandhook/ArtMethodSizeTest");
         jobject artMethod1 = getMethodObject(env, "com.swift.sandhook.ArtMethodSizeTest", "method1");
@@ -198,26 +270,13 @@ namespace SandHook {
         //init Members
 
         accessFlag = new CastAccessFlag();
-        accessFlag->init(env, m1, size);
-
         entryPointFromInterpreter = new CastEntryPointFormInterpreter();
-        entryPointFromInterpreter->init(env, m1, size);
-
         entryPointQuickCompiled = new CastEntryPointQuickCompiled();
-        entryPointQuickCompiled->init(env, m1, size);
-
         dexMethodIndex = new CastDexMethodIndex();
-        dexMethodIndex->init(env, m1, size);
-
         dexCacheResolvedMethods = new CastDexCacheResolvedMethods();
-        dexCacheResolvedMethods->init(env, m1, size);
-
         declaringClass = new CastShadowClass();
-        declaringClass->init(env, m1, size);
-
-
         hotnessCount = new CastHotnessCount();
-        hotnessCount->init(env, m1, size);
+        entryPointFromJNI = new CastEntryPointFromJni();
 
         auto neverCallTestClass = "com.swift.sandhook.ClassNeverCall";
 
@@ -227,6 +286,24 @@ namespace SandHook {
         art::mirror::ArtMethod *neverCall2 = getArtMethod(env, getMethodObject(env,
                                                                                neverCallTestClass,
                                                                                "neverCall2"));
+        art::mirror::ArtMethod *neverCallNative = getArtMethod(env, getMethodObject(env,
+                                                                                    neverCallTestClass,
+                                                                                    "neverCallNative"));
+        art::mirror::ArtMethod *neverCallNative2 = getArtMethod(env, getMethodObject(env,
+                                                                                     neverCallTestClass,
+                                                                                     "neverCallNative2"));
+
+        bool restored = restoreLayout(layout, layoutLen, m1, m2, neverCall, neverCallNative);
+
+        if (!restored) {
+            accessFlag->init(env, m1, size);
+            entryPointFromInterpreter->init(env, m1, size);
+            entryPointQuickCompiled->init(env, m1, size);
+            dexMethodIndex->init(env, m1, size);
+            dexCacheResolvedMethods->init(env, m1, size);
+            declaringClass->init(env, m1, size);
+            hotnessCount->init(env, m1, size);
+        }
 
         bool beAot = entryPointQuickCompiled->get(neverCall) != entryPointQuickCompiled->get(neverCall2);
         if (beAot) {
@@ -239,14 +316,6 @@ namespace SandHook {
             quickToInterpreterBridge = entryPointQuickCompiled->get(neverCall);
         }
 
-
-        art::mirror::ArtMethod *neverCallNative = getArtMethod(env, getMethodObject(env,
-                                                                                    neverCallTestClass,
-                                                                                    "neverCallNative"));
-        art::mirror::ArtMethod *neverCallNative2 = getArtMethod(env, getMethodObject(env,
-                                                                                     neverCallTestClass,
-                                                                                     "neverCallNative2"));
-
         beAot = entryPointQuickCompiled->get(neverCallNative) != entryPointQuickCompiled->get(neverCallNative2);
         if (beAot) {
             genericJniStub = getInterpreterBridge(true);
@@ -258,8 +327,9 @@ namespace SandHook {
             genericJniStub = entryPointQuickCompiled->get(neverCallNative);
         }
 
-        entryPointFromJNI = new CastEntryPointFromJni();
-        entryPointFromJNI->init(env, neverCallNative, size);
+        if (!restored) {
+            entryPointFromJNI->init(env, neverCallNative, size);
+        }
 
         art::mirror::ArtMethod *neverCallStatic = getArtMethod(env, getMethodObject(env,
                                                                                     neverCallTestClass,
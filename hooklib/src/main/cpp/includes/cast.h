@@ -37,6 +37,12 @@ namespace SandHook {
             offset = calOffset(jniEnv, p);
         }
 
+        //offset probed by a former process on the same build
+        virtual void restore(Size size, Size offset) {
+            this->parentSize = size;
+            this->offset = offset;
+        }
+
         Size size() {
             return sizeof(MType);
         }
@@ -94,6 +100,11 @@ namespace SandHook {
             elementSize = calElementSize(jniEnv, p);
         }
 
+        virtual void restore(Size parentSize, Size offset) override {
+            IMember<PType,void*>::restore(parentSize, offset);
+            elementSize = calElementSize(nullptr, nullptr);
+        }
+
         virtual Size getElementSize() {
             return elementSize;
         }
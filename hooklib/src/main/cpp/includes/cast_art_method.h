@@ -27,7 +27,11 @@ namespace SandHook {
         static bool canGetJniBridge;
         static bool canGetInterpreterBridge;
 
-        static void init(JNIEnv *env);
+        //size & offsets of members, in this order
+        static const int LAYOUT_LEN = 9;
+
+        static void init(JNIEnv *env, const jlong *layout, jsize layoutLen);
+        static void getLayout(jlong *layout);
         static void copy(art::mirror::ArtMethod* from, art::mirror::ArtMethod* to);
 
     };
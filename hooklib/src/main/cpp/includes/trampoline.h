@@ -116,6 +116,8 @@ namespace SandHook {
 
         Trampoline() = default;
 
+        virtual ~Trampoline() = default;
+
         virtual void init() {
             codeLen = codeLength();
             tempCode = templateCode();
@@ -129,9 +131,11 @@ namespace SandHook {
             return isThumb;
         }
 
-        void setExecuteSpace(Code start) {
+        //writeOffset: distance of the writable alias of a dual mapped execute space
+        void setExecuteSpace(Code start, Size writeOffset = 0) {
             code = start;
-            memcpy(code, tempCode, codeLen);
+            this->writeOffset = writeOffset;
+            memcpy(reinterpret_cast<void*>((Size)code + writeOffset), tempCode, codeLen);
             flushCache(reinterpret_cast<Size>(code), codeLen);
         }
 
@@ -140,7 +144,7 @@ namespace SandHook {
         }
 
         void codeCopy(Code src, Size targetOffset, Size len) {
-            memcpy(reinterpret_cast<void*>((Size)code + targetOffset), src, len);
+            memcpy(reinterpret_cast<void*>((Size)code + writeOffset + targetOffset), src, len);
             flushCache((Size)code + targetOffset, len);
         }
 
@@ -175,6 +179,10 @@ namespace SandHook {
             return codeLen;
         }
 
+        Size getWriteOffset() {
+            return writeOffset;
+        }
+
         bool isBigEnd(void) {
             int i = 1;
             unsigned char *pointer;
@@ -222,6 +230,7 @@ namespace SandHook {
         Code tempCode;
         Size codeLen;
         Size codeEntryOffSet;
+        Size writeOffset = 0;
         bool isThumb = false;
     };
 
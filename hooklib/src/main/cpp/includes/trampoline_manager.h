@@ -13,11 +13,22 @@
 #include "art_method.h"
 #include "log.h"
 #include <unistd.h>
+#include <atomic>
 
 namespace SandHook {
 
     #define MMAP_PAGE_SIZE sysconf(_SC_PAGESIZE)
     #define EXE_BLOCK_SIZE MMAP_PAGE_SIZE
+    //each installing thread reserves this much execute space at a time
+    #define EXE_ARENA_SIZE (EXE_BLOCK_SIZE * 16)
+
+    //execute space reserved by one thread, bump allocated without lock
+    struct ExecuteArena {
+        Code start = nullptr;
+        Size writeOffset = 0;
+        Size used = 0;
+        Size size = 0;
+    };
 
     using namespace art;
 
@@ -34,6 +45,21 @@ namespace SandHook {
         Trampoline* hookNative = nullptr;
 
         Code originCode = nullptr;
+        //origin state before replacement hook, used to restore
+        uint32_t originAccessFlags = 0;
+        void* originInterpreterCode = nullptr;
+        //origin entry & the bytes overwritten by inline jump, used to restore
+        Code inlineEntry = nullptr;
+        Size inlineOriginCodeLen = 0;
+        uint8_t inlineOriginCode[SIZE_DIRECT_JUMP_TRAMPOLINE];
+        //swapped out trampolines, threads may still run in them until the world is stopped
+        std::list<Trampoline*> retired;
+    };
+
+    //execute space of a removed trampoline, reused by the next trampoline of the same size
+    struct FreeExecuteSpace {
+        Code start;
+        Size writeOffset;
     };
 
     class TrampolineManager {
@@ -46,7 +72,8 @@ namespace SandHook {
             this->quickCompileOffset = quickCompileOffset;
         }
 
-        Code allocExecuteSpace(Size size);
+        //writeOffset: where to write the returned space, 0 unless dual mapped
+        Code allocExecuteSpace(Size size, Size &writeOffset);
 
         //java hook
         HookTrampoline* installReplacementTrampoline(mirror::ArtMethod* originMethod, mirror::ArtMethod* hookMethod, mirror::ArtMethod* backupMethod);
@@ -63,6 +90,16 @@ namespace SandHook {
             return trampolines[method];
         }
 
+        //point an installed trampoline to another hook method by one pointer store, no stop the world
+        bool retargetHookTrampoline(mirror::ArtMethod* originMethod, mirror::ArtMethod* hookMethod);
+
+        //write back the origin bytes of an inline hooked method, stop the world before
+        bool restoreInlineCode(mirror::ArtMethod* method);
+
+        //drop trampoline of a restored method, stop the world before
+        //call origin code stays for the backup method, other execute space is reused
+        void removeHookTrampoline(mirror::ArtMethod* method);
+
         bool methodHooked(ArtMethod *method) {
             return trampolines.find(method) != trampolines.end();
         }
@@ -100,14 +137,23 @@ namespace SandHook {
 
         bool inlineSecurityCheck = true;
         bool skipAllCheck = false;
+        //map execute space twice, rw to write & rx to execute, no rwx pages
+        //turned on when the kernel refuses rwx mappings
+        volatile bool dualMapExecuteSpace = false;
     private:
 
+        bool mapExecuteSpace(ExecuteArena &arena);
+        bool mapDualExecuteSpace(ExecuteArena &arena);
+        void freeExecuteSpace(Trampoline* trampoline);
+
         Size quickCompileOffset;
         std::map<mirror::ArtMethod*,HookTrampoline*> trampolines;
         std::list<Code> executeSpaceList = std::list<Code>();
+        //aligned size -> free spaces
+        std::map<Size, std::list<FreeExecuteSpace>> freeExecuteSpaces;
+        std::atomic<Size> freeExecuteSpaceCount{0};
         std::mutex allocSpaceLock;
         std::mutex installLock;
-        Size executePageOffset = 0;
     };
 
 }
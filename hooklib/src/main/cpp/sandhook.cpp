@@ -8,6 +8,9 @@
 #include "includes/elf_util.h"
 #include "includes/never_call.h"
 #include <jni.h>
+#include <limits.h>
+#include <stdio.h>
+#include <string.h>
 
 SandHook::TrampolineManager &trampolineManager = SandHook::TrampolineManager::get();
 
@@ -70,6 +73,10 @@ bool doHookWithReplacement(JNIEnv* env,
         hookMethod->disableCompilable();
     }
 
+    bool firstHook = !trampolineManager.methodHooked(originMethod);
+    uint32_t originAccessFlags = originMethod->getAccessFlags();
+    void* originInterpreterCode = originMethod->getInterpreterCodeEntry();
+
     if (SDK_INT > ANDROID_N && SDK_INT < ANDROID_Q) {
         forceProcessProfiles();
     }
@@ -96,6 +103,10 @@ bool doHookWithReplacement(JNIEnv* env,
 
     SandHook::HookTrampoline* hookTrampoline = trampolineManager.installReplacementTrampoline(originMethod, hookMethod, backupMethod);
     if (hookTrampoline != nullptr) {
+        if (firstHook) {
+            hookTrampoline->originAccessFlags = originAccessFlags;
+            hookTrampoline->originInterpreterCode = originInterpreterCode;
+        }
         originMethod->setQuickCodeEntry(hookTrampoline->replacement->getCode());
         void* entryPointFormInterpreter = hookMethod->getInterpreterCodeEntry();
         if (entryPointFormInterpreter != NULL) {
@@ -122,6 +133,9 @@ bool doHookWithInline(JNIEnv* env,
         hookMethod->disableCompilable();
     }
 
+    bool firstHook = !trampolineManager.methodHooked(originMethod);
+    uint32_t originAccessFlags = originMethod->getAccessFlags();
+
     originMethod->disableCompilable();
     if (SDK_INT > ANDROID_N && SDK_INT < ANDROID_Q) {
         forceProcessProfiles();
@@ -137,6 +151,9 @@ bool doHookWithInline(JNIEnv* env,
     if (hookTrampoline == nullptr)
         return false;
 
+    if (firstHook) {
+        hookTrampoline->originAccessFlags = originAccessFlags;
+    }
     hookMethod->flushCache();
     if (hookTrampoline->callOrigin != nullptr) {
         //backup
@@ -154,11 +171,18 @@ bool doHookWithInline(JNIEnv* env,
 
 extern "C"
 JNIEXPORT jboolean JNICALL
-Java_com_swift_sandhook_SandHook_initNative(JNIEnv *env, jclass type, jint sdk, jboolean debug) {
+Java_com_swift_sandhook_SandHook_initNative(JNIEnv *env, jclass type, jint sdk, jboolean debug, jlongArray layout) {
     SDK_INT = sdk;
     DEBUG = debug;
     initHideApi(env);
-    SandHook::CastArtMethod::init(env);
+    if (layout != nullptr) {
+        jsize layoutLen = env->GetArrayLength(layout);
+        jlong *cachedLayout = env->GetLongArrayElements(layout, nullptr);
+        SandHook::CastArtMethod::init(env, cachedLayout, layoutLen);
+        env->ReleaseLongArrayElements(layout, cachedLayout, JNI_ABORT);
+    } else {
+        SandHook::CastArtMethod::init(env, nullptr, 0);
+    }
     SandHook::CastCompilerOptions::init(env);
     trampolineManager.init(SandHook::CastArtMethod::entryPointQuickCompiled->getOffset());
     return JNI_TRUE;
@@ -166,19 +190,19 @@ Java_com_swift_sandhook_SandHook_initNative(JNIEnv *env, jclass type, jint sdk,
 }
 
 extern "C"
-JNIEXPORT jint JNICALL
-Java_com_swift_sandhook_SandHook_hookMethod(JNIEnv *env, jclass type, jobject originMethod,
-                                            jobject hookMethod, jobject backupMethod, jint hookMode) {
+JNIEXPORT jlongArray JNICALL
+Java_com_swift_sandhook_SandHook_getArtMethodLayout(JNIEnv *env, jclass type) {
+    jlong layout[SandHook::CastArtMethod::LAYOUT_LEN];
+    SandHook::CastArtMethod::getLayout(layout);
+    jlongArray res = env->NewLongArray(SandHook::CastArtMethod::LAYOUT_LEN);
+    env->SetLongArrayRegion(res, 0, SandHook::CastArtMethod::LAYOUT_LEN, layout);
+    return res;
+}
 
-    art::mirror::ArtMethod* origin = getArtMethod(env, originMethod);
-    art::mirror::ArtMethod* hook = getArtMethod(env, hookMethod);
-    art::mirror::ArtMethod* backup = backupMethod == NULL ? nullptr : getArtMethod(env,
-                                                                                   backupMethod);
+bool shouldInlineHook(JNIEnv *env, art::mirror::ArtMethod *origin, int mode) {
 
     bool isInlineHook = false;
 
-    int mode = reinterpret_cast<int>(hookMode);
-
     if (mode == INLINE) {
         if (!origin->isCompiled()) {
             if (SDK_INT >= ANDROID_N) {
@@ -187,10 +211,9 @@ Java_com_swift_sandhook_SandHook_hookMethod(JNIEnv *env, jclass type, jobject or
         } else {
             isInlineHook = true;
         }
-        goto label_hook;
+        return isInlineHook;
     } else if (mode == REPLACE) {
-        isInlineHook = false;
-        goto label_hook;
+        return false;
     }
 
     if (origin->isAbstract()) {
@@ -213,18 +236,189 @@ Java_com_swift_sandhook_SandHook_hookMethod(JNIEnv *env, jclass type, jobject or
         isInlineHook = true;
     }
 
+    return isInlineHook;
+}
 
-label_hook:
-    //suspend other threads
-    SandHook::StopTheWorld stopTheWorld;
+//other threads must be suspended
+int doHook(JNIEnv *env, art::mirror::ArtMethod *origin, art::mirror::ArtMethod *hook,
+           art::mirror::ArtMethod *backup, bool isInlineHook) {
     if (isInlineHook && trampolineManager.canSafeInline(origin)) {
         return doHookWithInline(env, origin, hook, backup) ? INLINE : -1;
     } else {
         return doHookWithReplacement(env, origin, hook, backup) ? REPLACE : -1;
     }
+}
+
+extern "C"
+JNIEXPORT jint JNICALL
+Java_com_swift_sandhook_SandHook_hookMethod(JNIEnv *env, jclass type, jobject originMethod,
+                                            jobject hookMethod, jobject backupMethod, jint hookMode) {
+
+    art::mirror::ArtMethod* origin = getArtMethod(env, originMethod);
+    art::mirror::ArtMethod* hook = getArtMethod(env, hookMethod);
+    art::mirror::ArtMethod* backup = backupMethod == NULL ? nullptr : getArtMethod(env,
+                                                                                   backupMethod);
+
+    bool isInlineHook = shouldInlineHook(env, origin, reinterpret_cast<int>(hookMode));
+
+    //suspend other threads
+    SandHook::StopTheWorld stopTheWorld;
+    return doHook(env, origin, hook, backup, isInlineHook);
 
 }
 
+extern "C"
+JNIEXPORT jintArray JNICALL
+Java_com_swift_sandhook_SandHook_hookMethods(JNIEnv *env, jclass type, jobjectArray originMethods,
+                                             jobjectArray hookMethods, jobjectArray backupMethods, jintArray hookModes) {
+
+    jsize count = env->GetArrayLength(originMethods);
+    jintArray results = env->NewIntArray(count);
+    if (results == nullptr || count == 0)
+        return results;
+
+    jint* modes = env->GetIntArrayElements(hookModes, nullptr);
+    jint* res = new jint[count];
+    art::mirror::ArtMethod** origins = new art::mirror::ArtMethod*[count];
+    art::mirror::ArtMethod** hooks = new art::mirror::ArtMethod*[count];
+    art::mirror::ArtMethod** backups = new art::mirror::ArtMethod*[count];
+    bool* inlineHooks = new bool[count];
+
+    //compile before suspending other threads
+    for (int i = 0; i < count; i++) {
+        jobject originMethod = env->GetObjectArrayElement(originMethods, i);
+        jobject hookMethod = env->GetObjectArrayElement(hookMethods, i);
+        jobject backupMethod = env->GetObjectArrayElement(backupMethods, i);
+        origins[i] = getArtMethod(env, originMethod);
+        hooks[i] = getArtMethod(env, hookMethod);
+        backups[i] = backupMethod == NULL ? nullptr : getArtMethod(env, backupMethod);
+        inlineHooks[i] = shouldInlineHook(env, origins[i], modes[i]);
+        env->DeleteLocalRef(originMethod);
+        env->DeleteLocalRef(hookMethod);
+        if (backupMethod != NULL) {
+            env->DeleteLocalRef(backupMethod);
+        }
+    }
+
+    {
+        //suspend other threads once for all
+        SandHook::StopTheWorld stopTheWorld;
+        for (int i = 0; i < count; i++) {
+            res[i] = doHook(env, origins[i], hooks[i], backups[i], inlineHooks[i]);
+        }
+    }
+
+    env->SetIntArrayRegion(results, 0, count, res);
+    env->ReleaseIntArrayElements(hookModes, modes, JNI_ABORT);
+    delete[] res;
+    delete[] origins;
+    delete[] hooks;
+    delete[] backups;
+    delete[] inlineHooks;
+    return results;
+}
+
+//oat & boot code is mapped from files, jit code cache & trampolines are not
+bool isFileMappedCode(void *code) {
+    FILE *maps = fopen("/proc/self/maps", "r");
+    if (maps == nullptr)
+        return false;
+    char line[PATH_MAX + 128];
+    unsigned long start, end;
+    unsigned long addr = reinterpret_cast<unsigned long>(code);
+    bool fileMapped = false;
+    while (fgets(line, sizeof(line), maps)) {
+        if (sscanf(line, "%lx-%lx", &start, &end) != 2 || addr < start || addr >= end)
+            continue;
+        const char *path = strstr(line, " /");
+        fileMapped = path != nullptr && strncmp(path + 1, "/memfd:", 7) != 0
+                     && strncmp(path + 1, "/dev/ashmem", 11) != 0;
+        break;
+    }
+    fclose(maps);
+    return fileMapped;
+}
+
+bool doRestoreReplacement(art::mirror::ArtMethod *originMethod) {
+    if (!trampolineManager.methodHooked(originMethod))
+        return false;
+    SandHook::HookTrampoline* hookTrampoline = trampolineManager.getHookTrampoline(originMethod);
+    //inline hook patched origin code, can not restore by entry
+    if (hookTrampoline->replacement == nullptr)
+        return false;
+    void* originCode = hookTrampoline->originCode;
+    //jit code of origin may be freed by the code cache since hooked, interpret it instead
+    if (SDK_INT >= ANDROID_N && !isFileMappedCode(originCode)) {
+        bool isNative = (hookTrampoline->originAccessFlags & 0x0100) != 0;
+        if (isNative ? !SandHook::CastArtMethod::canGetJniBridge : !SandHook::CastArtMethod::canGetInterpreterBridge)
+            return false;
+        originCode = isNative ? SandHook::CastArtMethod::genericJniStub : SandHook::CastArtMethod::quickToInterpreterBridge;
+    }
+    originMethod->setAccessFlags(hookTrampoline->originAccessFlags);
+    if (hookTrampoline->originInterpreterCode != nullptr) {
+        originMethod->setInterpreterCodeEntry(hookTrampoline->originInterpreterCode);
+    }
+    originMethod->setQuickCodeEntry(originCode);
+    originMethod->flushCache();
+    trampolineManager.removeHookTrampoline(originMethod);
+    return true;
+}
+
+bool doRestoreInline(art::mirror::ArtMethod *originMethod) {
+    if (!trampolineManager.methodHooked(originMethod))
+        return false;
+    SandHook::HookTrampoline* hookTrampoline = trampolineManager.getHookTrampoline(originMethod);
+    if (hookTrampoline->inlineSecondory == nullptr)
+        return false;
+    uint32_t originAccessFlags = hookTrampoline->originAccessFlags;
+    if (!trampolineManager.restoreInlineCode(originMethod))
+        return false;
+    //compilable again, jit may replace the restored code
+    originMethod->setAccessFlags(originAccessFlags);
+    originMethod->flushCache();
+    trampolineManager.removeHookTrampoline(originMethod);
+    return true;
+}
+
+extern "C"
+JNIEXPORT jboolean JNICALL
+Java_com_swift_sandhook_SandHook_restoreMethod(JNIEnv *env, jclass type, jobject originMethod) {
+    if (originMethod == NULL)
+        return JNI_FALSE;
+    art::mirror::ArtMethod* origin = getArtMethod(env, originMethod);
+    SandHook::StopTheWorld stopTheWorld;
+    return static_cast<jboolean>(doRestoreReplacement(origin));
+}
+
+extern "C"
+JNIEXPORT jboolean JNICALL
+Java_com_swift_sandhook_SandHook_swapHookMethod(JNIEnv *env, jclass type, jobject originMethod, jobject hookMethod) {
+    if (originMethod == NULL || hookMethod == NULL)
+        return JNI_FALSE;
+    art::mirror::ArtMethod* origin = getArtMethod(env, originMethod);
+    art::mirror::ArtMethod* hook = getArtMethod(env, hookMethod);
+    if (!trampolineManager.methodHooked(origin))
+        return JNI_FALSE;
+    if (!hook->compile(env)) {
+        hook->disableCompilable();
+    }
+    hook->flushCache();
+    //no stop the world, other threads keep running the old hook or the new one
+    return static_cast<jboolean>(trampolineManager.retargetHookTrampoline(origin, hook));
+}
+
+extern "C"
+JNIEXPORT jboolean JNICALL
+Java_com_swift_sandhook_SandHook_unhookMethod(JNIEnv *env, jclass type, jobject originMethod) {
+    if (originMethod == NULL)
+        return JNI_FALSE;
+    art::mirror::ArtMethod* origin = getArtMethod(env, originMethod);
+    SandHook::StopTheWorld stopTheWorld;
+    if (doRestoreReplacement(origin))
+        return JNI_TRUE;
+    return static_cast<jboolean>(doRestoreInline(origin));
+}
+
 extern "C"
 JNIEXPORT void JNICALL
 Java_com_swift_sandhook_SandHook_ensureMethodCached(JNIEnv *env, jclass type, jobject hook,
@@ -296,6 +490,46 @@ Java_com_swift_sandhook_SandHook_getObjectNative(JNIEnv *env, jclass type, jlong
     return getJavaObject(env, thread ? reinterpret_cast<void *>(thread) : getCurrentThread(), reinterpret_cast<void *>(address));
 }
 
+extern "C"
+JNIEXPORT jobject JNICALL
+Java_com_swift_sandhook_SandHook_getObjectsNative(JNIEnv *env, jclass type, jlong thread,
+                                                  jlongArray addresses, jint thisIndex,
+                                                  jintArray addressIndexes, jobjectArray out,
+                                                  jintArray outIndexes) {
+    void *self = thread ? reinterpret_cast<void *>(thread) : getCurrentThread();
+    jlong *addrs = env->GetLongArrayElements(addresses, nullptr);
+    jobject thiz = nullptr;
+    //only the low 32 bits are the address on 32 bit
+    if (thisIndex >= 0 && static_cast<Size>(addrs[thisIndex]) != 0) {
+        thiz = getJavaObject(env, self, reinterpret_cast<void *>(static_cast<Size>(addrs[thisIndex])));
+    }
+    jsize len = env->GetArrayLength(addressIndexes);
+    if (len > 0) {
+        jint *from = env->GetIntArrayElements(addressIndexes, nullptr);
+        jint *to = env->GetIntArrayElements(outIndexes, nullptr);
+        for (int i = 0; i < len; ++i) {
+            Size address = static_cast<Size>(addrs[from[i]]);
+            if (address == 0) {
+                env->SetObjectArrayElement(out, to[i], nullptr);
+                continue;
+            }
+            jobject object = getJavaObject(env, self, reinterpret_cast<void *>(address));
+            env->SetObjectArrayElement(out, to[i], object);
+            env->DeleteLocalRef(object);
+        }
+        env->ReleaseIntArrayElements(addressIndexes, from, JNI_ABORT);
+        env->ReleaseIntArrayElements(outIndexes, to, JNI_ABORT);
+    }
+    env->ReleaseLongArrayElements(addresses, addrs, JNI_ABORT);
+    return thiz;
+}
+
+extern "C"
+JNIEXPORT jboolean JNICALL
+Java_com_swift_sandhook_SandHook_isNativeThreadSelf(JNIEnv *env, jclass type, jlong thread) {
+    return static_cast<jboolean>(getCurrentThread() == reinterpret_cast<void *>(thread));
+}
+
 extern "C"
 JNIEXPORT jboolean JNICALL
 Java_com_swift_sandhook_SandHook_canGetObject(JNIEnv *env, jclass type) {
@@ -319,6 +553,12 @@ JNIEXPORT void JNICALL
 Java_com_swift_sandhook_SandHook_skipAllSafeCheck(JNIEnv *env, jclass type, jboolean skip) {
     trampolineManager.skipAllCheck = skip;
 }
+extern "C"
+JNIEXPORT void JNICALL
+Java_com_swift_sandhook_SandHook_setExecuteSpaceDualMap(JNIEnv *env, jclass type, jboolean dualMap) {
+    trampolineManager.dualMapExecuteSpace = dualMap;
+}
+
 extern "C"
 JNIEXPORT jboolean JNICALL
 Java_com_swift_sandhook_SandHook_is64Bit(JNIEnv *env, jclass type) {
@@ -420,14 +660,39 @@ JNIEXPORT void* findSym(const char *elf, const char *sym_name) {
 static JNINativeMethod jniSandHook[] = {
         {
                 "initNative",
-                "(IZ)Z",
+                "(IZ[J)Z",
                 (void *) Java_com_swift_sandhook_SandHook_initNative
         },
+        {
+                "getArtMethodLayout",
+                "()[J",
+                (void *) Java_com_swift_sandhook_SandHook_getArtMethodLayout
+        },
         {
                 "hookMethod",
                 "(Ljava/lang/reflect/Member;Ljava/lang/reflect/Method;Ljava/lang/reflect/Method;I)I",
                 (void *) Java_com_swift_sandhook_SandHook_hookMethod
         },
+        {
+                "hookMethods",
+                "([Ljava/lang/reflect/Member;[Ljava/lang/reflect/Method;[Ljava/lang/reflect/Method;[I)[I",
+                (void *) Java_com_swift_sandhook_SandHook_hookMethods
+        },
+        {
+                "swapHookMethod",
+                "(Ljava/lang/reflect/Member;Ljava/lang/reflect/Method;)Z",
+                (void *) Java_com_swift_sandhook_SandHook_swapHookMethod
+        },
+        {
+                "unhookMethod",
+                "(Ljava/lang/reflect/Member;)Z",
+                (void *) Java_com_swift_sandhook_SandHook_unhookMethod
+        },
+        {
+                "restoreMethod",
+                "(Ljava/lang/reflect/Member;)Z",
+                (void *) Java_com_swift_sandhook_SandHook_restoreMethod
+        },
         {
                 "ensureMethodCached",
                 "(Ljava/lang/reflect/Method;Ljava/lang/reflect/Method;)V",
@@ -453,6 +718,16 @@ static JNINativeMethod jniSandHook[] = {
                 "(JJ)Ljava/lang/Object;",
                 (void *) Java_com_swift_sandhook_SandHook_getObjectNative
         },
+        {
+                "getObjectsNative",
+                "(J[JI[I[Ljava/lang/Object;[I)Ljava/lang/Object;",
+                (void *) Java_com_swift_sandhook_SandHook_getObjectsNative
+        },
+        {
+                "isNativeThreadSelf",
+                "(J)Z",
+                (void *) Java_com_swift_sandhook_SandHook_isNativeThreadSelf
+        },
         {
                 "canGetObject",
                 "()Z",
@@ -473,6 +748,11 @@ static JNINativeMethod jniSandHook[] = {
                 "(Z)V",
                 (void *) Java_com_swift_sandhook_SandHook_skipAllSafeCheck
         },
+        {
+                "setExecuteSpaceDualMap",
+                "(Z)V",
+                (void *) Java_com_swift_sandhook_SandHook_setExecuteSpaceDualMap
+        },
         {
                 "is64Bit",
                 "()Z",
@@ -5,6 +5,11 @@
 #include "../includes/trampoline.h"
 #include "../includes/inst.h"
 #include "../includes/log.h"
+#include <sys/syscall.h>
+
+#ifndef MFD_CLOEXEC
+#define MFD_CLOEXEC 0x0001U
+#endif
 
 extern int SDK_INT;
 #define SWITCH_SETX0 false
@@ -92,33 +97,207 @@ namespace SandHook {
         return (!visitor.pcRelated) && visitor.canSafeBackup;
     }
 
-    Code TrampolineManager::allocExecuteSpace(Size size) {
-        if (size > EXE_BLOCK_SIZE)
+    static thread_local ExecuteArena executeArena;
+
+    Code TrampolineManager::allocExecuteSpace(Size size, Size &writeOffset) {
+        if (size > EXE_ARENA_SIZE)
             return 0;
+        //keep pointers in trampolines aligned
+        size = (size + BYTE_POINT - 1) & ~(BYTE_POINT - 1);
+        if (freeExecuteSpaceCount.load(std::memory_order_relaxed) > 0) {
+            AutoLock autoLock(allocSpaceLock);
+            auto spaces = freeExecuteSpaces.find(size);
+            if (spaces != freeExecuteSpaces.end() && !spaces->second.empty()) {
+                FreeExecuteSpace space = spaces->second.front();
+                spaces->second.pop_front();
+                freeExecuteSpaceCount--;
+                writeOffset = space.writeOffset;
+                return space.start;
+            }
+        }
+        ExecuteArena &arena = executeArena;
+        if (arena.start == nullptr || arena.used + size > arena.size) {
+            if (!mapExecuteSpace(arena))
+                return 0;
+        }
+        Code space = arena.start + arena.used;
+        arena.used += size;
+        writeOffset = arena.writeOffset;
+        return space;
+    }
+
+    bool TrampolineManager::mapExecuteSpace(ExecuteArena &arena) {
+        if (!dualMapExecuteSpace) {
+            //anonymous pages are zero filled
+            void* mmapRes = mmap(NULL, EXE_ARENA_SIZE, PROT_READ | PROT_WRITE | PROT_EXEC,
+                                 MAP_ANON | MAP_PRIVATE, -1, 0);
+            if (mmapRes != MAP_FAILED) {
+                arena.start = static_cast<Code>(mmapRes);
+                arena.writeOffset = 0;
+            } else {
+                LOGW("rwx mapping refused, switch to dual mapped execute space");
+                dualMapExecuteSpace = true;
+            }
+        }
+        if (dualMapExecuteSpace && !mapDualExecuteSpace(arena)) {
+            LOGE("can not map execute space!");
+            return false;
+        }
+        arena.used = 0;
+        arena.size = EXE_ARENA_SIZE;
         AutoLock autoLock(allocSpaceLock);
-        void* mmapRes;
-        Code exeSpace = 0;
-        if (executeSpaceList.size() == 0) {
-            goto label_alloc_new_space;
-        } else if (executePageOffset + size > EXE_BLOCK_SIZE) {
-            goto label_alloc_new_space;
-        } else {
-            exeSpace = executeSpaceList.back();
-            Code retSpace = exeSpace + executePageOffset;
-            executePageOffset += size;
-            return retSpace;
+        executeSpaceList.push_back(arena.start);
+        return true;
+    }
+
+    void TrampolineManager::freeExecuteSpace(Trampoline *trampoline) {
+        if (trampoline == nullptr)
+            return;
+        Size size = (trampoline->getCodeLen() + BYTE_POINT - 1) & ~(BYTE_POINT - 1);
+        FreeExecuteSpace space;
+        space.start = trampoline->code;
+        space.writeOffset = trampoline->getWriteOffset();
+        AutoLock autoLock(allocSpaceLock);
+        freeExecuteSpaces[size].push_back(space);
+        freeExecuteSpaceCount++;
+    }
+
+    bool TrampolineManager::restoreInlineCode(mirror::ArtMethod *method) {
+        AutoLock autoLock(installLock);
+        auto it = trampolines.find(method);
+        if (it == trampolines.end())
+            return false;
+        HookTrampoline* hookTrampoline = it->second;
+        if (hookTrampoline->inlineEntry == nullptr)
+            return false;
+        Size entry = reinterpret_cast<Size>(hookTrampoline->inlineEntry);
+        if (!memUnprotect(entry, hookTrampoline->inlineOriginCodeLen)) {
+            LOGE("restore error due to can not write origin code!");
+            return false;
         }
-    label_alloc_new_space:
-        mmapRes = mmap(NULL, EXE_BLOCK_SIZE, PROT_READ | PROT_WRITE | PROT_EXEC,
-                             MAP_ANON | MAP_PRIVATE, -1, 0);
-        if (mmapRes == MAP_FAILED) {
-            return 0;
+        memcpy(hookTrampoline->inlineEntry, hookTrampoline->inlineOriginCode, hookTrampoline->inlineOriginCodeLen);
+        Trampoline::flushCache(entry, hookTrampoline->inlineOriginCodeLen);
+        //backup method calls the restored entry directly, no more through the copied origin code
+        CallOriginTrampoline* callOrigin = static_cast<CallOriginTrampoline*>(hookTrampoline->callOrigin);
+        if (callOrigin != nullptr) {
+            Code originCode = getEntryCode(method);
+            if (callOrigin->isThumbCode()) {
+                originCode = callOrigin->getThumbCodePcAddress(originCode);
+            }
+            callOrigin->setOriginCode(originCode);
+        }
+        return true;
+    }
+
+    void TrampolineManager::removeHookTrampoline(mirror::ArtMethod *method) {
+        AutoLock autoLock(installLock);
+        auto it = trampolines.find(method);
+        if (it == trampolines.end())
+            return;
+        HookTrampoline* hookTrampoline = it->second;
+        trampolines.erase(it);
+        //world is stopped, no thread runs in the trampolines
+        freeExecuteSpace(hookTrampoline->replacement);
+        freeExecuteSpace(hookTrampoline->inlineSecondory);
+        delete hookTrampoline->replacement;
+        delete hookTrampoline->inlineSecondory;
+        //execute space of inline jump is the origin entry
+        delete hookTrampoline->inlineJump;
+        delete hookTrampoline->callOrigin;
+        for (Trampoline* trampoline : hookTrampoline->retired) {
+            freeExecuteSpace(trampoline);
+            delete trampoline;
+        }
+        delete hookTrampoline;
+    }
+
+    bool TrampolineManager::retargetHookTrampoline(mirror::ArtMethod *originMethod,
+                                                   mirror::ArtMethod *hookMethod) {
+        AutoLock autoLock(installLock);
+        auto it = trampolines.find(originMethod);
+        if (it == trampolines.end())
+            return false;
+        HookTrampoline* hookTrampoline = it->second;
+        Size writeOffset;
+        if (hookTrampoline->replacement != nullptr) {
+            ReplacementHookTrampoline* replacementHookTrampoline = new ReplacementHookTrampoline();
+            replacementHookTrampoline->init();
+            Code space = allocExecuteSpace(replacementHookTrampoline->getCodeLen(), writeOffset);
+            if (space == 0) {
+                LOGE("retarget error due to can not alloc execute space!");
+                delete replacementHookTrampoline;
+                return false;
+            }
+            replacementHookTrampoline->setExecuteSpace(space, writeOffset);
+            replacementHookTrampoline->setEntryCodeOffset(quickCompileOffset);
+            replacementHookTrampoline->setHookMethod(reinterpret_cast<Code>(hookMethod));
+            //callers load the entry once, they run either the old hook or the new one
+            Code* entry = reinterpret_cast<Code*>((Size)originMethod + quickCompileOffset);
+            __atomic_store_n(entry, replacementHookTrampoline->getCode(), __ATOMIC_RELEASE);
+            hookTrampoline->retired.push_back(hookTrampoline->replacement);
+            hookTrampoline->replacement = replacementHookTrampoline;
+            return true;
+        }
+        InlineHookTrampoline* oldTrampoline = static_cast<InlineHookTrampoline*>(hookTrampoline->inlineSecondory);
+        if (oldTrampoline == nullptr || hookTrampoline->inlineEntry == nullptr)
+            return false;
+        //jump target of the patched entry, must be one aligned word to be swapped atomically
+        Size jumpTarget = reinterpret_cast<Size>(hookTrampoline->inlineEntry) + OFFSET_JUMP_ADDR_TARGET;
+        if (jumpTarget % BYTE_POINT != 0) {
+            LOGW("can not retarget inline hook, jump target is not aligned");
+            return false;
+        }
+        if (!memUnprotect(jumpTarget, BYTE_POINT)) {
+            LOGE("retarget error due to can not write origin code!");
+            return false;
+        }
+        InlineHookTrampoline* inlineHookTrampoline = new InlineHookTrampoline();
+        inlineHookTrampoline->setThumb(oldTrampoline->isThumbCode());
+        inlineHookTrampoline->init();
+        Code space = allocExecuteSpace(inlineHookTrampoline->getCodeLen(), writeOffset);
+        if (space == 0) {
+            LOGE("retarget error due to can not alloc execute space!");
+            delete inlineHookTrampoline;
+            return false;
+        }
+        inlineHookTrampoline->setExecuteSpace(space, writeOffset);
+        inlineHookTrampoline->setEntryCodeOffset(quickCompileOffset);
+        //origin method, backup of origin code & its fixes are the same
+        inlineHookTrampoline->codeCopy(oldTrampoline->code, 0, oldTrampoline->getCodeLen());
+        inlineHookTrampoline->setHookMethod(reinterpret_cast<Code>(hookMethod));
+        __atomic_store_n(reinterpret_cast<Code*>(jumpTarget), inlineHookTrampoline->getCode(), __ATOMIC_RELEASE);
+        //call origin still jumps to the origin code copied in the old one
+        hookTrampoline->retired.push_back(oldTrampoline);
+        hookTrampoline->inlineSecondory = inlineHookTrampoline;
+        return true;
+    }
+
+    bool TrampolineManager::mapDualExecuteSpace(ExecuteArena &arena) {
+        #if defined(__NR_memfd_create)
+        int fd = static_cast<int>(syscall(__NR_memfd_create, "sandhook-trampoline", MFD_CLOEXEC));
+        #else
+        int fd = -1;
+        #endif
+        if (fd < 0)
+            return false;
+        if (ftruncate(fd, EXE_ARENA_SIZE) != 0) {
+            close(fd);
+            return false;
+        }
+        void* rx = mmap(NULL, EXE_ARENA_SIZE, PROT_READ | PROT_EXEC, MAP_SHARED, fd, 0);
+        void* rw = mmap(NULL, EXE_ARENA_SIZE, PROT_READ | PROT_WRITE, MAP_SHARED, fd, 0);
+        //the mappings keep the memory
+        close(fd);
+        if (rx == MAP_FAILED || rw == MAP_FAILED) {
+            if (rx != MAP_FAILED)
+                munmap(rx, EXE_ARENA_SIZE);
+            if (rw != MAP_FAILED)
+                munmap(rw, EXE_ARENA_SIZE);
+            return false;
         }
-        memset(mmapRes, 0, EXE_BLOCK_SIZE);
-        exeSpace = static_cast<Code>(mmapRes);
-        executeSpaceList.push_back(exeSpace);
-        executePageOffset = size;
-        return exeSpace;
+        arena.start = static_cast<Code>(rx);
+        arena.writeOffset = reinterpret_cast<Size>(rw) - reinterpret_cast<Size>(rx);
+        return true;
     }
 
     HookTrampoline* TrampolineManager::installReplacementTrampoline(mirror::ArtMethod *originMethod,
@@ -133,15 +312,16 @@ namespace SandHook {
         CallOriginTrampoline* callOriginTrampoline = nullptr;
         Code replacementHookTrampolineSpace;
         Code callOriginTrampolineSpace;
+        Size writeOffset;
 
         replacementHookTrampoline = new ReplacementHookTrampoline();
         replacementHookTrampoline->init();
-        replacementHookTrampolineSpace = allocExecuteSpace(replacementHookTrampoline->getCodeLen());
+        replacementHookTrampolineSpace = allocExecuteSpace(replacementHookTrampoline->getCodeLen(), writeOffset);
         if (replacementHookTrampolineSpace == 0) {
             LOGE("hook error due to can not alloc execute space!");
             goto label_error;
         }
-        replacementHookTrampoline->setExecuteSpace(replacementHookTrampolineSpace);
+        replacementHookTrampoline->setExecuteSpace(replacementHookTrampolineSpace, writeOffset);
         replacementHookTrampoline->setEntryCodeOffset(quickCompileOffset);
         replacementHookTrampoline->setHookMethod(reinterpret_cast<Code>(hookMethod));
         hookTrampoline->replacement = replacementHookTrampoline;
@@ -151,10 +331,10 @@ namespace SandHook {
             callOriginTrampoline = new CallOriginTrampoline();
             checkThumbCode(callOriginTrampoline, getEntryCode(originMethod));
             callOriginTrampoline->init();
-            callOriginTrampolineSpace = allocExecuteSpace(callOriginTrampoline->getCodeLen());
+            callOriginTrampolineSpace = allocExecuteSpace(callOriginTrampoline->getCodeLen(), writeOffset);
             if (callOriginTrampolineSpace == 0)
                 goto label_error;
-            callOriginTrampoline->setExecuteSpace(callOriginTrampolineSpace);
+            callOriginTrampoline->setExecuteSpace(callOriginTrampolineSpace, writeOffset);
             callOriginTrampoline->setOriginMethod(reinterpret_cast<Code>(originMethod));
             Code originCode = getEntryCode(originMethod);
             if (callOriginTrampoline->isThumbCode()) {
@@ -189,6 +369,7 @@ namespace SandHook {
         CallOriginTrampoline* callOriginTrampoline = nullptr;
         Code inlineHookTrampolineSpace;
         Code callOriginTrampolineSpace;
+        Size writeOffset;
         Code originEntry;
         Size sizeNeedBackup = SIZE_DIRECT_JUMP_TRAMPOLINE;
         InstSizeNeedBackupVisitor instVisitor;
@@ -200,12 +381,12 @@ namespace SandHook {
         inlineHookTrampoline = new InlineHookTrampoline();
         checkThumbCode(inlineHookTrampoline, getEntryCode(originMethod));
         inlineHookTrampoline->init();
-        inlineHookTrampolineSpace = allocExecuteSpace(inlineHookTrampoline->getCodeLen());
+        inlineHookTrampolineSpace = allocExecuteSpace(inlineHookTrampoline->getCodeLen(), writeOffset);
         if (inlineHookTrampolineSpace == 0) {
             LOGE("hook error due to can not alloc execute space!");
             goto label_error;
         }
-        inlineHookTrampoline->setExecuteSpace(inlineHookTrampolineSpace);
+        inlineHookTrampoline->setExecuteSpace(inlineHookTrampolineSpace, writeOffset);
         inlineHookTrampoline->setEntryCodeOffset(quickCompileOffset);
         inlineHookTrampoline->setOriginMethod(reinterpret_cast<Code>(originMethod));
         inlineHookTrampoline->setHookMethod(reinterpret_cast<Code>(hookMethod));
@@ -230,6 +411,9 @@ namespace SandHook {
             originEntry = directJumpTrampoline->getThumbCodeAddress(originEntry);
         }
 
+        hookTrampoline->inlineEntry = originEntry;
+        hookTrampoline->inlineOriginCodeLen = directJumpTrampoline->getCodeLen();
+        memcpy(hookTrampoline->inlineOriginCode, originEntry, hookTrampoline->inlineOriginCodeLen);
         directJumpTrampoline->setExecuteSpace(originEntry);
         directJumpTrampoline->setJumpTarget(inlineHookTrampoline->getCode());
         hookTrampoline->inlineJump = directJumpTrampoline;
@@ -239,12 +423,12 @@ namespace SandHook {
             callOriginTrampoline = new CallOriginTrampoline();
             checkThumbCode(callOriginTrampoline, getEntryCode(originMethod));
             callOriginTrampoline->init();
-            callOriginTrampolineSpace = allocExecuteSpace(callOriginTrampoline->getCodeLen());
+            callOriginTrampolineSpace = allocExecuteSpace(callOriginTrampoline->getCodeLen(), writeOffset);
             if (callOriginTrampolineSpace == 0) {
 
                 goto label_error;
             }
-            callOriginTrampoline->setExecuteSpace(callOriginTrampolineSpace);
+            callOriginTrampoline->setExecuteSpace(callOriginTrampolineSpace, writeOffset);
             callOriginTrampoline->setOriginMethod(reinterpret_cast<Code>(originMethod));
             Code originCode = nullptr;
             if (callOriginTrampoline->isThumbCode()) {
@@ -0,0 +1,124 @@
+package com.swift.sandhook;
+
+import android.os.Build;
+
+import com.swift.sandhook.lib.BuildConfig;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * ArtMethod layout probed by native init, saved per rom build, library version & abi,
+ * so the next process skips the offset scans & the reflection they need
+ */
+public class ArtLayoutCache {
+
+    //bump when native probes or the layout array change
+    private final static int PROBE_VERSION = 1;
+    private final static int MAGIC = 0x53484c59;
+    private final static String FILE_NAME = "sandhook_art_layout";
+    //size & member offsets, must match native
+    private final static int LAYOUT_LEN = 9;
+    //libs of one art module or system image are updated together, the first found one stands for all
+    private final static String[] LIBART_PATHS = {
+            "/apex/com.android.art/lib64/libart.so",
+            "/apex/com.android.art/lib/libart.so",
+            "/apex/com.android.runtime/lib64/libart.so",
+            "/apex/com.android.runtime/lib/libart.so",
+            "/system/lib64/libart.so",
+            "/system/lib/libart.so"
+    };
+
+    public static long[] load() {
+        File file = getFile();
+        if (file == null || !file.exists())
+            return null;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != MAGIC || !getKey().equals(in.readUTF()))
+                return null;
+            int len = in.readInt();
+            if (len != LAYOUT_LEN)
+                return null;
+            long[] layout = new long[len];
+            for (int i = 0; i < len; i++) {
+                layout[i] = in.readLong();
+            }
+            if (in.readLong() != checksum(layout))
+                return null;
+            return layout;
+        } catch (Throwable throwable) {
+            return null;
+        }
+    }
+
+    //layout in use, saved if it is not the loaded one
+    public static void save(long[] loaded, long[] layout) {
+        if (layout == null || layout.length != LAYOUT_LEN || Arrays.equals(loaded, layout))
+            return;
+        File file = getFile();
+        if (file == null)
+            return;
+        File tmpFile = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tmpFile))) {
+            out.writeInt(MAGIC);
+            out.writeUTF(getKey());
+            out.writeInt(layout.length);
+            for (long value : layout) {
+                out.writeLong(value);
+            }
+            out.writeLong(checksum(layout));
+        } catch (Throwable throwable) {
+            tmpFile.delete();
+            return;
+        }
+        if (!tmpFile.renameTo(file)) {
+            tmpFile.delete();
+        }
+    }
+
+    private static String getKey() {
+        return Build.FINGERPRINT + "|" + BuildConfig.VERSION_NAME + "-" + BuildConfig.VERSION_CODE + "-" + PROBE_VERSION
+                + "|" + System.getProperty("os.arch") + "|" + SandHookConfig.SDK_INT + "|" + getArtIdentity();
+    }
+
+    //art of a mainline module is updated without a new fingerprint
+    private static String getArtIdentity() {
+        for (String path : LIBART_PATHS) {
+            File file = new File(path);
+            long lastModified = file.lastModified();
+            if (lastModified != 0)
+                return path + ":" + file.length() + ":" + lastModified;
+        }
+        return "";
+    }
+
+    private static long checksum(long[] layout) {
+        CRC32 crc32 = new CRC32();
+        for (long value : layout) {
+            for (int i = 0; i < 8; i++) {
+                crc32.update((int) (value >>> (i * 8)));
+            }
+        }
+        return crc32.getValue();
+    }
+
+    private static File getFile() {
+        File dir = SandHookConfig.artLayoutCacheDir;
+        if (dir == null) {
+            //app cache dir once the app is bound
+            String tmpDir = System.getProperty("java.io.tmpdir");
+            if (tmpDir == null)
+                return null;
+            dir = new File(tmpDir);
+        }
+        if (!dir.isDirectory() || !dir.canWrite())
+            return null;
+        return new File(dir, FILE_NAME);
+    }
+
+}
@@ -2,6 +2,8 @@ package com.swift.sandhook;
 
 import android.util.Log;
 
+import com.swift.sandhook.utils.AsyncLogger;
+
 
 public class HookLog {
 
@@ -10,27 +12,27 @@ public class HookLog {
     public static boolean DEBUG = SandHookConfig.DEBUG;
 
     public static int v(String s) {
-        return Log.v(TAG, s);
+        return AsyncLogger.println(Log.VERBOSE, TAG, s);
     }
 
     public static int i(String s) {
-        return Log.i(TAG, s);
+        return AsyncLogger.println(Log.INFO, TAG, s);
     }
 
     public static int d(String s) {
-        return Log.d(TAG, s);
+        return AsyncLogger.println(Log.DEBUG, TAG, s);
     }
 
     public static int w(String s) {
-        return Log.w(TAG, s);
+        return AsyncLogger.println(Log.WARN, TAG, s);
     }
 
     public static int e(String s) {
-        return Log.e(TAG, s);
+        return AsyncLogger.println(Log.ERROR, TAG, s);
     }
 
     public static int e(String s, Throwable t) {
-        return Log.e(TAG, s, t);
+        return AsyncLogger.println(Log.ERROR, TAG, s, t);
     }
 
 
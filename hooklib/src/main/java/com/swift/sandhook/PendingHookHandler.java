@@ -3,6 +3,7 @@ package com.swift.sandhook;
 import com.swift.sandhook.wrapper.HookErrorException;
 import com.swift.sandhook.wrapper.HookWrapper;
 
+import java.lang.reflect.Member;
 import java.util.Map;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,6 +36,19 @@ public class PendingHookHandler {
         entities.add(hookEntity);
     }
 
+    //drop a hook not done yet, true if there was one
+    public static synchronized boolean removePendingHook(Member target) {
+        Vector<HookWrapper.HookEntity> entities = pendingHooks.get(target.getDeclaringClass());
+        if (entities == null)
+            return false;
+        for (HookWrapper.HookEntity entity:entities) {
+            if (entity.target.equals(target)) {
+                return entities.remove(entity);
+            }
+        }
+        return false;
+    }
+
     public static void onClassInit(long clazz_ptr) {
         if (clazz_ptr == 0)
             return;
@@ -12,11 +12,14 @@ import com.swift.sandhook.wrapper.HookErrorException;
 import com.swift.sandhook.wrapper.HookWrapper;
 
 import java.io.File;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -44,6 +47,8 @@ public class SandHook {
     public static Object testOffsetArtMethod2;
 
     public static int testAccessFlag;
+    //native thread self is the peer of java thread, no reflection to decode objects
+    private static boolean nativeThreadSelf;
 
     static {
         SandHookConfig.libLoader.loadLib();
@@ -54,7 +59,15 @@ public class SandHook {
         initTestOffset();
         initThreadPeer();
         SandHookMethodResolver.init();
-        return initNative(SandHookConfig.SDK_INT, SandHookConfig.DEBUG);
+        boolean cacheLayout = SandHookConfig.cacheArtLayout;
+        long[] layout = cacheLayout ? ArtLayoutCache.load() : null;
+        boolean res = initNative(SandHookConfig.SDK_INT, SandHookConfig.DEBUG, layout);
+        long threadSelf = getThreadId();
+        nativeThreadSelf = threadSelf != 0 && isNativeThreadSelf(threadSelf);
+        if (cacheLayout) {
+            ArtLayoutCache.save(layout, getArtMethodLayout());
+        }
+        return res;
     }
 
     private static void initThreadPeer() {
@@ -75,6 +88,84 @@ public class SandHook {
 
     public static synchronized void hook(HookWrapper.HookEntity entity) throws HookErrorException {
 
+        if (!prepareHook(entity))
+            return;
+
+        int res = hookMethod(entity.target, entity.hook, entity.backup, getHookMode(entity));
+
+        finishHook(entity, res);
+    }
+
+    /**
+     * hook entities by one native call, which suspends other threads only once
+     * @return hook mode of each entity, 0 if it is pending, -1 if failed
+     */
+    public static int[] hook(List<HookWrapper.HookEntity> entities) {
+        return hook(entities, null);
+    }
+
+    /**
+     * @param errors if not null, gets the exception of each failed entity at its index
+     */
+    public static synchronized int[] hook(List<HookWrapper.HookEntity> entities, HookErrorException[] errors) {
+        int[] results = new int[entities.size()];
+        List<HookWrapper.HookEntity> prepared = new ArrayList<>(entities.size());
+        List<Integer> preparedIndexes = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            HookWrapper.HookEntity entity = entities.get(i);
+            try {
+                if (prepareHook(entity)) {
+                    prepared.add(entity);
+                    preparedIndexes.add(i);
+                } else {
+                    results[i] = 0;
+                }
+            } catch (HookErrorException e) {
+                HookLog.e("hook method <" + (entity == null ? null : entity.target) + "> error", e);
+                results[i] = -1;
+                if (errors != null) {
+                    errors[i] = e;
+                }
+            }
+        }
+
+        int count = prepared.size();
+        if (count == 0)
+            return results;
+
+        Member[] targets = new Member[count];
+        Method[] hooks = new Method[count];
+        Method[] backups = new Method[count];
+        int[] modes = new int[count];
+        for (int i = 0; i < count; i++) {
+            HookWrapper.HookEntity entity = prepared.get(i);
+            targets[i] = entity.target;
+            hooks[i] = entity.hook;
+            backups[i] = entity.backup;
+            modes[i] = getHookMode(entity);
+        }
+
+        int[] res = hookMethods(targets, hooks, backups, modes);
+
+        for (int i = 0; i < count; i++) {
+            HookWrapper.HookEntity entity = prepared.get(i);
+            int index = preparedIndexes.get(i);
+            results[index] = res == null ? -1 : res[i];
+            try {
+                finishHook(entity, results[index]);
+            } catch (HookErrorException e) {
+                HookLog.e("hook method <" + entity.target + "> error", e);
+                if (errors != null) {
+                    errors[index] = e;
+                }
+            }
+        }
+        return results;
+    }
+
+    //check & resolve before native hook, false if the hook is pending
+    private static boolean prepareHook(HookWrapper.HookEntity entity) throws HookErrorException {
+
         if (entity == null)
             throw new HookErrorException("null hook entity");
 
@@ -94,7 +185,7 @@ public class SandHook {
 
         if (SandHookConfig.delayHook && PendingHookHandler.canWork() && ClassStatusUtils.isStaticAndNoInited(entity.target)) {
             PendingHookHandler.addPendingHook(entity);
-            return;
+            return false;
         } else if (entity.initClass) {
             resolveStaticMethod(target);
         }
@@ -108,23 +199,27 @@ public class SandHook {
             ((Method)target).setAccessible(true);
         }
 
+        globalHookEntityMap.put(entity.target, entity);
+        return true;
+    }
+
+    private static int getHookMode(HookWrapper.HookEntity entity) {
         int mode = HookMode.AUTO;
         if (hookModeCallBack != null) {
-            mode = hookModeCallBack.hookMode(target);
+            mode = hookModeCallBack.hookMode(entity.target);
         }
-
-        globalHookEntityMap.put(entity.target, entity);
-
-        int res;
         if (mode != HookMode.AUTO) {
-            res = hookMethod(target, hook, backup, mode);
+            return mode;
         } else {
-            HookMode hookMode = hook.getAnnotation(HookMode.class);
-            res = hookMethod(target, hook, backup, hookMode == null ? HookMode.AUTO : hookMode.value());
+            HookMode hookMode = entity.hook.getAnnotation(HookMode.class);
+            return hookMode == null ? HookMode.AUTO : hookMode.value();
         }
+    }
+
+    private static void finishHook(HookWrapper.HookEntity entity, int res) throws HookErrorException {
 
-        if (res > 0 && backup != null) {
-            backup.setAccessible(true);
+        if (res > 0 && entity.backup != null) {
+            entity.backup.setAccessible(true);
         }
 
         entity.hookMode = res;
@@ -145,18 +240,87 @@ public class SandHook {
         HookLog.d("method <" + entity.target.toString() + "> hook <" + (res == HookMode.INLINE ? "inline" : "replacement") + "> success!");
     }
 
+    //restore origin entry of a replacement hook, inline hooks can not be restored
+    public static synchronized boolean restore(Member target) {
+        if (target == null)
+            return false;
+        HookWrapper.HookEntity entity = globalHookEntityMap.get(target);
+        if (entity == null || entity.hookMode != HookMode.REPLACE)
+            return false;
+        if (!restoreMethod(target))
+            return false;
+        globalHookEntityMap.remove(target);
+        if (entity.backup != null) {
+            globalBackupMap.remove(entity.backup);
+        }
+        HookLog.d("method <" + target.toString() + "> restore success!");
+        return true;
+    }
+
+    /**
+     * point an installed hook to another hook method, the backup & the trampoline stay,
+     * other threads are not suspended, calls in flight finish in the old hook
+     */
+    public static synchronized void swapHook(Member target, Method hook) throws HookErrorException {
+        if (target == null || hook == null)
+            throw new HookErrorException("null input");
+        HookWrapper.HookEntity entity = globalHookEntityMap.get(target);
+        if (entity == null || entity.hookMode <= 0)
+            throw new HookErrorException("method <" + target.toString() + "> is not hooked!");
+        if (entity.hook == hook)
+            return;
+        Class[] pars = target instanceof Method ? ((Method) target).getParameterTypes() : ((Constructor) target).getParameterTypes();
+        HookWrapper.checkSignature(target, hook, pars);
+        Method backup = entity.backup;
+        if (backup != null && entity.resolveDexCache) {
+            SandHookMethodResolver.resolveMethod(hook, backup);
+        }
+        if (!swapHookMethod(target, hook))
+            throw new HookErrorException("swap hook of method <" + target.toString() + "> error in native!");
+        entity.hook = hook;
+        HookLog.d("method <" + target.toString() + "> swap hook to <" + hook.toString() + "> success!");
+    }
+
+    //remove a replacement or inline hook, origin runs as if it was never hooked,
+    //trampolines are reclaimed, the backup still calls origin
+    public static synchronized boolean unhook(Member target) {
+        if (target == null)
+            return false;
+        HookWrapper.HookEntity entity = globalHookEntityMap.get(target);
+        if (entity == null)
+            return PendingHookHandler.removePendingHook(target);
+        if (!unhookMethod(target))
+            return false;
+        globalHookEntityMap.remove(target);
+        if (entity.backup != null) {
+            globalBackupMap.remove(entity.backup);
+        }
+        HookLog.d("method <" + target.toString() + "> unhook <" + (entity.hookMode == HookMode.INLINE ? "inline" : "replacement") + "> success!");
+        return true;
+    }
+
     public final static Object callOriginMethod(Member originMethod, Object thiz, Object... args) throws Throwable {
         HookWrapper.HookEntity hookEntity = globalHookEntityMap.get(originMethod);
         if (hookEntity == null || hookEntity.backup == null)
             return null;
-        return callOriginMethod(hookEntity.backupIsStub, originMethod, hookEntity.backup, thiz, args);
+        return callOriginMethod(hookEntity, thiz, args);
     }
 
     public final static Object callOriginByBackup(Method backupMethod, Object thiz, Object... args) throws Throwable {
         HookWrapper.HookEntity hookEntity = globalBackupMap.get(backupMethod);
         if (hookEntity == null)
             return null;
-        return callOriginMethod(hookEntity.backupIsStub, hookEntity.target, backupMethod, thiz, args);
+        return callOriginMethod(hookEntity, thiz, args);
+    }
+
+    //invoker of backup is bound once
+    public final static Object callOriginMethod(HookWrapper.HookEntity hookEntity, Object thiz, Object[] args) throws Throwable {
+        if (!hookEntity.backupIsStub && SandHookConfig.SDK_INT >= Build.VERSION_CODES.N) {
+            //holder in stack to avoid moving gc
+            Class originClassHolder = hookEntity.target.getDeclaringClass();
+            ensureDeclareClass(hookEntity);
+        }
+        return hookEntity.getInvoker().invoke(thiz, args);
     }
 
     public final static Object callOriginMethod(Member originMethod, Method backupMethod, Object thiz, Object[] args) throws Throwable {
@@ -168,7 +332,12 @@ public class SandHook {
         if (!backupIsStub && SandHookConfig.SDK_INT >= Build.VERSION_CODES.N) {
             //holder in stack to avoid moving gc
             Class originClassHolder = originMethod.getDeclaringClass();
-            ensureDeclareClass(originMethod, backupMethod);
+            HookWrapper.HookEntity hookEntity = globalBackupMap.get(backupMethod);
+            if (hookEntity != null) {
+                ensureDeclareClass(hookEntity);
+            } else {
+                ensureDeclareClass(originMethod, backupMethod);
+            }
         }
         if (Modifier.isStatic(originMethod.getModifiers())) {
             try {
@@ -198,10 +367,15 @@ public class SandHook {
             return;
         HookWrapper.HookEntity entity = globalBackupMap.get(backupMethod);
         if (entity != null) {
-            ensureDeclareClass(entity.target, backupMethod);
+            ensureDeclareClass(entity);
         }
     }
 
+    //checked on each call, a moving gc may move the class of origin at any suspend point
+    private static void ensureDeclareClass(HookWrapper.HookEntity entity) {
+        ensureDeclareClass(entity.target, entity.backup);
+    }
+
     public static boolean resolveStaticMethod(Member method) {
         //ignore result, just call to trigger resolve
         if (method == null)
@@ -232,8 +406,18 @@ public class SandHook {
         if (address == 0) {
             return null;
         }
-        long threadSelf = getThreadId();
-        return getObjectNative(threadSelf, address);
+        return getObjectNative(getObjectThread(), address);
+    }
+
+    //objects at addresses[addressIndexes[i]] are put to out[outIndexes[i]] in one jni call,
+    //returns object at addresses[thisIndex], null if thisIndex < 0
+    public static Object getObjects(long[] addresses, int thisIndex, int[] addressIndexes, Object[] out, int[] outIndexes) {
+        return getObjectsNative(getObjectThread(), addresses, thisIndex, addressIndexes, out, outIndexes);
+    }
+
+    //0 if native can find the current art thread by itself
+    private static long getObjectThread() {
+        return nativeThreadSelf ? 0 : getThreadId();
     }
 
     public static boolean canGetObjectAddress() {
@@ -255,7 +439,12 @@ public class SandHook {
         } catch (NoSuchMethodException e) {
             throw new RuntimeException("SandHook init error", e);
         }
+    }
+
+    //only the access flag probe of native init needs it, a cached layout skips the probe
+    private static long getTestAccessFlag() {
         initTestAccessFlag();
+        return testAccessFlag;
     }
 
     private static void initTestAccessFlag() {
@@ -374,15 +563,24 @@ public class SandHook {
         }
     }
 
-    private static native boolean initNative(int sdk, boolean debug);
+    //layout: ArtMethod layout of a former process, null or invalid to probe again
+    private static native boolean initNative(int sdk, boolean debug, long[] layout);
+    private static native long[] getArtMethodLayout();
 
     public static native void setHookMode(int hookMode);
 
     //default on!
     public static native void setInlineSafeCheck(boolean check);
     public static native void skipAllSafeCheck(boolean skip);
+    //write trampolines through a rw alias & run them from a rx alias, no rwx pages, auto on if rwx is refused
+    public static native void setExecuteSpaceDualMap(boolean dualMap);
 
     private static native int hookMethod(Member originMethod, Method hookMethod, Method backupMethod, int hookMode);
+    private static native int[] hookMethods(Member[] originMethods, Method[] hookMethods, Method[] backupMethods, int[] hookModes);
+
+    private static native boolean restoreMethod(Member originMethod);
+    private static native boolean unhookMethod(Member originMethod);
+    private static native boolean swapHookMethod(Member originMethod, Method hookMethod);
 
     public static native void ensureMethodCached(Method hook, Method backup);
     public static native void ensureDeclareClass(Member origin, Method backup);
@@ -392,6 +590,8 @@ public class SandHook {
 
     public static native boolean canGetObject();
     public static native Object getObjectNative(long thread, long address);
+    private static native Object getObjectsNative(long thread, long[] addresses, int thisIndex, int[] addressIndexes, Object[] out, int[] outIndexes);
+    private static native boolean isNativeThreadSelf(long thread);
 
     public static native boolean is64Bit();
 
@@ -4,6 +4,9 @@ import android.annotation.SuppressLint;
 import android.os.Build;
 
 import com.swift.sandhook.lib.BuildConfig;
+import com.swift.sandhook.wrapper.BackupInvoker;
+
+import java.io.File;
 
 public class SandHookConfig {
 
@@ -15,6 +18,15 @@ public class SandHookConfig {
     public volatile static ClassLoader initClassLoader;
     public volatile static int curUser = 0;
     public volatile static boolean delayHook = true;
+    //print logs in a background thread, hooked methods never wait for logcat, in place while in zygote
+    public volatile static boolean asyncLog = true;
+    //max logs per second about one hooked member, the rest are counted & dropped
+    public volatile static int logRateLimit = 32;
+    //save probed ArtMethod layout to artLayoutCacheDir (app cache dir if null), later processes skip the probes
+    public volatile static boolean cacheArtLayout = true;
+    public volatile static File artLayoutCacheDir;
+    //binds typed invokers of backups for callOrigin, reflection is used if null or it returns null
+    public volatile static BackupInvoker.Factory backupInvokerFactory;
 
     public volatile static String libSandHookPath;
     public volatile static LibLoader libLoader = new LibLoader() {
@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * @author Lody
@@ -71,7 +72,15 @@ public class ArtDexOptimizer {
     }
 
     private static class StreamConsumer {
-        static final Executor STREAM_CONSUMER = Executors.newSingleThreadExecutor();
+        //dex2oat processes may run at the same time, one thread for each stream
+        static final Executor STREAM_CONSUMER = Executors.newCachedThreadPool(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "SandHook-Dex2oatStream");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
 
         static void consumeInputStream(final InputStream is) {
             STREAM_CONSUMER.execute(new Runnable() {
@@ -0,0 +1,283 @@
+package com.swift.sandhook.utils;
+
+import android.os.Process;
+import android.util.Log;
+
+import com.swift.sandhook.SandHookConfig;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * logs are put in a bounded lock free ring & printed by one background thread,
+ * stack traces are formatted there, identical logs are merged with a counter
+ * and logs of one key (hooked member) are rate limited before they are queued,
+ * zygote can not fork with extra threads, logs are printed in place until forked
+ */
+public class AsyncLogger {
+
+    //slots of the ring, must be power of 2
+    private final static int CAPACITY = 1024;
+    private final static int MASK = CAPACITY - 1;
+    //identical logs in one window are printed once, then with a repeat count
+    private final static long DEDUP_WINDOW_MS = 5000;
+    private final static int MAX_DEDUP_ENTRIES = 256;
+    private final static long RATE_WINDOW_MS = 1000;
+    //rate limits of keys which logged nothing for so long are dropped
+    private final static long RATE_IDLE_MS = 60 * 1000;
+
+    private final static AtomicReferenceArray<Record> slots = new AtomicReferenceArray<>(CAPACITY);
+    //vacant slot i waits for position i (mod CAPACITY), published slot holds position + 1
+    private final static AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+    private final static AtomicLong tail = new AtomicLong();
+    //only used by the drain thread
+    private static long head;
+
+    private final static AtomicLong dropped = new AtomicLong();
+    private final static ConcurrentHashMap<Object, RateLimit> rateLimits = new ConcurrentHashMap<>();
+
+    private static volatile Thread drainThread;
+    private static volatile boolean parked;
+    private static volatile boolean forked;
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public static int println(int priority, String tag, String msg) {
+        return println(priority, tag, null, msg, null);
+    }
+
+    public static int println(int priority, String tag, String msg, Throwable throwable) {
+        return println(priority, tag, null, msg, throwable);
+    }
+
+    //key is usually the hooked member the log is about, null for no rate limit
+    public static int println(int priority, String tag, Object key, String msg, Throwable throwable) {
+        if (key != null && !acquire(key)) {
+            return 0;
+        }
+        if (!SandHookConfig.asyncLog || (drainThread == null && !isForked())) {
+            return Log.println(priority, tag, format(msg, throwable));
+        }
+        if (!offer(new Record(priority, tag, msg, throwable))) {
+            dropped.incrementAndGet();
+            return 0;
+        }
+        Thread thread = drainThread;
+        if (thread == null) {
+            startDrainThread();
+        } else if (parked) {
+            LockSupport.unpark(thread);
+        }
+        return msg == null ? 0 : msg.length();
+    }
+
+    private static boolean acquire(Object key) {
+        RateLimit rateLimit = rateLimits.get(key);
+        if (rateLimit == null) {
+            RateLimit newLimit = new RateLimit();
+            rateLimit = rateLimits.putIfAbsent(key, newLimit);
+            if (rateLimit == null) {
+                rateLimit = newLimit;
+            }
+        }
+        return rateLimit.acquire(System.currentTimeMillis(), SandHookConfig.logRateLimit);
+    }
+
+    private static boolean offer(Record record) {
+        for (;;) {
+            long pos = tail.get();
+            int index = (int) (pos & MASK);
+            long seq = sequences.get(index);
+            if (seq == pos) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots.lazySet(index, record);
+                    //volatile write, so the parked check after it can not be reordered before it
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+            } else if (seq < pos) {
+                //full, drain thread is a whole ring behind
+                return false;
+            }
+        }
+    }
+
+    private static Record poll() {
+        int index = (int) (head & MASK);
+        if (sequences.get(index) != head + 1)
+            return null;
+        Record record = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.set(index, head + CAPACITY);
+        head++;
+        return record;
+    }
+
+    private static boolean isEmpty() {
+        return sequences.get((int) (head & MASK)) != head + 1;
+    }
+
+    //zygote runs as root, forked processes switch to their own uid before any java code runs
+    private static boolean isForked() {
+        if (!forked && Process.myUid() != 0) {
+            forked = true;
+        }
+        return forked;
+    }
+
+    //for hosts running as root out of zygote, or to drain before the first log, call after fork
+    public static void start() {
+        forked = true;
+        startDrainThread();
+    }
+
+    private static synchronized void startDrainThread() {
+        if (drainThread != null)
+            return;
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                drain();
+            }
+        }, "SandHook-Log");
+        thread.setDaemon(true);
+        thread.start();
+        drainThread = thread;
+    }
+
+    private static void drain() {
+        Map<String, Repeat> repeats = new HashMap<>();
+        long windowStart = System.currentTimeMillis();
+        for (;;) {
+            Record record;
+            while ((record = poll()) != null) {
+                print(record, repeats);
+            }
+            long now = System.currentTimeMillis();
+            if (now - windowStart >= DEDUP_WINDOW_MS) {
+                flushRepeats(repeats);
+                reportSuppressed(now);
+                windowStart = now;
+            }
+            parked = true;
+            if (isEmpty()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(DEDUP_WINDOW_MS));
+            }
+            parked = false;
+        }
+    }
+
+    private static void print(Record record, Map<String, Repeat> repeats) {
+        String text = format(record.msg, record.throwable);
+        String key = record.priority + record.tag + '\0' + text;
+        Repeat repeat = repeats.get(key);
+        if (repeat != null) {
+            repeat.count++;
+            return;
+        }
+        if (repeats.size() >= MAX_DEDUP_ENTRIES) {
+            flushRepeats(repeats);
+        }
+        repeats.put(key, new Repeat(record.priority, record.tag, text));
+        Log.println(record.priority, record.tag, text);
+    }
+
+    private static void flushRepeats(Map<String, Repeat> repeats) {
+        for (Repeat repeat : repeats.values()) {
+            if (repeat.count > 0) {
+                Log.println(repeat.priority, repeat.tag, "last log repeated " + repeat.count + " times: " + firstLine(repeat.text));
+            }
+        }
+        repeats.clear();
+    }
+
+    private static void reportSuppressed(long now) {
+        long droppedCount = dropped.getAndSet(0);
+        if (droppedCount > 0) {
+            Log.w("SandHook", "log queue full, dropped " + droppedCount + " logs");
+        }
+        Iterator<Map.Entry<Object, RateLimit>> iterator = rateLimits.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, RateLimit> entry = iterator.next();
+            RateLimit rateLimit = entry.getValue();
+            int suppressed = rateLimit.suppressed.getAndSet(0);
+            if (suppressed > 0) {
+                Log.w("SandHook", "rate limited, dropped " + suppressed + " logs of <" + entry.getKey() + ">");
+            } else if (now - rateLimit.windowStart > RATE_IDLE_MS) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static String format(String msg, Throwable throwable) {
+        if (throwable == null)
+            return msg == null ? "" : msg;
+        String trace = Log.getStackTraceString(throwable);
+        return msg == null ? trace : msg + '\n' + trace;
+    }
+
+    private static String firstLine(String text) {
+        int end = text.indexOf('\n');
+        return end < 0 ? text : text.substring(0, end);
+    }
+
+    static class Record {
+        final int priority;
+        final String tag;
+        final String msg;
+        final Throwable throwable;
+
+        Record(int priority, String tag, String msg, Throwable throwable) {
+            this.priority = priority;
+            this.tag = tag;
+            this.msg = msg;
+            this.throwable = throwable;
+        }
+    }
+
+    static class Repeat {
+        final int priority;
+        final String tag;
+        final String text;
+        int count;
+
+        Repeat(int priority, String tag, String text) {
+            this.priority = priority;
+            this.tag = tag;
+            this.text = text;
+        }
+    }
+
+    static class RateLimit {
+        volatile long windowStart;
+        final AtomicInteger count = new AtomicInteger();
+        final AtomicInteger suppressed = new AtomicInteger();
+
+        //racy window reset may let a few more logs pass, never blocks
+        boolean acquire(long now, int limit) {
+            if (limit <= 0)
+                return true;
+            if (now - windowStart >= RATE_WINDOW_MS) {
+                windowStart = now;
+                count.set(0);
+            }
+            if (count.incrementAndGet() <= limit)
+                return true;
+            suppressed.incrementAndGet();
+            return false;
+        }
+    }
+
+}
@@ -10,14 +10,19 @@ public class ParamWrapper {
         is64Bit = SandHook.is64Bit();
     }
 
+    //64bits float & double are passed in fp registers, only stubs which carry fp registers can take them
     public static boolean support(Class objectType) {
         if (is64Bit) {
-            return objectType != float.class && objectType != double.class;
+            return true;
         } else {
             return objectType != float.class && objectType != double.class && objectType != long.class;
         }
     }
 
+    public static boolean isFloatingPoint(Class objectType) {
+        return objectType == float.class || objectType == double.class;
+    }
+
     public static Object addressToObject(Class objectType, long address) {
         if (is64Bit) {
             return addressToObject64(objectType, address);
@@ -42,6 +47,10 @@ public class ParamWrapper {
                 return (char)address;
             } else if (objectType == boolean.class) {
                 return address != 0;
+            } else if (objectType == float.class) {
+                return Float.intBitsToFloat((int) address);
+            } else if (objectType == double.class) {
+                return Double.longBitsToDouble(address);
             } else {
                 throw new RuntimeException("unknown type: " + objectType.toString());
             }
@@ -118,6 +127,11 @@ public class ParamWrapper {
                 return (char)object;
             } else if (objectType == boolean.class) {
                 return Boolean.TRUE.equals(object) ? 1 : 0;
+            } else if (objectType == float.class) {
+                //float is in the low 32 bits of the fp register
+                return Float.floatToRawIntBits((float) object) & 0xffffffffL;
+            } else if (objectType == double.class) {
+                return Double.doubleToRawLongBits((double) object);
             } else {
                 throw new RuntimeException("unknown type: " + objectType.toString());
             }
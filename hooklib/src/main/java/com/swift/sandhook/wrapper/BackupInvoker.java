@@ -0,0 +1,61 @@
+package com.swift.sandhook.wrapper;
+
+import com.swift.sandhook.SandHookConfig;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * calls the backup of one hook entity, bound once when it is first called,
+ * a factory can bind typed invokers (e.g. generated dex) instead of reflection,
+ * without one (annotation api hooks) backups are called by reflection
+ */
+public abstract class BackupInvoker {
+
+    //thiz is ignored for static origin
+    public abstract Object invoke(Object thiz, Object[] args) throws Throwable;
+
+    public static BackupInvoker create(Member origin, Method backup) {
+        Factory factory = SandHookConfig.backupInvokerFactory;
+        if (factory != null) {
+            try {
+                BackupInvoker invoker = factory.create(origin, backup);
+                if (invoker != null)
+                    return invoker;
+            } catch (Throwable throwable) {}
+        }
+        return new ReflectInvoker(backup, Modifier.isStatic(origin.getModifiers()));
+    }
+
+    public interface Factory {
+        //null to fall back to reflection
+        BackupInvoker create(Member origin, Method backup) throws Throwable;
+    }
+
+    static class ReflectInvoker extends BackupInvoker {
+
+        private final Method backup;
+        private final boolean isStatic;
+
+        ReflectInvoker(Method backup, boolean isStatic) {
+            this.backup = backup;
+            this.isStatic = isStatic;
+        }
+
+        @Override
+        public Object invoke(Object thiz, Object[] args) throws Throwable {
+            try {
+                return backup.invoke(isStatic ? null : thiz, args);
+            } catch (InvocationTargetException throwable) {
+                if (throwable.getCause() != null) {
+                    throw throwable.getCause();
+                } else {
+                    throw throwable;
+                }
+            }
+        }
+    }
+
+}
@@ -19,7 +19,9 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class HookWrapper {
@@ -34,6 +36,10 @@ public class HookWrapper {
         }
     }
 
+    /**
+     * hooks of the class are installed in one batch, a failed hook is skipped & the others stay installed,
+     * then the error of the first failed one is thrown
+     */
     public static void addHookClass(ClassLoader classLoader, Class<?> clazz) throws HookErrorException {
         Class targetHookClass = getTargetHookClass(classLoader, clazz);
         if (targetHookClass == null)
@@ -44,8 +50,13 @@ public class HookWrapper {
         } catch (Throwable throwable) {
             throw new HookErrorException("fillBackupMethod error!", throwable);
         }
-        for (HookEntity entity:hookEntityMap.values()) {
-            SandHook.hook(entity);
+        //hook all entities of the class by one native call
+        List<HookEntity> entities = new ArrayList<>(hookEntityMap.values());
+        HookErrorException[] errors = new HookErrorException[entities.size()];
+        SandHook.hook(entities, errors);
+        for (HookErrorException error:errors) {
+            if (error != null)
+                throw error;
         }
     }
 
@@ -413,6 +424,7 @@ public class HookWrapper {
 
         public Class[] pars;
         public int hookMode;
+        private volatile BackupInvoker invoker;
 
         public HookEntity(Member target) {
             this.target = target;
@@ -436,7 +448,16 @@ public class HookWrapper {
         }
 
         public Object callOrigin(Object thiz, Object... args) throws Throwable {
-            return SandHook.callOriginMethod(backupIsStub, target, backup, thiz, args);
+            return SandHook.callOriginMethod(this, thiz, args);
+        }
+
+        public BackupInvoker getInvoker() {
+            BackupInvoker backupInvoker = invoker;
+            if (backupInvoker == null) {
+                backupInvoker = BackupInvoker.create(target, backup);
+                invoker = backupInvoker;
+            }
+            return backupInvoker;
         }
     }
 
@@ -0,0 +1,73 @@
+package com.swift.sandhook;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+public class ArtLayoutCacheTest {
+
+    private static final long[] LAYOUT = {40, 4, 41, 32, 12, 41, 0, 14, 24};
+
+    private File dir;
+    private File artLayoutCacheDir;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("art_layout", "");
+        dir.delete();
+        dir.mkdirs();
+        artLayoutCacheDir = SandHookConfig.artLayoutCacheDir;
+        SandHookConfig.artLayoutCacheDir = dir;
+    }
+
+    @After
+    public void tearDown() {
+        SandHookConfig.artLayoutCacheDir = artLayoutCacheDir;
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void roundTrip() {
+        assertNull(ArtLayoutCache.load());
+        ArtLayoutCache.save(null, LAYOUT);
+        assertArrayEquals(LAYOUT, ArtLayoutCache.load());
+    }
+
+    @Test
+    public void rejectCorruptedLayout() throws IOException {
+        ArtLayoutCache.save(null, LAYOUT);
+        //last byte of the last offset, before the checksum
+        try (RandomAccessFile file = new RandomAccessFile(getCacheFile(), "rw")) {
+            long pos = file.length() - 8 - 1;
+            file.seek(pos);
+            int value = file.read();
+            file.seek(pos);
+            file.write(value ^ 1);
+        }
+        assertNull(ArtLayoutCache.load());
+    }
+
+    @Test
+    public void rejectOtherLength() {
+        ArtLayoutCache.save(null, new long[] {40, 4});
+        assertNull(ArtLayoutCache.load());
+    }
+
+    private File getCacheFile() {
+        return new File(dir, "sandhook_art_layout");
+    }
+
+}
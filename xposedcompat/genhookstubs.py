@@ -8,8 +8,13 @@ TEMP_STUB_CLASS_WRAPPER = """package com.swift.sandhook.xposedcompat.hookstub;
 
 import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.hookBridge;
 import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.getMethodId;
+import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.stubArgs;
 import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.originMethods;
+import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.STUB_FP;
+import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.STUB_FP_RET;
 import static com.swift.sandhook.xposedcompat.utils.DexLog.printCallOriginError;
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
 
 /**
 *   this file is auto gen by genhookstubs.py
@@ -20,22 +25,42 @@ public class MethodHookerStubs%d {
 }
 """
 
-TEMP_STUB_HOOK_METHOD_NAME = """stub_hook_%d"""
-TEMP_STUB_HOOK_BACKUP_NAME = """stub_backup_%d"""
-TEMP_STUB_CALL_ORIGIN_NAME = """call_origin_%d_%d"""
+# stub types, int stubs only carry core registers,
+# fp stubs also carry all fp arg registers and fp ret stubs return in the fp register
+STUB_INT = 0
+STUB_FP = 1
+STUB_FP_RET = 2
 
-TEMP_STUB_GET_METHOD_ID_NAME = """getMethodId(%d, %d)"""
+STUB_TYPE_NAMES = ["", "fp_", "fpr_"]
+STUB_TYPE_CONSTS = ["", "STUB_FP, ", "STUB_FP_RET, "]
+STUB_TYPE_COMMENTS = ["stub", "fp stub", "fp ret stub"]
+
+TEMP_STUB_HOOK_METHOD_NAME = """stub_hook_%s%d"""
+TEMP_STUB_HOOK_BACKUP_NAME = """stub_backup_%s%d"""
+TEMP_STUB_CALL_ORIGIN_NAME = """call_origin_%s%d_%d"""
+
+TEMP_STUB_GET_METHOD_ID_NAME = """getMethodId(%s%d, %d)"""
 
 JAVA_TYPE_INT = "int"
 JAVA_CAST_INT = "(int)"
 JAVA_TYPE_LONG = "long"
+JAVA_TYPE_DOUBLE = "double"
 
 TEMP_STUB_HOOK_METHOD = """
     public static %s %s(%s) throws Throwable {
-        return %s hookBridge(%s, %s %s);
+        long[] args = stubArgs(%d);%s
+        return %s;
     }
 """
 
+TEMP_STUB_HOOK_BRIDGE_CALL = """hookBridge(%s, %s, args)"""
+
+TEMP_STUB_HOOK_ARG_ASSIGN = """
+        args[%d] = a%d;"""
+
+TEMP_STUB_HOOK_FP_ARG_ASSIGN = """
+        args[%d] = doubleToRawLongBits(f%d);"""
+
 TEMP_STUB_BACKUP_METHOD = """
     public static %s %s(%s) throws Throwable {
         try {
@@ -49,7 +74,7 @@ TEMP_STUB_CALL_ORIGIN_CLASS = """
     static class %s implements CallOriginCallBack {
         @Override
         public long call(long... args) throws Throwable {
-            return %s(%s);
+            return %s;
         }
     }
 """
@@ -57,28 +82,40 @@ TEMP_STUB_CALL_ORIGIN_CLASS = """
 TEMP_STUB_INFO = """
     public static boolean hasStubBackup = %s;
     public static int[] stubSizes = {%s};
+    public static int[] fpStubSizes = {%s};
+    public static int[] fpRetStubSizes = {%s};
 """
 
 
 STUB_SIZES_32 = [10,20,30,30,30,30,30,20,10,10,5,5,3]
 STUB_SIZES_64 = [10,20,30,30,30,30,50,50]
+# 32bits hard float abi back-fills single fp registers and aligns long pairs, stubs can not match it
+FP_STUB_SIZES_32 = []
+FP_RET_STUB_SIZES_32 = []
+FP_STUB_SIZES_64 = [5,10,10,10,5,5,3,3]
+FP_RET_STUB_SIZES_64 = [5,10,10,5,5,3,3,3]
+# 64bits float & double args are in d0 - d7
+MAX_64_FP_ARGS = 8
 HAS_BACKUP = False
 
 
-def getMethodId(args, index):
-    return TEMP_STUB_GET_METHOD_ID_NAME % (args, index)
+def getMethodId(type, args, index):
+    return TEMP_STUB_GET_METHOD_ID_NAME % (STUB_TYPE_CONSTS[type], args, index)
+
+def getMethodHookName(type, index):
+    return TEMP_STUB_HOOK_METHOD_NAME % (STUB_TYPE_NAMES[type], index)
 
-def getMethodHookName(index):
-    return TEMP_STUB_HOOK_METHOD_NAME % index
+def getMethodBackupName(type, index):
+    return TEMP_STUB_HOOK_BACKUP_NAME % (STUB_TYPE_NAMES[type], index)
 
-def getMethodBackupName(index):
-    return TEMP_STUB_HOOK_BACKUP_NAME % index
+def getCallOriginClassName(type, args, index):
+    return TEMP_STUB_CALL_ORIGIN_NAME % (STUB_TYPE_NAMES[type], args, index)
 
-def getCallOriginClassName(args, index):
-    return TEMP_STUB_CALL_ORIGIN_NAME % (args, index)
+def getFpArgs(type):
+    return 0 if type == STUB_INT else MAX_64_FP_ARGS
 
 
-def genArgsList(is64Bit, isDefine, length):
+def genArgsList(is64Bit, isDefine, length, fpLength):
     args_list = ""
     for i in range(length):
         if (i != 0):
@@ -90,11 +127,19 @@ def genArgsList(is64Bit, isDefine, length):
                 args_list += (JAVA_TYPE_INT + " " + "a" + str(i))
         else:
             args_list += ("a" + str(i))
+    for i in range(fpLength):
+        if (i != 0 or length != 0):
+            args_list += ", "
+        if isDefine:
+            args_list += (JAVA_TYPE_DOUBLE + " " + "f" + str(i))
+        else:
+            args_list += ("f" + str(i))
     return args_list
 
 
-def genArgsListForCallOriginMethod(is64Bit, length):
+def genArgsListForCallOriginMethod(is64Bit, length, fpLength):
     arg_name = """args[%s]"""
+    fp_arg_name = """longBitsToDouble(args[%s])"""
     args_list = ""
     for i in range(length):
         if (i != 0):
@@ -103,84 +148,91 @@ def genArgsListForCallOriginMethod(is64Bit, length):
             args_list += arg_name % i
         else:
             args_list += (JAVA_CAST_INT + arg_name % i)
+    for i in range(fpLength):
+        if (i != 0 or length != 0):
+            args_list += ", "
+        args_list += fp_arg_name % (length + i)
     return args_list
 
 
-def genHookMethod(is64Bit, args, index):
-    java_type = JAVA_TYPE_LONG if is64Bit else JAVA_TYPE_INT
-    cast = "" if is64Bit else JAVA_CAST_INT
-    args_list_pre = ", " if args > 0 else ""
-    args_list = genArgsList(is64Bit, False, args)
-    args_list_def = genArgsList(is64Bit, True, args)
-    call_origin_obj = ("new " + getCallOriginClassName(args, index) + "()") if HAS_BACKUP else "null"
-    method = TEMP_STUB_HOOK_METHOD % (java_type, getMethodHookName(index), args_list_def, cast, getMethodId(args, index), call_origin_obj, args_list_pre + args_list)
+def getReturnType(is64Bit, type):
+    if type == STUB_FP_RET:
+        return JAVA_TYPE_DOUBLE
+    return JAVA_TYPE_LONG if is64Bit else JAVA_TYPE_INT
+
+
+def genHookMethod(is64Bit, type, args, index):
+    java_type = getReturnType(is64Bit, type)
+    fp_args = getFpArgs(type)
+    args_list_def = genArgsList(is64Bit, True, args, fp_args)
+    args_assign = ""
+    for i in range(args):
+        args_assign += TEMP_STUB_HOOK_ARG_ASSIGN % (i, i)
+    for i in range(fp_args):
+        args_assign += TEMP_STUB_HOOK_FP_ARG_ASSIGN % (args + i, i)
+    call_origin_obj = ("new " + getCallOriginClassName(type, args, index) + "()") if HAS_BACKUP else "null"
+    bridge_call = TEMP_STUB_HOOK_BRIDGE_CALL % (getMethodId(type, args, index), call_origin_obj)
+    if type == STUB_FP_RET:
+        bridge_call = "longBitsToDouble(%s)" % bridge_call
+    else:
+        bridge_call = ("" if is64Bit else JAVA_CAST_INT) + " " + bridge_call
+    method = TEMP_STUB_HOOK_METHOD % (java_type, getMethodHookName(type, index), args_list_def, args + fp_args, args_assign, bridge_call)
     return method
 
 
-def genBackupMethod(is64Bit, args, index):
-    java_type = JAVA_TYPE_LONG if is64Bit else JAVA_TYPE_INT
-    args_list_def = genArgsList(is64Bit, True, args)
-    method = TEMP_STUB_BACKUP_METHOD % (java_type, getMethodBackupName(index), args_list_def, getMethodId(args, index))
+def genBackupMethod(is64Bit, type, args, index):
+    java_type = getReturnType(is64Bit, type)
+    args_list_def = genArgsList(is64Bit, True, args, getFpArgs(type))
+    method = TEMP_STUB_BACKUP_METHOD % (java_type, getMethodBackupName(type, index), args_list_def, getMethodId(type, args, index))
     return method
 
-def genCallOriginClass(is64Bit, args, index):
-    method = TEMP_STUB_CALL_ORIGIN_CLASS % (getCallOriginClassName(args, index), getMethodBackupName(index), genArgsListForCallOriginMethod(is64Bit, args))
+def genCallOriginClass(is64Bit, type, args, index):
+    call = "%s(%s)" % (getMethodBackupName(type, index), genArgsListForCallOriginMethod(is64Bit, args, getFpArgs(type)))
+    if type == STUB_FP_RET:
+        call = "doubleToRawLongBits(%s)" % call
+    method = TEMP_STUB_CALL_ORIGIN_CLASS % (getCallOriginClassName(type, args, index), call)
     return method
 
-def genStubInfo32():
-    hasStub = "true" if HAS_BACKUP else "false"
-    stubSizes = ""
-    for args in range(len(STUB_SIZES_32)):
-        if (args != 0):
-            stubSizes += ", "
-        stubSizes += str(STUB_SIZES_32[args])
-    return TEMP_STUB_INFO % (hasStub, stubSizes)
-
-def genStubInfo64():
-    hasStub = "true" if HAS_BACKUP else "false"
-    stubSizes = ""
-    for args in range(len(STUB_SIZES_64)):
-        if (args != 0):
-            stubSizes += ", "
-        stubSizes += str(STUB_SIZES_64[args])
-    return TEMP_STUB_INFO % (hasStub, stubSizes)    
+def genSizes(sizes):
+    return ", ".join(str(size) for size in sizes)
 
-def gen32Stub(packageDir):
-    class_content = genStubInfo32()
-    class_name = STUB_FILE_NAME + "32"
-    for args in range(len(STUB_SIZES_32)):
-        for index in range(STUB_SIZES_32[args]):
-            class_content += """\n\n\t//stub of arg size %d, index %d""" % (args, index)
-            class_content += genHookMethod(False, args, index)
+def genStubInfo(stubSizes, fpStubSizes, fpRetStubSizes):
+    hasStub = "true" if HAS_BACKUP else "false"
+    return TEMP_STUB_INFO % (hasStub, genSizes(stubSizes), genSizes(fpStubSizes), genSizes(fpRetStubSizes))
+
+def genStubs(is64Bit, type, sizes):
+    class_content = ""
+    for args in range(len(sizes)):
+        for index in range(sizes[args]):
+            class_content += """\n\n\t//%s of arg size %d, index %d""" % (STUB_TYPE_COMMENTS[type], args, index)
+            class_content += genHookMethod(is64Bit, type, args, index)
             if HAS_BACKUP:
                 class_content += "\n"
-                class_content += genCallOriginClass(False, args, index)
+                class_content += genCallOriginClass(is64Bit, type, args, index)
                 class_content += "\n"
-                class_content += genBackupMethod(False, args, index)
+                class_content += genBackupMethod(is64Bit, type, args, index)
                 class_content += "\n"
-    class_str = TEMP_STUB_CLASS_WRAPPER % (32, class_content)
+    return class_content
+
+def genStubClass(packageDir, is64Bit, stubSizes, fpStubSizes, fpRetStubSizes):
+    bits = 64 if is64Bit else 32
+    class_content = genStubInfo(stubSizes, fpStubSizes, fpRetStubSizes)
+    class_name = STUB_FILE_NAME + str(bits)
+    class_content += genStubs(is64Bit, STUB_INT, stubSizes)
+    class_content += genStubs(is64Bit, STUB_FP, fpStubSizes)
+    class_content += genStubs(is64Bit, STUB_FP_RET, fpRetStubSizes)
+    class_str = TEMP_STUB_CLASS_WRAPPER % (bits, class_content)
     javaFile = open(os.path.join(packageDir, class_name + ".java"), "w")
     javaFile.write(class_str)
     javaFile.close()
 
 
+def gen32Stub(packageDir):
+    genStubClass(packageDir, False, STUB_SIZES_32, FP_STUB_SIZES_32, FP_RET_STUB_SIZES_32)
+
+
 def gen64Stub(packageDir):
-    class_content = genStubInfo64()
-    class_name = STUB_FILE_NAME + "64"
-    for args in range(len(STUB_SIZES_64)):
-        for index in range(STUB_SIZES_64[args]):
-            class_content += """\n\n\t//stub of arg size %d, index %d""" % (args, index)
-            class_content += genHookMethod(True, args, index)
-            if HAS_BACKUP:
-                class_content += "\n"
-                class_content += genCallOriginClass(True, args, index)
-                class_content += "\n"
-                class_content += genBackupMethod(True, args, index)
-                class_content += "\n"
-    class_str = TEMP_STUB_CLASS_WRAPPER % (64, class_content)
-    javaFile = open(os.path.join(packageDir, class_name + ".java"), "w")
-    javaFile.write(class_str)
-    javaFile.close()
+    genStubClass(packageDir, True, STUB_SIZES_64, FP_STUB_SIZES_64, FP_RET_STUB_SIZES_64)
 
 
 def genStub(packageDir):
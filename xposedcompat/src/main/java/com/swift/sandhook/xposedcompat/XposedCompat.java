@@ -16,6 +16,7 @@ import android.os.Process;
 import com.swift.sandhook.SandHookConfig;
 import com.swift.sandhook.xposedcompat.classloaders.ProxyClassLoader;
 import com.swift.sandhook.xposedcompat.methodgen.DynamicBridge;
+import com.swift.sandhook.xposedcompat.methodgen.HookerDexOptimizer;
 import com.swift.sandhook.xposedcompat.utils.ApplicationUtils;
 import com.swift.sandhook.xposedcompat.utils.FileUtils;
 import com.swift.sandhook.xposedcompat.utils.ProcessUtils;
@@ -24,6 +25,7 @@ import java.io.File;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import de.robv.android.xposed.IXposedHookInitPackageResources;
@@ -57,16 +59,49 @@ public class XposedCompat {
     //try to use internal stub hooker & backup method to speed up hook
     public static volatile boolean useInternalStub = true;
     public static volatile boolean useNewCallBackup = true;
+    //generate more internal stubs at runtime when the built-in ones of an arg size are used up
+    public static volatile boolean useDynamicStub = true;
+    //restore methods whose callbacks are all unhooked, their internal stubs are retired, not reused
+    public static volatile boolean restoreUnhookedMethod = true;
     public static volatile boolean retryWhenCallOriginError = false;
+    //threads to install hooks of many members in parallel, <= 1 to install them in the caller thread
+    public static volatile int hookInstallThreads = Math.min(4, Runtime.getRuntime().availableProcessors());
+    //dex maker hookers of a bulk hook are generated in one dex & loaded by one class loader
+    public static volatile boolean batchDexMakerHooks = true;
+    //dex maker hookers of members with the same erased signature share classes, slots of them are taken on demand
+    public static volatile boolean shareHookerByShape = false;
+    //quota of cached hooker jars, least recently used ones are deleted
+    public static volatile int hookerDexCacheMaxEntries = 1024;
+    public static volatile long hookerDexCacheMaxBytes = 64L << 20;
+    //version of loaded modules, cached hooker jars of other versions are deleted, null to use paths & timestamps of module apks
+    public static volatile String moduleVersion;
+    //compile new hooker jars with dex2oat in background, limited to dexOptThreads jobs at a time
+    //jobs wait while in power save mode or battery is under dexOptMinBatteryLevel percent & not charging
+    public static volatile boolean precompileHookerDex = true;
+    public static volatile int dexOptThreads = 1;
+    public static volatile int dexOptMinBatteryLevel = 30;
+    //reuse hook params & arg arrays of internal stub hooks from a per thread pool, no gc churn on hot methods
+    //callbacks must not keep MethodHookParam or its args after the hooked method returns, set before any hook
+    public static volatile boolean reuseHookParam = false;
 
     private static ClassLoader sandHookXposedClassLoader;
     private static ClassLoader dummyClassLoader;
+    private static final List<String> modulePaths = new ArrayList<>();
 
 
     public static void loadModule(String modulePath, String moduleOdexDir, String moduleSoPath, ClassLoader classLoader) {
+        synchronized (modulePaths) {
+            modulePaths.add(modulePath);
+        }
         XposedInit.loadModule(modulePath, moduleOdexDir, moduleSoPath, classLoader);
     }
 
+    public static List<String> getModulePaths() {
+        synchronized (modulePaths) {
+            return new ArrayList<>(modulePaths);
+        }
+    }
+
     public static XResources[] hookResources() throws Exception {
         if (!initXResourcesNative(XResources.class)) return new XResources[0];
 
@@ -333,4 +368,8 @@ public class XposedCompat {
         DynamicBridge.clearOatFile();
     }
 
+    public static HookerDexOptimizer.Status getHookerDexOptStatus() {
+        return HookerDexOptimizer.getStatus();
+    }
+
 }
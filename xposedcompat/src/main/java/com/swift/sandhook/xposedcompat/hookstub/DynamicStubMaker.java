@@ -0,0 +1,177 @@
+package com.swift.sandhook.xposedcompat.hookstub;
+
+import android.os.Build;
+import android.text.TextUtils;
+
+import com.android.dx.Code;
+import com.android.dx.DexMaker;
+import com.android.dx.Local;
+import com.android.dx.MethodId;
+import com.android.dx.TypeId;
+import com.swift.sandhook.SandHookConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+
+import dalvik.system.InMemoryDexClassLoader;
+
+import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.STUB_FP_RET;
+
+/**
+ * generate more stubs of one stub type & arg size at runtime once the static stub tables are used up,
+ * generated stubs are the same as the ones in MethodHookerStubs64/32 but with their ids baked in
+ */
+public class DynamicStubMaker {
+
+    //stubs per generated class
+    public final static int BATCH_SIZE = 64;
+
+    private static final String CLASS_DESC_PREFIX = "L";
+    private static final String CLASS_NAME_PREFIX = "SandHookerStubs";
+
+    private static final TypeId<HookStubManager> managerTypeId = TypeId.get(HookStubManager.class);
+    private static final TypeId<long[]> longArrayTypeId = TypeId.get(long[].class);
+    private static final TypeId<CallOriginCallBack> callOriginTypeId = TypeId.get(CallOriginCallBack.class);
+    private static final TypeId<Double> doubleTypeId = TypeId.get(Double.class);
+
+    private final boolean is64Bit;
+    private final int type;
+    private final int args;
+    private final int fpArgs;
+    private final int baseId;
+
+    private DexMaker mDexMaker;
+    private TypeId<?> mStubTypeId;
+    private TypeId<?>[] mParameterTypeIds;
+    private TypeId<?> mReturnTypeId;
+
+    public DynamicStubMaker(boolean is64Bit, int type, int args, int baseId) {
+        this.is64Bit = is64Bit;
+        this.type = type;
+        this.args = args;
+        this.fpArgs = HookStubManager.getStubFpArgs(type);
+        this.baseId = baseId;
+    }
+
+    //stub at index i of the returned array calls hookBridge with id baseId + i
+    public Method[] make(String dexDirPath) throws Exception {
+        String className = getClassName();
+        mDexMaker = new DexMaker();
+        mStubTypeId = TypeId.get(CLASS_DESC_PREFIX + className + ";");
+        mDexMaker.declare(mStubTypeId, className + ".generated", Modifier.PUBLIC, TypeId.OBJECT);
+        mParameterTypeIds = getParameterTypeIds();
+        mReturnTypeId = type == STUB_FP_RET ? TypeId.DOUBLE : (is64Bit ? TypeId.LONG : TypeId.INT);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            generateStubMethod(i);
+        }
+
+        ClassLoader parent = HookStubManager.class.getClassLoader();
+        ClassLoader loader = null;
+        if (TextUtils.isEmpty(dexDirPath)) {
+            if (SandHookConfig.SDK_INT < Build.VERSION_CODES.O) {
+                throw new IllegalArgumentException("dexDirPath should not be empty!!!");
+            } else {
+                byte[] dexBytes = mDexMaker.generate();
+                loader = new InMemoryDexClassLoader(ByteBuffer.wrap(dexBytes), parent);
+            }
+        } else {
+            try {
+                loader = mDexMaker.generateAndLoad(parent, new File(dexDirPath), className + ".jar");
+            } catch (IOException e) {
+                //can not write file
+                if (SandHookConfig.SDK_INT >= Build.VERSION_CODES.O) {
+                    byte[] dexBytes = mDexMaker.generate();
+                    loader = new InMemoryDexClassLoader(ByteBuffer.wrap(dexBytes), parent);
+                }
+            }
+        }
+        if (loader == null)
+            return null;
+
+        Class stubClass = loader.loadClass(className);
+        Class[] pars = HookStubManager.getFindMethodParTypes(is64Bit, type, args);
+        Method[] stubs = new Method[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            stubs[i] = stubClass.getDeclaredMethod(HookStubManager.getHookMethodName(type, i), pars);
+        }
+        return stubs;
+    }
+
+    //ids differ in every process, so the name only has to be unique in this one
+    private String getClassName() {
+        return CLASS_NAME_PREFIX + "_" + (is64Bit ? 64 : 32) + "_" + type + "_" + args + "_" + baseId;
+    }
+
+    private TypeId<?>[] getParameterTypeIds() {
+        TypeId<?>[] parameterTypeIds = new TypeId<?>[args + fpArgs];
+        for (int i = 0; i < args; i++) {
+            parameterTypeIds[i] = is64Bit ? TypeId.LONG : TypeId.INT;
+        }
+        for (int i = args; i < args + fpArgs; i++) {
+            parameterTypeIds[i] = TypeId.DOUBLE;
+        }
+        return parameterTypeIds;
+    }
+
+    private void generateStubMethod(int index) {
+        MethodId<?, ?> stubMethodId = mStubTypeId.getMethod(mReturnTypeId, HookStubManager.getHookMethodName(type, index), mParameterTypeIds);
+        MethodId<?, long[]> stubArgsMethodId = managerTypeId.getMethod(longArrayTypeId, "stubArgs", TypeId.INT);
+        MethodId<?, Long> bridgeMethodId = managerTypeId.getMethod(TypeId.LONG, "hookBridge", TypeId.INT, callOriginTypeId, longArrayTypeId);
+        MethodId<?, Long> rawBitsMethodId = doubleTypeId.getMethod(TypeId.LONG, "doubleToRawLongBits", TypeId.DOUBLE);
+        MethodId<?, Double> fromBitsMethodId = doubleTypeId.getMethod(TypeId.DOUBLE, "longBitsToDouble", TypeId.LONG);
+
+        Code code = mDexMaker.declare(stubMethodId, Modifier.PUBLIC | Modifier.STATIC);
+
+        Local<long[]> stubArgs = code.newLocal(longArrayTypeId);
+        Local<Integer> stubArgsCount = code.newLocal(TypeId.INT);
+        Local<Integer> argIndex = code.newLocal(TypeId.INT);
+        Local<Long> argValue = code.newLocal(TypeId.LONG);
+        Local<Integer> id = code.newLocal(TypeId.INT);
+        Local<CallOriginCallBack> callOrigin = code.newLocal(callOriginTypeId);
+        Local<Long> result = code.newLocal(TypeId.LONG);
+        Local<Integer> intResult = code.newLocal(TypeId.INT);
+        Local<Double> doubleResult = code.newLocal(TypeId.DOUBLE);
+
+        Local[] parameters = new Local[mParameterTypeIds.length];
+        for (int i = 0; i < mParameterTypeIds.length; i++) {
+            parameters[i] = code.getParameter(i, mParameterTypeIds[i]);
+        }
+
+        // long[] stubArgs = HookStubManager.stubArgs(args + fpArgs)
+        code.loadConstant(stubArgsCount, args + fpArgs);
+        code.invokeStatic(stubArgsMethodId, stubArgs, stubArgsCount);
+
+        for (int i = 0; i < args; i++) {
+            code.loadConstant(argIndex, i);
+            if (is64Bit) {
+                code.aput(stubArgs, argIndex, parameters[i]);
+            } else {
+                code.cast(argValue, parameters[i]);
+                code.aput(stubArgs, argIndex, argValue);
+            }
+        }
+        for (int i = args; i < args + fpArgs; i++) {
+            code.invokeStatic(rawBitsMethodId, argValue, parameters[i]);
+            code.loadConstant(argIndex, i);
+            code.aput(stubArgs, argIndex, argValue);
+        }
+
+        code.loadConstant(id, baseId + index);
+        code.loadConstant(callOrigin, null);
+        code.invokeStatic(bridgeMethodId, result, id, callOrigin, stubArgs);
+
+        if (type == STUB_FP_RET) {
+            code.invokeStatic(fromBitsMethodId, doubleResult, result);
+            code.returnValue(doubleResult);
+        } else if (is64Bit) {
+            code.returnValue(result);
+        } else {
+            code.cast(intResult, result);
+            code.returnValue(intResult);
+        }
+    }
+
+}
@@ -15,6 +15,13 @@ public class HookMethodEntity {
     public Method backup;
     public Class[] parType;
     public Class retType;
+    //index of each arg in stub args
+    public int[] stubArgIndexes;
+    //stub arg index & arg index of each reference arg, decoded in one jni call
+    public int[] refStubArgIndexes;
+    public int[] refArgIndexes;
+    //id of the internal stub, -1 once released
+    public int stubId = -1;
 
     public boolean isStatic;
 
@@ -25,36 +32,78 @@ public class HookMethodEntity {
         this.isStatic = Modifier.isStatic(origin.getModifiers());
     }
 
+    //fp stubs put fp regs after all core regs of the stub
+    public void initStubArgIndexes(int stubArgs) {
+        stubArgIndexes = new int[parType.length];
+        int coreIndex = isStatic ? 0 : 1;
+        int fpIndex = stubArgs;
+        for (int i = 0;i < parType.length;i++) {
+            if (ParamWrapper.isFloatingPoint(parType[i])) {
+                stubArgIndexes[i] = fpIndex++;
+            } else {
+                stubArgIndexes[i] = coreIndex++;
+            }
+        }
+        int refCount = 0;
+        for (Class type : parType) {
+            if (!type.isPrimitive()) {
+                refCount++;
+            }
+        }
+        refStubArgIndexes = new int[refCount];
+        refArgIndexes = new int[refCount];
+        refCount = 0;
+        for (int i = 0;i < parType.length;i++) {
+            if (!parType[i].isPrimitive()) {
+                refStubArgIndexes[refCount] = stubArgIndexes[i];
+                refArgIndexes[refCount++] = i;
+            }
+        }
+    }
+
     public Object[] getArgs(long... addresses) {
         if (addresses == null || addresses.length == 0)
             return new Object[0];
         if (parType == null || parType.length == 0)
             return new Object[0];
-        int argStart = 0;
-        if (!isStatic) {
-            argStart = 1;
-        }
         Object[] args = new Object[parType.length];
-        for (int i = argStart;i < parType.length + argStart;i++) {
-            args[i - argStart] = getArg(i - argStart, addresses[i]);
+        fillArgs(addresses, args);
+        return args;
+    }
+
+    //decode args into a reused array, length of args must be parType.length
+    public Object[] fillArgs(long[] addresses, Object[] args) {
+        for (int i = 0;i < parType.length;i++) {
+            args[i] = getArg(i, addresses[stubArgIndexes[i]]);
         }
         return args;
     }
 
+    //decode args into args & return this, all references in one jni call, length of args must be parType.length
+    public Object decodeArgs(long[] addresses, Object[] args) {
+        for (int i = 0;i < parType.length;i++) {
+            if (parType[i].isPrimitive()) {
+                args[i] = getArg(i, addresses[stubArgIndexes[i]]);
+            }
+        }
+        if (isStatic && refArgIndexes.length == 0)
+            return null;
+        return SandHook.getObjects(addresses, isStatic ? -1 : 0, refStubArgIndexes, args, refArgIndexes);
+    }
+
     public long[] getArgsAddress(long[] oldAddress, Object... args) {
         if (oldAddress == null || oldAddress.length == 0)
             return new long[0];
-        long[] addresses;
-        int argStart = 0;
+        return fillArgsAddress(oldAddress, new long[oldAddress.length], args);
+    }
+
+    //encode args into a reused array, length of addresses must be oldAddress.length
+    public long[] fillArgsAddress(long[] oldAddress, long[] addresses, Object... args) {
         if (!isStatic) {
-            argStart = 1;
-            addresses = new long[oldAddress.length + 1];
             addresses[0] = oldAddress[0];
-        } else {
-            addresses = new long[oldAddress.length];
         }
         for (int i = 0;i < parType.length;i++) {
-            addresses[i + argStart] = ParamWrapper.objectToAddress(parType[i], args[i]);
+            addresses[stubArgIndexes[i]] = ParamWrapper.objectToAddress(parType[i], args[i]);
         }
         return addresses;
     }
@@ -0,0 +1,119 @@
+package com.swift.sandhook.xposedcompat.hookstub;
+
+import java.util.Arrays;
+
+import de.robv.android.xposed.XC_MethodHook;
+
+/**
+ * per thread pool of hook params & arg arrays for the internal stub bridge,
+ * indexed by call depth so reentrant hooked calls never share a frame
+ */
+public class HookParamPool {
+
+    private final static long[] EMPTY_STUB_ARGS = new long[0];
+
+    private final static ThreadLocal<HookParamPool> threadPool = new ThreadLocal<HookParamPool>() {
+        @Override
+        protected HookParamPool initialValue() {
+            return new HookParamPool(HookStubManager.MAX_STUB_ARGS_LENGTH);
+        }
+    };
+
+    private final int maxStubArgsLength;
+    private Frame[] frames = new Frame[4];
+    private int depth = -1;
+
+    HookParamPool(int maxStubArgsLength) {
+        this.maxStubArgsLength = maxStubArgsLength;
+    }
+
+    public static HookParamPool get() {
+        return threadPool.get();
+    }
+
+    public static long[] emptyStubArgs() {
+        return EMPTY_STUB_ARGS;
+    }
+
+    //frame of the next hookBridge on this thread, stubs fill its stub args before enter
+    public Frame next() {
+        return frameAt(depth + 1);
+    }
+
+    public Frame enter() {
+        return frameAt(++depth);
+    }
+
+    public void exit() {
+        frames[depth--].recycle();
+    }
+
+    private Frame frameAt(int index) {
+        if (index >= frames.length) {
+            frames = Arrays.copyOf(frames, frames.length * 2);
+        }
+        Frame frame = frames[index];
+        if (frame == null) {
+            frame = new Frame(maxStubArgsLength);
+            frames[index] = frame;
+        }
+        return frame;
+    }
+
+    public static class Frame {
+
+        public final XC_MethodHook.MethodHookParam param = new XC_MethodHook.MethodHookParam();
+
+        private final long[][] stubArgs;
+        private final long[][] originArgs;
+        private final Object[][] args;
+
+        private Object[] usedArgs;
+
+        Frame(int maxStubArgsLength) {
+            stubArgs = new long[maxStubArgsLength + 1][];
+            originArgs = new long[maxStubArgsLength + 1][];
+            args = new Object[maxStubArgsLength + 1][];
+        }
+
+        public long[] stubArgs(int count) {
+            if (count == 0)
+                return EMPTY_STUB_ARGS;
+            long[] array = stubArgs[count];
+            if (array == null) {
+                array = new long[count];
+                stubArgs[count] = array;
+            }
+            return array;
+        }
+
+        public long[] originArgs(int count) {
+            long[] array = originArgs[count];
+            if (array == null) {
+                array = new long[count];
+                originArgs[count] = array;
+            }
+            return array;
+        }
+
+        public Object[] args(int count) {
+            Object[] array = args[count];
+            if (array == null) {
+                array = new Object[count];
+                args[count] = array;
+            }
+            usedArgs = array;
+            return array;
+        }
+
+        //drop references so pooled frames do not keep args & results alive
+        void recycle() {
+            param.reset();
+            if (usedArgs != null) {
+                Arrays.fill(usedArgs, null);
+                usedArgs = null;
+            }
+        }
+    }
+
+}
@@ -7,12 +7,17 @@ import com.swift.sandhook.SandHookMethodResolver;
 import com.swift.sandhook.utils.ParamWrapper;
 import com.swift.sandhook.wrapper.StubMethodsFactory;
 import com.swift.sandhook.xposedcompat.XposedCompat;
+import com.swift.sandhook.xposedcompat.methodgen.DynamicBridge;
 import com.swift.sandhook.xposedcompat.utils.DexLog;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import de.robv.android.xposed.XC_MethodHook;
@@ -24,37 +29,82 @@ public class HookStubManager {
     public static volatile boolean is64Bit;
     //64bits arg0 - arg7 is in reg x1 - x7 and > 7 is in stack, but can not match
     public final static int MAX_64_ARGS = 7;
+    //64bits float & double arg0 - arg7 is in reg d0 - d7, independent of core regs
+    public final static int MAX_64_FP_ARGS = 8;
+
+    //int stubs only carry core regs, fp stubs also carry all fp arg regs, fp ret stubs also return in d0
+    public final static int STUB_INT = 0;
+    public final static int STUB_FP = 1;
+    public final static int STUB_FP_RET = 2;
+    public final static int STUB_TYPES = 3;
 
     public static int MAX_STUB_ARGS = 0;
+    //max length of stub args, fp stubs append fp regs after core regs
+    public static int MAX_STUB_ARGS_LENGTH = 0;
 
     public static int[] stubSizes;
+    public static int[][] typeStubSizes;
+    private static int[] typeStubOffsets;
 
     public static boolean hasStubBackup;
 
-    public static AtomicInteger[] curUseStubIndexes;
+    public static AtomicInteger[][] curUseStubIndexes;
 
     public static int ALL_STUB = 0;
 
-    public static Member[] originMethods;
-    public static HookMethodEntity[] hookMethodEntities;
-    public static XposedBridge.AdditionalHookInfo[] additionalHookInfos;
+    //grow when stubs are generated at runtime
+    public static volatile Member[] originMethods;
+    public static volatile HookMethodEntity[] hookMethodEntities;
+    public static volatile XposedBridge.AdditionalHookInfo[] additionalHookInfos;
+
+    //current generated stub batch of each stub type & arg size
+    private static DynamicStubBatch[][] dynamicStubBatches;
+    private static int[][] dynamicStubCounts;
+
+    //stub of each used id, stubs given back by failed hooks & count of stubs retired by unhook of each stub type & arg size
+    private static StubMethodsInfo[] stubMethodsInfos;
+    private static ArrayDeque<StubMethodsInfo>[][] freeStubs;
+    private static int[][] retiredStubCounts;
 
     static {
         is64Bit = SandHook.is64Bit();
         Class stubClass = is64Bit ? MethodHookerStubs64.class : MethodHookerStubs32.class;
         stubSizes = (int[]) XposedHelpers.getStaticObjectField(stubClass, "stubSizes");
+        typeStubSizes = new int[][] {
+                stubSizes,
+                (int[]) XposedHelpers.getStaticObjectField(stubClass, "fpStubSizes"),
+                (int[]) XposedHelpers.getStaticObjectField(stubClass, "fpRetStubSizes")
+        };
         Boolean hasBackup = (Boolean) XposedHelpers.getStaticObjectField(stubClass, "hasStubBackup");
         hasStubBackup = hasBackup != null && (hasBackup && !XposedCompat.useNewCallBackup);
         if (stubSizes != null && stubSizes.length > 0) {
             MAX_STUB_ARGS = stubSizes.length - 1;
-            curUseStubIndexes = new AtomicInteger[MAX_STUB_ARGS + 1];
-            for (int i = 0; i < MAX_STUB_ARGS + 1; i++) {
-                curUseStubIndexes[i] = new AtomicInteger(0);
-                ALL_STUB += stubSizes[i];
+            typeStubOffsets = new int[STUB_TYPES];
+            curUseStubIndexes = new AtomicInteger[STUB_TYPES][];
+            for (int type = 0; type < STUB_TYPES; type++) {
+                int[] sizes = typeStubSizes[type];
+                if (sizes == null) {
+                    sizes = new int[0];
+                    typeStubSizes[type] = sizes;
+                }
+                typeStubOffsets[type] = ALL_STUB;
+                curUseStubIndexes[type] = new AtomicInteger[sizes.length];
+                for (int i = 0; i < sizes.length; i++) {
+                    curUseStubIndexes[type][i] = new AtomicInteger(0);
+                    ALL_STUB += sizes[i];
+                }
+                if (sizes.length > 0) {
+                    MAX_STUB_ARGS_LENGTH = Math.max(MAX_STUB_ARGS_LENGTH, sizes.length - 1 + getStubFpArgs(type));
+                }
             }
             originMethods = new Member[ALL_STUB];
             hookMethodEntities = new HookMethodEntity[ALL_STUB];
             additionalHookInfos = new XposedBridge.AdditionalHookInfo[ALL_STUB];
+            dynamicStubBatches = new DynamicStubBatch[STUB_TYPES][MAX_STUB_ARGS + 1];
+            dynamicStubCounts = new int[STUB_TYPES][MAX_STUB_ARGS + 1];
+            stubMethodsInfos = new StubMethodsInfo[ALL_STUB];
+            freeStubs = new ArrayDeque[STUB_TYPES][MAX_STUB_ARGS + 1];
+            retiredStubCounts = new int[STUB_TYPES][MAX_STUB_ARGS + 1];
         }
     }
 
@@ -85,33 +135,45 @@ public class HookStubManager {
             return null;
 
         int needStubArgCount = isStatic ? 0 : 1;
+        int needFpArgCount = 0;
 
         if (parType != null) {
-            needStubArgCount += parType.length;
-            if (needStubArgCount > MAX_STUB_ARGS)
-                return null;
-            if (is64Bit && needStubArgCount > MAX_64_ARGS)
-                return null;
             for (Class par:parType) {
                 if (!ParamWrapper.support(par))
                     return null;
+                if (ParamWrapper.isFloatingPoint(par)) {
+                    needFpArgCount++;
+                } else {
+                    needStubArgCount++;
+                }
             }
+            if (needStubArgCount > MAX_STUB_ARGS)
+                return null;
+            if (is64Bit && needStubArgCount > MAX_64_ARGS)
+                return null;
+            if (needFpArgCount > MAX_64_FP_ARGS)
+                return null;
         } else {
             parType = new Class[0];
         }
 
+        int stubType = getStubType(retType, needFpArgCount);
+
         synchronized (HookStubManager.class) {
-            StubMethodsInfo stubMethodInfo = getStubMethodPair(is64Bit, needStubArgCount);
+            StubMethodsInfo stubMethodInfo = getStubMethodPair(is64Bit, stubType, needStubArgCount);
             if (stubMethodInfo == null)
                 return null;
             HookMethodEntity entity = new HookMethodEntity(origin, stubMethodInfo.hook, stubMethodInfo.backup);
             entity.retType = retType;
             entity.parType = parType;
-            if (hasStubBackup && !tryCompileAndResolveCallOriginMethod(entity.backup, stubMethodInfo.args, stubMethodInfo.index)) {
+            entity.initStubArgIndexes(stubMethodInfo.args);
+            if (hasStubBackup && !tryCompileAndResolveCallOriginMethod(entity.backup, stubType, stubMethodInfo.args, stubMethodInfo.index)) {
                 DexLog.w("internal stub <" + entity.hook.getName() + "> call origin compile failure, skip use internal stub");
                 return null;
             } else {
-                int id = getMethodId(stubMethodInfo.args, stubMethodInfo.index);
+                int id = stubMethodInfo.id;
+                entity.stubId = id;
+                stubMethodsInfos[id] = stubMethodInfo;
                 originMethods[id] = origin;
                 hookMethodEntities[id] = entity;
                 additionalHookInfos[id] = additionalHookInfo;
@@ -120,74 +182,275 @@ public class HookStubManager {
         }
     }
 
+    public static int getStubType(Class retType, int fpArgs) {
+        if (ParamWrapper.isFloatingPoint(retType)) {
+            return STUB_FP_RET;
+        } else if (fpArgs > 0) {
+            return STUB_FP;
+        } else {
+            return STUB_INT;
+        }
+    }
+
+    public static int getStubFpArgs(int type) {
+        return type == STUB_INT ? 0 : MAX_64_FP_ARGS;
+    }
+
+    private static String getStubTypeName(int type) {
+        switch (type) {
+            case STUB_FP:
+                return "fp_";
+            case STUB_FP_RET:
+                return "fpr_";
+            default:
+                return "";
+        }
+    }
+
     public static int getMethodId(int args, int index) {
-        int id = index;
+        return getMethodId(STUB_INT, args, index);
+    }
+
+    public static int getMethodId(int type, int args, int index) {
+        int id = typeStubOffsets[type] + index;
+        int[] sizes = typeStubSizes[type];
         for (int i = 0;i < args;i++) {
-            id += stubSizes[i];
+            id += sizes[i];
         }
         return id;
     }
 
-    public static String getHookMethodName(int index) {
-        return "stub_hook_" + index;
+    public static String getHookMethodName(int type, int index) {
+        return "stub_hook_" + getStubTypeName(type) + index;
     }
 
-    public static String getBackupMethodName(int index) {
-        return "stub_backup_" + index;
+    public static String getBackupMethodName(int type, int index) {
+        return "stub_backup_" + getStubTypeName(type) + index;
     }
 
-    public static String getCallOriginClassName(int args, int index) {
-        return "call_origin_" + args + "_" + index;
+    public static String getCallOriginClassName(int type, int args, int index) {
+        return "call_origin_" + getStubTypeName(type) + args + "_" + index;
     }
 
 
     static class StubMethodsInfo {
+        int type = STUB_INT;
         int args = 0;
         int index = 0;
+        int id = 0;
         Method hook;
         Method backup;
 
-        public StubMethodsInfo(int args, int index, Method hook, Method backup) {
+        public StubMethodsInfo(int type, int args, int index, Method hook, Method backup) {
+            this(type, args, index, getMethodId(type, args, index), hook, backup);
+        }
+
+        public StubMethodsInfo(int type, int args, int index, int id, Method hook, Method backup) {
+            this.type = type;
             this.args = args;
             this.index = index;
+            this.id = id;
             this.hook = hook;
             this.backup = backup;
         }
     }
 
-    private static synchronized StubMethodsInfo getStubMethodPair(boolean is64Bit, int stubArgs) {
+    public static class StubOccupancy {
+        public final int type;
+        public final int args;
+        //static & generated stubs of this type and arg size
+        public final int total;
+        public final int used;
+        //given back by failed hooks, waiting to be reused
+        public final int free;
+        //released by unhook, never reused
+        public final int retired;
+        public final int dynamic;
+
+        StubOccupancy(int type, int args, int total, int used, int free, int retired, int dynamic) {
+            this.type = type;
+            this.args = args;
+            this.total = total;
+            this.used = used;
+            this.free = free;
+            this.retired = retired;
+            this.dynamic = dynamic;
+        }
+
+        @Override
+        public String toString() {
+            return "stub " + getStubTypeName(type) + args + " used " + used + "/" + total + ", free " + free
+                    + ", retired " + retired + ", dynamic " + dynamic;
+        }
+    }
+
+    static class DynamicStubBatch {
+        final int baseId;
+        final Method[] hooks;
+        int used = 0;
+
+        DynamicStubBatch(int baseId, Method[] hooks) {
+            this.baseId = baseId;
+            this.hooks = hooks;
+        }
+
+        boolean isFull() {
+            return used >= hooks.length;
+        }
+    }
+
+    private static synchronized StubMethodsInfo getStubMethodPair(boolean is64Bit, int stubType, int stubArgs) {
+
+        StubMethodsInfo freeStub = pollFreeStub(stubType, stubArgs);
+        if (freeStub != null)
+            return freeStub;
 
-        stubArgs = getMatchStubArgsCount(stubArgs);
+        int matchStubArgs = getMatchStubArgsCount(stubType, stubArgs);
+
+        //static stubs of this arg size are used up, generate more instead of taking bigger ones
+        if (matchStubArgs != stubArgs && canUseDynamicStub()) {
+            StubMethodsInfo dynamicStub = getDynamicStubMethodPair(stubType, stubArgs);
+            if (dynamicStub != null)
+                return dynamicStub;
+        }
+
+        stubArgs = matchStubArgs;
 
         if (stubArgs < 0)
             return null;
 
-        int curUseStubIndex = curUseStubIndexes[stubArgs].getAndIncrement();
-        Class[] pars = getFindMethodParTypes(is64Bit, stubArgs);
+        int curUseStubIndex = curUseStubIndexes[stubType][stubArgs].getAndIncrement();
+        Class[] pars = getFindMethodParTypes(is64Bit, stubType, stubArgs);
         try {
             if (is64Bit) {
-                Method hook = MethodHookerStubs64.class.getDeclaredMethod(getHookMethodName(curUseStubIndex), pars);
-                Method backup = hasStubBackup ? MethodHookerStubs64.class.getDeclaredMethod(getBackupMethodName(curUseStubIndex), pars) : StubMethodsFactory.getStubMethod();
+                Method hook = MethodHookerStubs64.class.getDeclaredMethod(getHookMethodName(stubType, curUseStubIndex), pars);
+                Method backup = hasStubBackup ? MethodHookerStubs64.class.getDeclaredMethod(getBackupMethodName(stubType, curUseStubIndex), pars) : StubMethodsFactory.getStubMethod();
                 if (hook == null || backup == null)
                     return null;
-                return new StubMethodsInfo(stubArgs, curUseStubIndex, hook, backup);
+                return new StubMethodsInfo(stubType, stubArgs, curUseStubIndex, hook, backup);
             } else {
-                Method hook = MethodHookerStubs32.class.getDeclaredMethod(getHookMethodName(curUseStubIndex), pars);
-                Method backup = hasStubBackup ? MethodHookerStubs32.class.getDeclaredMethod(getBackupMethodName(curUseStubIndex), pars) : StubMethodsFactory.getStubMethod();
+                Method hook = MethodHookerStubs32.class.getDeclaredMethod(getHookMethodName(stubType, curUseStubIndex), pars);
+                Method backup = hasStubBackup ? MethodHookerStubs32.class.getDeclaredMethod(getBackupMethodName(stubType, curUseStubIndex), pars) : StubMethodsFactory.getStubMethod();
                 if (hook == null || backup == null)
                     return null;
-                return new StubMethodsInfo(stubArgs, curUseStubIndex, hook, backup);
+                return new StubMethodsInfo(stubType, stubArgs, curUseStubIndex, hook, backup);
             }
         } catch (Throwable throwable) {
             return null;
         }
     }
 
-    public static Method getCallOriginMethod(int args, int index) {
+    private static boolean canUseDynamicStub() {
+        //generated stubs have no backup & call origin stubs
+        return XposedCompat.useDynamicStub && !hasStubBackup;
+    }
+
+    private static StubMethodsInfo getDynamicStubMethodPair(int stubType, int stubArgs) {
+        DynamicStubBatch batch = dynamicStubBatches[stubType][stubArgs];
+        if (batch == null || batch.isFull()) {
+            int baseId = ALL_STUB;
+            Method[] hooks;
+            try {
+                hooks = new DynamicStubMaker(is64Bit, stubType, stubArgs, baseId).make(DynamicBridge.getDexDirPath());
+            } catch (Throwable throwable) {
+                DexLog.e("generate internal stubs of arg size " + stubArgs + " error", throwable);
+                return null;
+            }
+            if (hooks == null)
+                return null;
+            growStubs(baseId + hooks.length);
+            batch = new DynamicStubBatch(baseId, hooks);
+            dynamicStubBatches[stubType][stubArgs] = batch;
+            dynamicStubCounts[stubType][stubArgs] += hooks.length;
+        }
+        int index = batch.used++;
+        return new StubMethodsInfo(stubType, stubArgs, index, batch.baseId + index, batch.hooks[index], StubMethodsFactory.getStubMethod());
+    }
+
+    private static void growStubs(int size) {
+        originMethods = Arrays.copyOf(originMethods, size);
+        hookMethodEntities = Arrays.copyOf(hookMethodEntities, size);
+        additionalHookInfos = Arrays.copyOf(additionalHookInfos, size);
+        stubMethodsInfos = Arrays.copyOf(stubMethodsInfos, size);
+        ALL_STUB = size;
+    }
+
+    private static StubMethodsInfo pollFreeStub(int stubType, int stubArgs) {
+        ArrayDeque<StubMethodsInfo> stubs = freeStubs[stubType][stubArgs];
+        if (stubs == null || stubs.isEmpty())
+            return null;
+        StubMethodsInfo stub = stubs.pollFirst();
+        //stub backup methods from factory are used up by the last hook
+        Method backup = hasStubBackup ? stub.backup : StubMethodsFactory.getStubMethod();
+        if (backup == null)
+            return null;
+        return new StubMethodsInfo(stub.type, stub.args, stub.index, stub.id, stub.hook, backup);
+    }
+
+    //give back the stub of a hook that was never installed, no call can be in it
+    public static synchronized boolean releaseStub(HookMethodEntity entity) {
+        StubMethodsInfo stub = detachStub(entity);
+        if (stub == null)
+            return false;
+        ArrayDeque<StubMethodsInfo> stubs = freeStubs[stub.type][stub.args];
+        if (stubs == null) {
+            stubs = new ArrayDeque<>();
+            freeStubs[stub.type][stub.args] = stubs;
+        }
+        stubs.addLast(stub);
+        return true;
+    }
+
+    //stub of a restored method is never reused, a thread may still be anywhere between the stub entry
+    //& its reads of the entries, so they stay & a late call still dispatches the restored member
+    public static synchronized boolean retireStub(HookMethodEntity entity) {
+        StubMethodsInfo stub = detachStub(entity);
+        if (stub == null)
+            return false;
+        retiredStubCounts[stub.type][stub.args]++;
+        return true;
+    }
+
+    private static StubMethodsInfo detachStub(HookMethodEntity entity) {
+        if (entity == null || entity.stubId < 0 || entity.stubId >= ALL_STUB)
+            return null;
+        int id = entity.stubId;
+        StubMethodsInfo stub = stubMethodsInfos[id];
+        if (stub == null || hookMethodEntities[id] != entity)
+            return null;
+        stubMethodsInfos[id] = null;
+        entity.stubId = -1;
+        return stub;
+    }
+
+    public static synchronized List<StubOccupancy> getStubOccupancy() {
+        List<StubOccupancy> occupancies = new ArrayList<>();
+        if (!support())
+            return occupancies;
+        for (int type = 0; type < STUB_TYPES; type++) {
+            int[] sizes = typeStubSizes[type];
+            for (int args = 0; args < sizes.length; args++) {
+                int dynamicCount = dynamicStubCounts[type][args];
+                DynamicStubBatch batch = dynamicStubBatches[type][args];
+                int unused = sizes[args] - curUseStubIndexes[type][args].get();
+                if (batch != null) {
+                    unused += batch.hooks.length - batch.used;
+                }
+                ArrayDeque<StubMethodsInfo> stubs = freeStubs[type][args];
+                int free = stubs == null ? 0 : stubs.size();
+                int retired = retiredStubCounts[type][args];
+                int total = sizes[args] + dynamicCount;
+                occupancies.add(new StubOccupancy(type, args, total, total - unused - free - retired, free, retired, dynamicCount));
+            }
+        }
+        return occupancies;
+    }
+
+    public static Method getCallOriginMethod(int type, int args, int index) {
         Class stubClass = is64Bit ? MethodHookerStubs64.class : MethodHookerStubs32.class;
         String className = stubClass.getName();
         className += "$";
-        className += getCallOriginClassName(args, index);
+        className += getCallOriginClassName(type, args, index);
         try {
             Class callOriginClass = Class.forName(className, true, stubClass.getClassLoader());
             return callOriginClass.getDeclaredMethod("call", long[].class);
@@ -197,8 +460,8 @@ public class HookStubManager {
         }
     }
 
-    public static boolean tryCompileAndResolveCallOriginMethod(Method backupMethod, int args, int index) {
-        Method method = getCallOriginMethod(args, index);
+    public static boolean tryCompileAndResolveCallOriginMethod(Method backupMethod, int type, int args, int index) {
+        Method method = getCallOriginMethod(type, args, index);
         if (method != null) {
             SandHookMethodResolver.resolveMethod(method, backupMethod);
             return SandHook.compileMethod(method);
@@ -207,18 +470,20 @@ public class HookStubManager {
         }
     }
 
-    public static int getMatchStubArgsCount(int stubArgs) {
-        for (int i = stubArgs;i <= MAX_STUB_ARGS;i++) {
-            if (curUseStubIndexes[i].get() < stubSizes[i])
+    public static int getMatchStubArgsCount(int stubType, int stubArgs) {
+        int[] sizes = typeStubSizes[stubType];
+        for (int i = stubArgs;i < sizes.length;i++) {
+            if (curUseStubIndexes[stubType][i].get() < sizes[i])
                 return i;
         }
         return -1;
     }
 
-    public static Class[] getFindMethodParTypes(boolean is64Bit, int stubArgs) {
-        if (stubArgs == 0)
+    public static Class[] getFindMethodParTypes(boolean is64Bit, int stubType, int stubArgs) {
+        int fpArgs = getStubFpArgs(stubType);
+        if (stubArgs + fpArgs == 0)
             return null;
-        Class[] args = new Class[stubArgs];
+        Class[] args = new Class[stubArgs + fpArgs];
         if (is64Bit) {
             for (int i = 0;i < stubArgs;i++) {
                 args[i] = long.class;
@@ -228,52 +493,74 @@ public class HookStubManager {
                 args[i] = int.class;
             }
         }
+        for (int i = stubArgs;i < stubArgs + fpArgs;i++) {
+            args[i] = double.class;
+        }
         return args;
     }
 
+    //called by stubs to get the stub args array of the next hookBridge
+    public static long[] stubArgs(int count) {
+        if (XposedCompat.reuseHookParam) {
+            return HookParamPool.get().next().stubArgs(count);
+        } else {
+            return count == 0 ? HookParamPool.emptyStubArgs() : new long[count];
+        }
+    }
+
     public static long hookBridge(int id, CallOriginCallBack callOrigin, long... stubArgs) throws Throwable {
+        if (!XposedCompat.reuseHookParam) {
+            return hookBridge(id, callOrigin, null, stubArgs);
+        }
+        HookParamPool pool = HookParamPool.get();
+        HookParamPool.Frame frame = pool.enter();
+        try {
+            return hookBridge(id, callOrigin, frame, stubArgs);
+        } finally {
+            pool.exit();
+        }
+    }
 
+    private static long hookBridge(int id, CallOriginCallBack callOrigin, HookParamPool.Frame frame, long... stubArgs) throws Throwable {
+
+        //entries of the id are read once at entry
         Member originMethod = originMethods[id];
         HookMethodEntity entity = hookMethodEntities[id];
-
-        Object thiz = null;
-        Object[] args = null;
-
-        if (hasArgs(stubArgs)) {
-            thiz = entity.getThis(stubArgs[0]);
-            args = entity.getArgs(stubArgs);
-        }
+        XposedBridge.AdditionalHookInfo additionalHookInfo = additionalHookInfos[id];
 
         if (XposedBridge.disableHooks) {
-            if (hasStubBackup) {
-                return callOrigin.call(stubArgs);
-            } else {
-                return callOrigin(entity, originMethod, thiz, args);
-            }
+            return callOrigin(entity, originMethod, callOrigin, stubArgs);
         }
 
         DexLog.printMethodHookIn(originMethod);
 
-        Object[] snapshot = additionalHookInfos[id].callbacks.getSnapshot();
+        XposedBridge.DispatchPlan plan = additionalHookInfo.callbacks.getDispatchPlan();
 
-        if (snapshot == null || snapshot.length == 0) {
-            if (hasStubBackup) {
-                return callOrigin.call(stubArgs);
-            } else {
-                return callOrigin(entity, originMethod, thiz, args);
-            }
+        if (plan.isEmpty()) {
+            return callOrigin(entity, originMethod, callOrigin, stubArgs);
         }
 
-        XC_MethodHook.MethodHookParam param = new XC_MethodHook.MethodHookParam();
+        //decode stub args only now that callbacks will see them
+        Object thiz = null;
+        Object[] args = null;
+
+        if (hasArgs(stubArgs)) {
+            args = frame == null ? new Object[entity.parType.length] : frame.args(entity.parType.length);
+            thiz = entity.decodeArgs(stubArgs, args);
+        }
+
+        XC_MethodHook.MethodHookParam param = frame == null ? new XC_MethodHook.MethodHookParam() : frame.param;
 
         param.method = originMethod;
         param.thisObject = thiz;
         param.args = args;
 
-        int beforeIdx = 0;
-        do {
+        XC_MethodHook[] beforeCallbacks = plan.beforeCallbacks;
+        XC_MethodHook[] afterCallbacks = plan.afterCallbacks;
+        int afterIdx = afterCallbacks.length;
+        for (int beforeIdx = 0; beforeIdx < beforeCallbacks.length; beforeIdx++) {
             try {
-                ((XC_MethodHook) snapshot[beforeIdx]).callBeforeHookedMethod(param);
+                beforeCallbacks[beforeIdx].callBeforeHookedMethod(param);
             } catch (Throwable t) {
                 // reset result (ignoring what the unexpectedly exiting callback did)
                 param.setResult(null);
@@ -282,44 +569,50 @@ public class HookStubManager {
             }
 
             if (param.returnEarly) {
-                // skip remaining "before" callbacks and corresponding "after" callbacks
-                beforeIdx++;
+                // skip remaining "before" callbacks and "after" callbacks of them
+                afterIdx = plan.afterLimits[beforeIdx];
                 break;
             }
-        } while (++beforeIdx < snapshot.length);
+        }
 
         // call original method if not requested otherwise
         if (!param.returnEarly) {
             try {
                 if (hasStubBackup) {
-                    //prepare new args
-                    long[] newArgs = entity.getArgsAddress(stubArgs, param.args);
+                    //prepare new args, raw stub args are still valid if there is nothing to encode
+                    long[] newArgs;
+                    if (entity.parType.length == 0) {
+                        newArgs = stubArgs;
+                    } else if (frame == null) {
+                        newArgs = entity.getArgsAddress(stubArgs, param.args);
+                    } else {
+                        newArgs = entity.fillArgsAddress(stubArgs, frame.originArgs(stubArgs.length), param.args);
+                    }
                     param.setResult(entity.getResult(callOrigin.call(newArgs)));
                 } else {
                     param.setResult(SandHook.callOriginMethod(originMethod, entity.backup, thiz, param.args));
                 }
             } catch (Throwable e) {
-                XposedBridge.log(e);
+                DexLog.printHookError(originMethod, e);
                 param.setThrowable(e);
             }
         }
 
         // call "after method" callbacks
-        int afterIdx = beforeIdx - 1;
-        do {
+        while (--afterIdx >= 0) {
             Object lastResult =  param.getResult();
             Throwable lastThrowable = param.getThrowable();
 
             try {
-                ((XC_MethodHook) snapshot[afterIdx]).callAfterHookedMethod(param);
+                afterCallbacks[afterIdx].callAfterHookedMethod(param);
             } catch (Throwable t) {
-                XposedBridge.log(t);
+                DexLog.printHookError(originMethod, t);
                 if (lastThrowable == null)
                     param.setResult(lastResult);
                 else
                     param.setThrowable(lastThrowable);
             }
-        } while (--afterIdx >= 0);
+        }
         if (!param.hasThrowable()) {
             return entity.getResultAddress(param.getResult());
         } else {
@@ -336,9 +629,9 @@ public class HookStubManager {
 
         DexLog.printMethodHookIn(origin);
 
-        Object[] snapshot = additionalHookInfo.callbacks.getSnapshot();
+        XposedBridge.DispatchPlan plan = additionalHookInfo.callbacks.getDispatchPlan();
 
-        if (snapshot == null || snapshot.length == 0) {
+        if (plan.isEmpty()) {
             return SandHook.callOriginMethod(origin, backup, thiz, args);
         }
 
@@ -348,10 +641,12 @@ public class HookStubManager {
         param.thisObject = thiz;
         param.args = args;
 
-        int beforeIdx = 0;
-        do {
+        XC_MethodHook[] beforeCallbacks = plan.beforeCallbacks;
+        XC_MethodHook[] afterCallbacks = plan.afterCallbacks;
+        int afterIdx = afterCallbacks.length;
+        for (int beforeIdx = 0; beforeIdx < beforeCallbacks.length; beforeIdx++) {
             try {
-                ((XC_MethodHook) snapshot[beforeIdx]).callBeforeHookedMethod(param);
+                beforeCallbacks[beforeIdx].callBeforeHookedMethod(param);
             } catch (Throwable t) {
                 // reset result (ignoring what the unexpectedly exiting callback did)
                 param.setResult(null);
@@ -360,38 +655,37 @@ public class HookStubManager {
             }
 
             if (param.returnEarly) {
-                // skip remaining "before" callbacks and corresponding "after" callbacks
-                beforeIdx++;
+                // skip remaining "before" callbacks and "after" callbacks of them
+                afterIdx = plan.afterLimits[beforeIdx];
                 break;
             }
-        } while (++beforeIdx < snapshot.length);
+        }
 
         // call original method if not requested otherwise
         if (!param.returnEarly) {
             try {
                 param.setResult(SandHook.callOriginMethod(origin, backup, thiz, param.args));
             } catch (Throwable e) {
-                XposedBridge.log(e);
+                DexLog.printHookError(origin, e);
                 param.setThrowable(e);
             }
         }
 
         // call "after method" callbacks
-        int afterIdx = beforeIdx - 1;
-        do {
+        while (--afterIdx >= 0) {
             Object lastResult =  param.getResult();
             Throwable lastThrowable = param.getThrowable();
 
             try {
-                ((XC_MethodHook) snapshot[afterIdx]).callAfterHookedMethod(param);
+                afterCallbacks[afterIdx].callAfterHookedMethod(param);
             } catch (Throwable t) {
-                XposedBridge.log(t);
+                DexLog.printHookError(origin, t);
                 if (lastThrowable == null)
                     param.setResult(lastResult);
                 else
                     param.setThrowable(lastThrowable);
             }
-        } while (--afterIdx >= 0);
+        }
         if (!param.hasThrowable()) {
             return param.getResult();
         } else {
@@ -399,6 +693,20 @@ public class HookStubManager {
         }
     }
 
+    //call origin with undecoded stub args, only decode when the backup needs reflection
+    private static long callOrigin(HookMethodEntity entity, Member origin, CallOriginCallBack callOrigin, long[] stubArgs) throws Throwable {
+        if (hasStubBackup) {
+            return callOrigin.call(stubArgs);
+        }
+        Object thiz = null;
+        Object[] args = null;
+        if (hasArgs(stubArgs)) {
+            args = new Object[entity.parType.length];
+            thiz = entity.decodeArgs(stubArgs, args);
+        }
+        return callOrigin(entity, origin, thiz, args);
+    }
+
     public final static long callOrigin(HookMethodEntity entity, Member origin, Object thiz, Object[] args) throws Throwable {
         Object res = SandHook.callOriginMethod(origin, entity.backup, thiz, args);
         return entity.getResultAddress(res);
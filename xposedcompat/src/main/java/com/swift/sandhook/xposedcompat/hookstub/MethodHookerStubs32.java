@@ -2,8 +2,13 @@ package com.swift.sandhook.xposedcompat.hookstub;
 
 import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.hookBridge;
 import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.getMethodId;
+import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.stubArgs;
 import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.originMethods;
+import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.STUB_FP;
+import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.STUB_FP_RET;
 import static com.swift.sandhook.xposedcompat.utils.DexLog.printCallOriginError;
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
 
 /**
 *   this file is auto gen by genhookstubs.py
@@ -13,1403 +18,2709 @@ public class MethodHookerStubs32 {
 
     public static boolean hasStubBackup = false;
     public static int[] stubSizes = {10, 20, 30, 30, 30, 30, 30, 20, 10, 10, 5, 5, 3};
+    public static int[] fpStubSizes = {};
+    public static int[] fpRetStubSizes = {};
 
 
 	//stub of arg size 0, index 0
     public static int stub_hook_0() throws Throwable {
-        return (int) hookBridge(getMethodId(0, 0), null );
+        long[] args = stubArgs(0);
+        return (int) hookBridge(getMethodId(0, 0), null, args);
     }
 
 
 	//stub of arg size 0, index 1
     public static int stub_hook_1() throws Throwable {
-        return (int) hookBridge(getMethodId(0, 1), null );
+        long[] args = stubArgs(0);
+        return (int) hookBridge(getMethodId(0, 1), null, args);
     }
 
 
 	//stub of arg size 0, index 2
     public static int stub_hook_2() throws Throwable {
-        return (int) hookBridge(getMethodId(0, 2), null );
+        long[] args = stubArgs(0);
+        return (int) hookBridge(getMethodId(0, 2), null, args);
     }
 
 
 	//stub of arg size 0, index 3
     public static int stub_hook_3() throws Throwable {
-        return (int) hookBridge(getMethodId(0, 3), null );
+        long[] args = stubArgs(0);
+        return (int) hookBridge(getMethodId(0, 3), null, args);
     }
 
 
 	//stub of arg size 0, index 4
     public static int stub_hook_4() throws Throwable {
-        return (int) hookBridge(getMethodId(0, 4), null );
+        long[] args = stubArgs(0);
+        return (int) hookBridge(getMethodId(0, 4), null, args);
     }
 
 
 	//stub of arg size 0, index 5
     public static int stub_hook_5() throws Throwable {
-        return (int) hookBridge(getMethodId(0, 5), null );
+        long[] args = stubArgs(0);
+        return (int) hookBridge(getMethodId(0, 5), null, args);
     }
 
 
 	//stub of arg size 0, index 6
     public static int stub_hook_6() throws Throwable {
-        return (int) hookBridge(getMethodId(0, 6), null );
+        long[] args = stubArgs(0);
+        return (int) hookBridge(getMethodId(0, 6), null, args);
     }
 
 
 	//stub of arg size 0, index 7
     public static int stub_hook_7() throws Throwable {
-        return (int) hookBridge(getMethodId(0, 7), null );
+        long[] args = stubArgs(0);
+        return (int) hookBridge(getMethodId(0, 7), null, args);
     }
 
 
 	//stub of arg size 0, index 8
     public static int stub_hook_8() throws Throwable {
-        return (int) hookBridge(getMethodId(0, 8), null );
+        long[] args = stubArgs(0);
+        return (int) hookBridge(getMethodId(0, 8), null, args);
     }
 
 
 	//stub of arg size 0, index 9
     public static int stub_hook_9() throws Throwable {
-        return (int) hookBridge(getMethodId(0, 9), null );
+        long[] args = stubArgs(0);
+        return (int) hookBridge(getMethodId(0, 9), null, args);
     }
 
 
 	//stub of arg size 1, index 0
     public static int stub_hook_0(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 0), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 0), null, args);
     }
 
 
 	//stub of arg size 1, index 1
     public static int stub_hook_1(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 1), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 1), null, args);
     }
 
 
 	//stub of arg size 1, index 2
     public static int stub_hook_2(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 2), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 2), null, args);
     }
 
 
 	//stub of arg size 1, index 3
     public static int stub_hook_3(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 3), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 3), null, args);
     }
 
 
 	//stub of arg size 1, index 4
     public static int stub_hook_4(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 4), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 4), null, args);
     }
 
 
 	//stub of arg size 1, index 5
     public static int stub_hook_5(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 5), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 5), null, args);
     }
 
 
 	//stub of arg size 1, index 6
     public static int stub_hook_6(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 6), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 6), null, args);
     }
 
 
 	//stub of arg size 1, index 7
     public static int stub_hook_7(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 7), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 7), null, args);
     }
 
 
 	//stub of arg size 1, index 8
     public static int stub_hook_8(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 8), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 8), null, args);
     }
 
 
 	//stub of arg size 1, index 9
     public static int stub_hook_9(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 9), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 9), null, args);
     }
 
 
 	//stub of arg size 1, index 10
     public static int stub_hook_10(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 10), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 10), null, args);
     }
 
 
 	//stub of arg size 1, index 11
     public static int stub_hook_11(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 11), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 11), null, args);
     }
 
 
 	//stub of arg size 1, index 12
     public static int stub_hook_12(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 12), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 12), null, args);
     }
 
 
 	//stub of arg size 1, index 13
     public static int stub_hook_13(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 13), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 13), null, args);
     }
 
 
 	//stub of arg size 1, index 14
     public static int stub_hook_14(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 14), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 14), null, args);
     }
 
 
 	//stub of arg size 1, index 15
     public static int stub_hook_15(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 15), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 15), null, args);
     }
 
 
 	//stub of arg size 1, index 16
     public static int stub_hook_16(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 16), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 16), null, args);
     }
 
 
 	//stub of arg size 1, index 17
     public static int stub_hook_17(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 17), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 17), null, args);
     }
 
 
 	//stub of arg size 1, index 18
     public static int stub_hook_18(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 18), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 18), null, args);
     }
 
 
 	//stub of arg size 1, index 19
     public static int stub_hook_19(int a0) throws Throwable {
-        return (int) hookBridge(getMethodId(1, 19), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return (int) hookBridge(getMethodId(1, 19), null, args);
     }
 
 
 	//stub of arg size 2, index 0
     public static int stub_hook_0(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 0), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 0), null, args);
     }
 
 
 	//stub of arg size 2, index 1
     public static int stub_hook_1(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 1), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 1), null, args);
     }
 
 
 	//stub of arg size 2, index 2
     public static int stub_hook_2(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 2), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 2), null, args);
     }
 
 
 	//stub of arg size 2, index 3
     public static int stub_hook_3(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 3), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 3), null, args);
     }
 
 
 	//stub of arg size 2, index 4
     public static int stub_hook_4(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 4), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 4), null, args);
     }
 
 
 	//stub of arg size 2, index 5
     public static int stub_hook_5(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 5), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 5), null, args);
     }
 
 
 	//stub of arg size 2, index 6
     public static int stub_hook_6(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 6), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 6), null, args);
     }
 
 
 	//stub of arg size 2, index 7
     public static int stub_hook_7(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 7), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 7), null, args);
     }
 
 
 	//stub of arg size 2, index 8
     public static int stub_hook_8(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 8), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 8), null, args);
     }
 
 
 	//stub of arg size 2, index 9
     public static int stub_hook_9(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 9), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 9), null, args);
     }
 
 
 	//stub of arg size 2, index 10
     public static int stub_hook_10(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 10), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 10), null, args);
     }
 
 
 	//stub of arg size 2, index 11
     public static int stub_hook_11(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 11), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 11), null, args);
     }
 
 
 	//stub of arg size 2, index 12
     public static int stub_hook_12(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 12), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 12), null, args);
     }
 
 
 	//stub of arg size 2, index 13
     public static int stub_hook_13(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 13), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 13), null, args);
     }
 
 
 	//stub of arg size 2, index 14
     public static int stub_hook_14(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 14), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 14), null, args);
     }
 
 
 	//stub of arg size 2, index 15
     public static int stub_hook_15(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 15), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 15), null, args);
     }
 
 
 	//stub of arg size 2, index 16
     public static int stub_hook_16(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 16), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 16), null, args);
     }
 
 
 	//stub of arg size 2, index 17
     public static int stub_hook_17(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 17), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 17), null, args);
     }
 
 
 	//stub of arg size 2, index 18
     public static int stub_hook_18(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 18), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 18), null, args);
     }
 
 
 	//stub of arg size 2, index 19
     public static int stub_hook_19(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 19), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 19), null, args);
     }
 
 
 	//stub of arg size 2, index 20
     public static int stub_hook_20(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 20), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 20), null, args);
     }
 
 
 	//stub of arg size 2, index 21
     public static int stub_hook_21(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 21), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 21), null, args);
     }
 
 
 	//stub of arg size 2, index 22
     public static int stub_hook_22(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 22), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 22), null, args);
     }
 
 
 	//stub of arg size 2, index 23
     public static int stub_hook_23(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 23), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 23), null, args);
     }
 
 
 	//stub of arg size 2, index 24
     public static int stub_hook_24(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 24), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 24), null, args);
     }
 
 
 	//stub of arg size 2, index 25
     public static int stub_hook_25(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 25), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 25), null, args);
     }
 
 
 	//stub of arg size 2, index 26
     public static int stub_hook_26(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 26), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 26), null, args);
     }
 
 
 	//stub of arg size 2, index 27
     public static int stub_hook_27(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 27), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 27), null, args);
     }
 
 
 	//stub of arg size 2, index 28
     public static int stub_hook_28(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 28), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 28), null, args);
     }
 
 
 	//stub of arg size 2, index 29
     public static int stub_hook_29(int a0, int a1) throws Throwable {
-        return (int) hookBridge(getMethodId(2, 29), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return (int) hookBridge(getMethodId(2, 29), null, args);
     }
 
 
 	//stub of arg size 3, index 0
     public static int stub_hook_0(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 0), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 0), null, args);
     }
 
 
 	//stub of arg size 3, index 1
     public static int stub_hook_1(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 1), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 1), null, args);
     }
 
 
 	//stub of arg size 3, index 2
     public static int stub_hook_2(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 2), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 2), null, args);
     }
 
 
 	//stub of arg size 3, index 3
     public static int stub_hook_3(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 3), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 3), null, args);
     }
 
 
 	//stub of arg size 3, index 4
     public static int stub_hook_4(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 4), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 4), null, args);
     }
 
 
 	//stub of arg size 3, index 5
     public static int stub_hook_5(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 5), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 5), null, args);
     }
 
 
 	//stub of arg size 3, index 6
     public static int stub_hook_6(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 6), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 6), null, args);
     }
 
 
 	//stub of arg size 3, index 7
     public static int stub_hook_7(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 7), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 7), null, args);
     }
 
 
 	//stub of arg size 3, index 8
     public static int stub_hook_8(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 8), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 8), null, args);
     }
 
 
 	//stub of arg size 3, index 9
     public static int stub_hook_9(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 9), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 9), null, args);
     }
 
 
 	//stub of arg size 3, index 10
     public static int stub_hook_10(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 10), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 10), null, args);
     }
 
 
 	//stub of arg size 3, index 11
     public static int stub_hook_11(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 11), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 11), null, args);
     }
 
 
 	//stub of arg size 3, index 12
     public static int stub_hook_12(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 12), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 12), null, args);
     }
 
 
 	//stub of arg size 3, index 13
     public static int stub_hook_13(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 13), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 13), null, args);
     }
 
 
 	//stub of arg size 3, index 14
     public static int stub_hook_14(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 14), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 14), null, args);
     }
 
 
 	//stub of arg size 3, index 15
     public static int stub_hook_15(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 15), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 15), null, args);
     }
 
 
 	//stub of arg size 3, index 16
     public static int stub_hook_16(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 16), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 16), null, args);
     }
 
 
 	//stub of arg size 3, index 17
     public static int stub_hook_17(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 17), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 17), null, args);
     }
 
 
 	//stub of arg size 3, index 18
     public static int stub_hook_18(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 18), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 18), null, args);
     }
 
 
 	//stub of arg size 3, index 19
     public static int stub_hook_19(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 19), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 19), null, args);
     }
 
 
 	//stub of arg size 3, index 20
     public static int stub_hook_20(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 20), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 20), null, args);
     }
 
 
 	//stub of arg size 3, index 21
     public static int stub_hook_21(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 21), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 21), null, args);
     }
 
 
 	//stub of arg size 3, index 22
     public static int stub_hook_22(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 22), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 22), null, args);
     }
 
 
 	//stub of arg size 3, index 23
     public static int stub_hook_23(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 23), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 23), null, args);
     }
 
 
 	//stub of arg size 3, index 24
     public static int stub_hook_24(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 24), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 24), null, args);
     }
 
 
 	//stub of arg size 3, index 25
     public static int stub_hook_25(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 25), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 25), null, args);
     }
 
 
 	//stub of arg size 3, index 26
     public static int stub_hook_26(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 26), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 26), null, args);
     }
 
 
 	//stub of arg size 3, index 27
     public static int stub_hook_27(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 27), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 27), null, args);
     }
 
 
 	//stub of arg size 3, index 28
     public static int stub_hook_28(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 28), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 28), null, args);
     }
 
 
 	//stub of arg size 3, index 29
     public static int stub_hook_29(int a0, int a1, int a2) throws Throwable {
-        return (int) hookBridge(getMethodId(3, 29), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return (int) hookBridge(getMethodId(3, 29), null, args);
     }
 
 
 	//stub of arg size 4, index 0
     public static int stub_hook_0(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 0), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 0), null, args);
     }
 
 
 	//stub of arg size 4, index 1
     public static int stub_hook_1(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 1), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 1), null, args);
     }
 
 
 	//stub of arg size 4, index 2
     public static int stub_hook_2(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 2), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 2), null, args);
     }
 
 
 	//stub of arg size 4, index 3
     public static int stub_hook_3(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 3), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 3), null, args);
     }
 
 
 	//stub of arg size 4, index 4
     public static int stub_hook_4(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 4), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 4), null, args);
     }
 
 
 	//stub of arg size 4, index 5
     public static int stub_hook_5(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 5), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 5), null, args);
     }
 
 
 	//stub of arg size 4, index 6
     public static int stub_hook_6(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 6), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 6), null, args);
     }
 
 
 	//stub of arg size 4, index 7
     public static int stub_hook_7(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 7), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 7), null, args);
     }
 
 
 	//stub of arg size 4, index 8
     public static int stub_hook_8(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 8), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 8), null, args);
     }
 
 
 	//stub of arg size 4, index 9
     public static int stub_hook_9(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 9), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 9), null, args);
     }
 
 
 	//stub of arg size 4, index 10
     public static int stub_hook_10(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 10), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 10), null, args);
     }
 
 
 	//stub of arg size 4, index 11
     public static int stub_hook_11(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 11), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 11), null, args);
     }
 
 
 	//stub of arg size 4, index 12
     public static int stub_hook_12(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 12), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 12), null, args);
     }
 
 
 	//stub of arg size 4, index 13
     public static int stub_hook_13(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 13), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 13), null, args);
     }
 
 
 	//stub of arg size 4, index 14
     public static int stub_hook_14(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 14), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 14), null, args);
     }
 
 
 	//stub of arg size 4, index 15
     public static int stub_hook_15(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 15), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 15), null, args);
     }
 
 
 	//stub of arg size 4, index 16
     public static int stub_hook_16(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 16), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 16), null, args);
     }
 
 
 	//stub of arg size 4, index 17
     public static int stub_hook_17(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 17), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 17), null, args);
     }
 
 
 	//stub of arg size 4, index 18
     public static int stub_hook_18(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 18), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 18), null, args);
     }
 
 
 	//stub of arg size 4, index 19
     public static int stub_hook_19(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 19), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 19), null, args);
     }
 
 
 	//stub of arg size 4, index 20
     public static int stub_hook_20(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 20), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 20), null, args);
     }
 
 
 	//stub of arg size 4, index 21
     public static int stub_hook_21(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 21), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 21), null, args);
     }
 
 
 	//stub of arg size 4, index 22
     public static int stub_hook_22(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 22), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 22), null, args);
     }
 
 
 	//stub of arg size 4, index 23
     public static int stub_hook_23(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 23), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 23), null, args);
     }
 
 
 	//stub of arg size 4, index 24
     public static int stub_hook_24(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 24), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 24), null, args);
     }
 
 
 	//stub of arg size 4, index 25
     public static int stub_hook_25(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 25), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 25), null, args);
     }
 
 
 	//stub of arg size 4, index 26
     public static int stub_hook_26(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 26), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 26), null, args);
     }
 
 
 	//stub of arg size 4, index 27
     public static int stub_hook_27(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 27), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 27), null, args);
     }
 
 
 	//stub of arg size 4, index 28
     public static int stub_hook_28(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 28), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 28), null, args);
     }
 
 
 	//stub of arg size 4, index 29
     public static int stub_hook_29(int a0, int a1, int a2, int a3) throws Throwable {
-        return (int) hookBridge(getMethodId(4, 29), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return (int) hookBridge(getMethodId(4, 29), null, args);
     }
 
 
 	//stub of arg size 5, index 0
     public static int stub_hook_0(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 0), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 0), null, args);
     }
 
 
 	//stub of arg size 5, index 1
     public static int stub_hook_1(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 1), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 1), null, args);
     }
 
 
 	//stub of arg size 5, index 2
     public static int stub_hook_2(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 2), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 2), null, args);
     }
 
 
 	//stub of arg size 5, index 3
     public static int stub_hook_3(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 3), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 3), null, args);
     }
 
 
 	//stub of arg size 5, index 4
     public static int stub_hook_4(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 4), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 4), null, args);
     }
 
 
 	//stub of arg size 5, index 5
     public static int stub_hook_5(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 5), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 5), null, args);
     }
 
 
 	//stub of arg size 5, index 6
     public static int stub_hook_6(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 6), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 6), null, args);
     }
 
 
 	//stub of arg size 5, index 7
     public static int stub_hook_7(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 7), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 7), null, args);
     }
 
 
 	//stub of arg size 5, index 8
     public static int stub_hook_8(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 8), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 8), null, args);
     }
 
 
 	//stub of arg size 5, index 9
     public static int stub_hook_9(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 9), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 9), null, args);
     }
 
 
 	//stub of arg size 5, index 10
     public static int stub_hook_10(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 10), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 10), null, args);
     }
 
 
 	//stub of arg size 5, index 11
     public static int stub_hook_11(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 11), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 11), null, args);
     }
 
 
 	//stub of arg size 5, index 12
     public static int stub_hook_12(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 12), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 12), null, args);
     }
 
 
 	//stub of arg size 5, index 13
     public static int stub_hook_13(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 13), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 13), null, args);
     }
 
 
 	//stub of arg size 5, index 14
     public static int stub_hook_14(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 14), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 14), null, args);
     }
 
 
 	//stub of arg size 5, index 15
     public static int stub_hook_15(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 15), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 15), null, args);
     }
 
 
 	//stub of arg size 5, index 16
     public static int stub_hook_16(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 16), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 16), null, args);
     }
 
 
 	//stub of arg size 5, index 17
     public static int stub_hook_17(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 17), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 17), null, args);
     }
 
 
 	//stub of arg size 5, index 18
     public static int stub_hook_18(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 18), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 18), null, args);
     }
 
 
 	//stub of arg size 5, index 19
     public static int stub_hook_19(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 19), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 19), null, args);
     }
 
 
 	//stub of arg size 5, index 20
     public static int stub_hook_20(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 20), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 20), null, args);
     }
 
 
 	//stub of arg size 5, index 21
     public static int stub_hook_21(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 21), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 21), null, args);
     }
 
 
 	//stub of arg size 5, index 22
     public static int stub_hook_22(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 22), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 22), null, args);
     }
 
 
 	//stub of arg size 5, index 23
     public static int stub_hook_23(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 23), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 23), null, args);
     }
 
 
 	//stub of arg size 5, index 24
     public static int stub_hook_24(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 24), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 24), null, args);
     }
 
 
 	//stub of arg size 5, index 25
     public static int stub_hook_25(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 25), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 25), null, args);
     }
 
 
 	//stub of arg size 5, index 26
     public static int stub_hook_26(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 26), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 26), null, args);
     }
 
 
 	//stub of arg size 5, index 27
     public static int stub_hook_27(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 27), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 27), null, args);
     }
 
 
 	//stub of arg size 5, index 28
     public static int stub_hook_28(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 28), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 28), null, args);
     }
 
 
 	//stub of arg size 5, index 29
     public static int stub_hook_29(int a0, int a1, int a2, int a3, int a4) throws Throwable {
-        return (int) hookBridge(getMethodId(5, 29), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return (int) hookBridge(getMethodId(5, 29), null, args);
     }
 
 
 	//stub of arg size 6, index 0
     public static int stub_hook_0(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 0), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 0), null, args);
     }
 
 
 	//stub of arg size 6, index 1
     public static int stub_hook_1(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 1), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 1), null, args);
     }
 
 
 	//stub of arg size 6, index 2
     public static int stub_hook_2(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 2), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 2), null, args);
     }
 
 
 	//stub of arg size 6, index 3
     public static int stub_hook_3(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 3), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 3), null, args);
     }
 
 
 	//stub of arg size 6, index 4
     public static int stub_hook_4(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 4), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 4), null, args);
     }
 
 
 	//stub of arg size 6, index 5
     public static int stub_hook_5(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 5), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 5), null, args);
     }
 
 
 	//stub of arg size 6, index 6
     public static int stub_hook_6(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 6), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 6), null, args);
     }
 
 
 	//stub of arg size 6, index 7
     public static int stub_hook_7(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 7), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 7), null, args);
     }
 
 
 	//stub of arg size 6, index 8
     public static int stub_hook_8(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 8), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 8), null, args);
     }
 
 
 	//stub of arg size 6, index 9
     public static int stub_hook_9(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 9), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 9), null, args);
     }
 
 
 	//stub of arg size 6, index 10
     public static int stub_hook_10(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 10), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 10), null, args);
     }
 
 
 	//stub of arg size 6, index 11
     public static int stub_hook_11(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 11), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 11), null, args);
     }
 
 
 	//stub of arg size 6, index 12
     public static int stub_hook_12(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 12), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 12), null, args);
     }
 
 
 	//stub of arg size 6, index 13
     public static int stub_hook_13(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 13), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 13), null, args);
     }
 
 
 	//stub of arg size 6, index 14
     public static int stub_hook_14(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 14), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 14), null, args);
     }
 
 
 	//stub of arg size 6, index 15
     public static int stub_hook_15(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 15), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 15), null, args);
     }
 
 
 	//stub of arg size 6, index 16
     public static int stub_hook_16(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 16), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 16), null, args);
     }
 
 
 	//stub of arg size 6, index 17
     public static int stub_hook_17(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 17), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 17), null, args);
     }
 
 
 	//stub of arg size 6, index 18
     public static int stub_hook_18(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 18), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 18), null, args);
     }
 
 
 	//stub of arg size 6, index 19
     public static int stub_hook_19(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 19), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 19), null, args);
     }
 
 
 	//stub of arg size 6, index 20
     public static int stub_hook_20(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 20), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 20), null, args);
     }
 
 
 	//stub of arg size 6, index 21
     public static int stub_hook_21(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 21), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 21), null, args);
     }
 
 
 	//stub of arg size 6, index 22
     public static int stub_hook_22(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 22), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 22), null, args);
     }
 
 
 	//stub of arg size 6, index 23
     public static int stub_hook_23(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 23), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 23), null, args);
     }
 
 
 	//stub of arg size 6, index 24
     public static int stub_hook_24(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 24), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 24), null, args);
     }
 
 
 	//stub of arg size 6, index 25
     public static int stub_hook_25(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 25), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 25), null, args);
     }
 
 
 	//stub of arg size 6, index 26
     public static int stub_hook_26(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 26), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 26), null, args);
     }
 
 
 	//stub of arg size 6, index 27
     public static int stub_hook_27(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 27), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 27), null, args);
     }
 
 
 	//stub of arg size 6, index 28
     public static int stub_hook_28(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 28), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 28), null, args);
     }
 
 
 	//stub of arg size 6, index 29
     public static int stub_hook_29(int a0, int a1, int a2, int a3, int a4, int a5) throws Throwable {
-        return (int) hookBridge(getMethodId(6, 29), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return (int) hookBridge(getMethodId(6, 29), null, args);
     }
 
 
 	//stub of arg size 7, index 0
     public static int stub_hook_0(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 0), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 0), null, args);
     }
 
 
 	//stub of arg size 7, index 1
     public static int stub_hook_1(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 1), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 1), null, args);
     }
 
 
 	//stub of arg size 7, index 2
     public static int stub_hook_2(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 2), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 2), null, args);
     }
 
 
 	//stub of arg size 7, index 3
     public static int stub_hook_3(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 3), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 3), null, args);
     }
 
 
 	//stub of arg size 7, index 4
     public static int stub_hook_4(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 4), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 4), null, args);
     }
 
 
 	//stub of arg size 7, index 5
     public static int stub_hook_5(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 5), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 5), null, args);
     }
 
 
 	//stub of arg size 7, index 6
     public static int stub_hook_6(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 6), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 6), null, args);
     }
 
 
 	//stub of arg size 7, index 7
     public static int stub_hook_7(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 7), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 7), null, args);
     }
 
 
 	//stub of arg size 7, index 8
     public static int stub_hook_8(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 8), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 8), null, args);
     }
 
 
 	//stub of arg size 7, index 9
     public static int stub_hook_9(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 9), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 9), null, args);
     }
 
 
 	//stub of arg size 7, index 10
     public static int stub_hook_10(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 10), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 10), null, args);
     }
 
 
 	//stub of arg size 7, index 11
     public static int stub_hook_11(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 11), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 11), null, args);
     }
 
 
 	//stub of arg size 7, index 12
     public static int stub_hook_12(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 12), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 12), null, args);
     }
 
 
 	//stub of arg size 7, index 13
     public static int stub_hook_13(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 13), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 13), null, args);
     }
 
 
 	//stub of arg size 7, index 14
     public static int stub_hook_14(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 14), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 14), null, args);
     }
 
 
 	//stub of arg size 7, index 15
     public static int stub_hook_15(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 15), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 15), null, args);
     }
 
 
 	//stub of arg size 7, index 16
     public static int stub_hook_16(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 16), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 16), null, args);
     }
 
 
 	//stub of arg size 7, index 17
     public static int stub_hook_17(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 17), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 17), null, args);
     }
 
 
 	//stub of arg size 7, index 18
     public static int stub_hook_18(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 18), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 18), null, args);
     }
 
 
 	//stub of arg size 7, index 19
     public static int stub_hook_19(int a0, int a1, int a2, int a3, int a4, int a5, int a6) throws Throwable {
-        return (int) hookBridge(getMethodId(7, 19), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return (int) hookBridge(getMethodId(7, 19), null, args);
     }
 
 
 	//stub of arg size 8, index 0
     public static int stub_hook_0(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) throws Throwable {
-        return (int) hookBridge(getMethodId(8, 0), null , a0, a1, a2, a3, a4, a5, a6, a7);
+        long[] args = stubArgs(8);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        return (int) hookBridge(getMethodId(8, 0), null, args);
     }
 
 
 	//stub of arg size 8, index 1
     public static int stub_hook_1(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) throws Throwable {
-        return (int) hookBridge(getMethodId(8, 1), null , a0, a1, a2, a3, a4, a5, a6, a7);
+        long[] args = stubArgs(8);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        return (int) hookBridge(getMethodId(8, 1), null, args);
     }
 
 
 	//stub of arg size 8, index 2
     public static int stub_hook_2(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) throws Throwable {
-        return (int) hookBridge(getMethodId(8, 2), null , a0, a1, a2, a3, a4, a5, a6, a7);
+        long[] args = stubArgs(8);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        return (int) hookBridge(getMethodId(8, 2), null, args);
     }
 
 
 	//stub of arg size 8, index 3
     public static int stub_hook_3(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) throws Throwable {
-        return (int) hookBridge(getMethodId(8, 3), null , a0, a1, a2, a3, a4, a5, a6, a7);
+        long[] args = stubArgs(8);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        return (int) hookBridge(getMethodId(8, 3), null, args);
     }
 
 
 	//stub of arg size 8, index 4
     public static int stub_hook_4(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) throws Throwable {
-        return (int) hookBridge(getMethodId(8, 4), null , a0, a1, a2, a3, a4, a5, a6, a7);
+        long[] args = stubArgs(8);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        return (int) hookBridge(getMethodId(8, 4), null, args);
     }
 
 
 	//stub of arg size 8, index 5
     public static int stub_hook_5(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) throws Throwable {
-        return (int) hookBridge(getMethodId(8, 5), null , a0, a1, a2, a3, a4, a5, a6, a7);
+        long[] args = stubArgs(8);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        return (int) hookBridge(getMethodId(8, 5), null, args);
     }
 
 
 	//stub of arg size 8, index 6
     public static int stub_hook_6(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) throws Throwable {
-        return (int) hookBridge(getMethodId(8, 6), null , a0, a1, a2, a3, a4, a5, a6, a7);
+        long[] args = stubArgs(8);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        return (int) hookBridge(getMethodId(8, 6), null, args);
     }
 
 
 	//stub of arg size 8, index 7
     public static int stub_hook_7(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) throws Throwable {
-        return (int) hookBridge(getMethodId(8, 7), null , a0, a1, a2, a3, a4, a5, a6, a7);
+        long[] args = stubArgs(8);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        return (int) hookBridge(getMethodId(8, 7), null, args);
     }
 
 
 	//stub of arg size 8, index 8
     public static int stub_hook_8(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) throws Throwable {
-        return (int) hookBridge(getMethodId(8, 8), null , a0, a1, a2, a3, a4, a5, a6, a7);
+        long[] args = stubArgs(8);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        return (int) hookBridge(getMethodId(8, 8), null, args);
     }
 
 
 	//stub of arg size 8, index 9
     public static int stub_hook_9(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) throws Throwable {
-        return (int) hookBridge(getMethodId(8, 9), null , a0, a1, a2, a3, a4, a5, a6, a7);
+        long[] args = stubArgs(8);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        return (int) hookBridge(getMethodId(8, 9), null, args);
     }
 
 
 	//stub of arg size 9, index 0
     public static int stub_hook_0(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) throws Throwable {
-        return (int) hookBridge(getMethodId(9, 0), null , a0, a1, a2, a3, a4, a5, a6, a7, a8);
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        return (int) hookBridge(getMethodId(9, 0), null, args);
     }
 
 
 	//stub of arg size 9, index 1
     public static int stub_hook_1(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) throws Throwable {
-        return (int) hookBridge(getMethodId(9, 1), null , a0, a1, a2, a3, a4, a5, a6, a7, a8);
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        return (int) hookBridge(getMethodId(9, 1), null, args);
     }
 
 
 	//stub of arg size 9, index 2
     public static int stub_hook_2(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) throws Throwable {
-        return (int) hookBridge(getMethodId(9, 2), null , a0, a1, a2, a3, a4, a5, a6, a7, a8);
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        return (int) hookBridge(getMethodId(9, 2), null, args);
     }
 
 
 	//stub of arg size 9, index 3
     public static int stub_hook_3(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) throws Throwable {
-        return (int) hookBridge(getMethodId(9, 3), null , a0, a1, a2, a3, a4, a5, a6, a7, a8);
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        return (int) hookBridge(getMethodId(9, 3), null, args);
     }
 
 
 	//stub of arg size 9, index 4
     public static int stub_hook_4(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) throws Throwable {
-        return (int) hookBridge(getMethodId(9, 4), null , a0, a1, a2, a3, a4, a5, a6, a7, a8);
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        return (int) hookBridge(getMethodId(9, 4), null, args);
     }
 
 
 	//stub of arg size 9, index 5
     public static int stub_hook_5(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) throws Throwable {
-        return (int) hookBridge(getMethodId(9, 5), null , a0, a1, a2, a3, a4, a5, a6, a7, a8);
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        return (int) hookBridge(getMethodId(9, 5), null, args);
     }
 
 
 	//stub of arg size 9, index 6
     public static int stub_hook_6(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) throws Throwable {
-        return (int) hookBridge(getMethodId(9, 6), null , a0, a1, a2, a3, a4, a5, a6, a7, a8);
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        return (int) hookBridge(getMethodId(9, 6), null, args);
     }
 
 
 	//stub of arg size 9, index 7
     public static int stub_hook_7(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) throws Throwable {
-        return (int) hookBridge(getMethodId(9, 7), null , a0, a1, a2, a3, a4, a5, a6, a7, a8);
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        return (int) hookBridge(getMethodId(9, 7), null, args);
     }
 
 
 	//stub of arg size 9, index 8
     public static int stub_hook_8(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) throws Throwable {
-        return (int) hookBridge(getMethodId(9, 8), null , a0, a1, a2, a3, a4, a5, a6, a7, a8);
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        return (int) hookBridge(getMethodId(9, 8), null, args);
     }
 
 
 	//stub of arg size 9, index 9
     public static int stub_hook_9(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) throws Throwable {
-        return (int) hookBridge(getMethodId(9, 9), null , a0, a1, a2, a3, a4, a5, a6, a7, a8);
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        return (int) hookBridge(getMethodId(9, 9), null, args);
     }
 
 
 	//stub of arg size 10, index 0
     public static int stub_hook_0(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) throws Throwable {
-        return (int) hookBridge(getMethodId(10, 0), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        return (int) hookBridge(getMethodId(10, 0), null, args);
     }
 
 
 	//stub of arg size 10, index 1
     public static int stub_hook_1(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) throws Throwable {
-        return (int) hookBridge(getMethodId(10, 1), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        return (int) hookBridge(getMethodId(10, 1), null, args);
     }
 
 
 	//stub of arg size 10, index 2
     public static int stub_hook_2(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) throws Throwable {
-        return (int) hookBridge(getMethodId(10, 2), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        return (int) hookBridge(getMethodId(10, 2), null, args);
     }
 
 
 	//stub of arg size 10, index 3
     public static int stub_hook_3(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) throws Throwable {
-        return (int) hookBridge(getMethodId(10, 3), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        return (int) hookBridge(getMethodId(10, 3), null, args);
     }
 
 
 	//stub of arg size 10, index 4
     public static int stub_hook_4(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) throws Throwable {
-        return (int) hookBridge(getMethodId(10, 4), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        return (int) hookBridge(getMethodId(10, 4), null, args);
     }
 
 
 	//stub of arg size 11, index 0
     public static int stub_hook_0(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10) throws Throwable {
-        return (int) hookBridge(getMethodId(11, 0), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        args[10] = a10;
+        return (int) hookBridge(getMethodId(11, 0), null, args);
     }
 
 
 	//stub of arg size 11, index 1
     public static int stub_hook_1(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10) throws Throwable {
-        return (int) hookBridge(getMethodId(11, 1), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        args[10] = a10;
+        return (int) hookBridge(getMethodId(11, 1), null, args);
     }
 
 
 	//stub of arg size 11, index 2
     public static int stub_hook_2(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10) throws Throwable {
-        return (int) hookBridge(getMethodId(11, 2), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        args[10] = a10;
+        return (int) hookBridge(getMethodId(11, 2), null, args);
     }
 
 
 	//stub of arg size 11, index 3
     public static int stub_hook_3(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10) throws Throwable {
-        return (int) hookBridge(getMethodId(11, 3), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        args[10] = a10;
+        return (int) hookBridge(getMethodId(11, 3), null, args);
     }
 
 
 	//stub of arg size 11, index 4
     public static int stub_hook_4(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10) throws Throwable {
-        return (int) hookBridge(getMethodId(11, 4), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        args[10] = a10;
+        return (int) hookBridge(getMethodId(11, 4), null, args);
     }
 
 
 	//stub of arg size 12, index 0
     public static int stub_hook_0(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, int a11) throws Throwable {
-        return (int) hookBridge(getMethodId(12, 0), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11);
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        args[10] = a10;
+        args[11] = a11;
+        return (int) hookBridge(getMethodId(12, 0), null, args);
     }
 
 
 	//stub of arg size 12, index 1
     public static int stub_hook_1(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, int a11) throws Throwable {
-        return (int) hookBridge(getMethodId(12, 1), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11);
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        args[10] = a10;
+        args[11] = a11;
+        return (int) hookBridge(getMethodId(12, 1), null, args);
     }
 
 
 	//stub of arg size 12, index 2
     public static int stub_hook_2(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, int a11) throws Throwable {
-        return (int) hookBridge(getMethodId(12, 2), null , a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11);
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = a7;
+        args[8] = a8;
+        args[9] = a9;
+        args[10] = a10;
+        args[11] = a11;
+        return (int) hookBridge(getMethodId(12, 2), null, args);
     }
 
 }
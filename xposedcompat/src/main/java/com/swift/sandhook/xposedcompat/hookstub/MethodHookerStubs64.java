@@ -2,8 +2,13 @@ package com.swift.sandhook.xposedcompat.hookstub;
 
 import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.hookBridge;
 import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.getMethodId;
+import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.stubArgs;
 import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.originMethods;
+import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.STUB_FP;
+import static com.swift.sandhook.xposedcompat.hookstub.HookStubManager.STUB_FP_RET;
 import static com.swift.sandhook.xposedcompat.utils.DexLog.printCallOriginError;
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
 
 /**
 *   this file is auto gen by genhookstubs.py
@@ -13,1505 +18,4535 @@ public class MethodHookerStubs64 {
 
     public static boolean hasStubBackup = false;
     public static int[] stubSizes = {10, 20, 30, 30, 30, 30, 50, 50};
+    public static int[] fpStubSizes = {5, 10, 10, 10, 5, 5, 3, 3};
+    public static int[] fpRetStubSizes = {5, 10, 10, 5, 5, 3, 3, 3};
 
 
 	//stub of arg size 0, index 0
     public static long stub_hook_0() throws Throwable {
-        return  hookBridge(getMethodId(0, 0), null );
+        long[] args = stubArgs(0);
+        return  hookBridge(getMethodId(0, 0), null, args);
     }
 
 
 	//stub of arg size 0, index 1
     public static long stub_hook_1() throws Throwable {
-        return  hookBridge(getMethodId(0, 1), null );
+        long[] args = stubArgs(0);
+        return  hookBridge(getMethodId(0, 1), null, args);
     }
 
 
 	//stub of arg size 0, index 2
     public static long stub_hook_2() throws Throwable {
-        return  hookBridge(getMethodId(0, 2), null );
+        long[] args = stubArgs(0);
+        return  hookBridge(getMethodId(0, 2), null, args);
     }
 
 
 	//stub of arg size 0, index 3
     public static long stub_hook_3() throws Throwable {
-        return  hookBridge(getMethodId(0, 3), null );
+        long[] args = stubArgs(0);
+        return  hookBridge(getMethodId(0, 3), null, args);
     }
 
 
 	//stub of arg size 0, index 4
     public static long stub_hook_4() throws Throwable {
-        return  hookBridge(getMethodId(0, 4), null );
+        long[] args = stubArgs(0);
+        return  hookBridge(getMethodId(0, 4), null, args);
     }
 
 
 	//stub of arg size 0, index 5
     public static long stub_hook_5() throws Throwable {
-        return  hookBridge(getMethodId(0, 5), null );
+        long[] args = stubArgs(0);
+        return  hookBridge(getMethodId(0, 5), null, args);
     }
 
 
 	//stub of arg size 0, index 6
     public static long stub_hook_6() throws Throwable {
-        return  hookBridge(getMethodId(0, 6), null );
+        long[] args = stubArgs(0);
+        return  hookBridge(getMethodId(0, 6), null, args);
     }
 
 
 	//stub of arg size 0, index 7
     public static long stub_hook_7() throws Throwable {
-        return  hookBridge(getMethodId(0, 7), null );
+        long[] args = stubArgs(0);
+        return  hookBridge(getMethodId(0, 7), null, args);
     }
 
 
 	//stub of arg size 0, index 8
     public static long stub_hook_8() throws Throwable {
-        return  hookBridge(getMethodId(0, 8), null );
+        long[] args = stubArgs(0);
+        return  hookBridge(getMethodId(0, 8), null, args);
     }
 
 
 	//stub of arg size 0, index 9
     public static long stub_hook_9() throws Throwable {
-        return  hookBridge(getMethodId(0, 9), null );
+        long[] args = stubArgs(0);
+        return  hookBridge(getMethodId(0, 9), null, args);
     }
 
 
 	//stub of arg size 1, index 0
     public static long stub_hook_0(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 0), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 0), null, args);
     }
 
 
 	//stub of arg size 1, index 1
     public static long stub_hook_1(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 1), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 1), null, args);
     }
 
 
 	//stub of arg size 1, index 2
     public static long stub_hook_2(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 2), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 2), null, args);
     }
 
 
 	//stub of arg size 1, index 3
     public static long stub_hook_3(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 3), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 3), null, args);
     }
 
 
 	//stub of arg size 1, index 4
     public static long stub_hook_4(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 4), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 4), null, args);
     }
 
 
 	//stub of arg size 1, index 5
     public static long stub_hook_5(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 5), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 5), null, args);
     }
 
 
 	//stub of arg size 1, index 6
     public static long stub_hook_6(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 6), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 6), null, args);
     }
 
 
 	//stub of arg size 1, index 7
     public static long stub_hook_7(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 7), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 7), null, args);
     }
 
 
 	//stub of arg size 1, index 8
     public static long stub_hook_8(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 8), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 8), null, args);
     }
 
 
 	//stub of arg size 1, index 9
     public static long stub_hook_9(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 9), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 9), null, args);
     }
 
 
 	//stub of arg size 1, index 10
     public static long stub_hook_10(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 10), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 10), null, args);
     }
 
 
 	//stub of arg size 1, index 11
     public static long stub_hook_11(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 11), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 11), null, args);
     }
 
 
 	//stub of arg size 1, index 12
     public static long stub_hook_12(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 12), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 12), null, args);
     }
 
 
 	//stub of arg size 1, index 13
     public static long stub_hook_13(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 13), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 13), null, args);
     }
 
 
 	//stub of arg size 1, index 14
     public static long stub_hook_14(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 14), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 14), null, args);
     }
 
 
 	//stub of arg size 1, index 15
     public static long stub_hook_15(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 15), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 15), null, args);
     }
 
 
 	//stub of arg size 1, index 16
     public static long stub_hook_16(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 16), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 16), null, args);
     }
 
 
 	//stub of arg size 1, index 17
     public static long stub_hook_17(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 17), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 17), null, args);
     }
 
 
 	//stub of arg size 1, index 18
     public static long stub_hook_18(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 18), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 18), null, args);
     }
 
 
 	//stub of arg size 1, index 19
     public static long stub_hook_19(long a0) throws Throwable {
-        return  hookBridge(getMethodId(1, 19), null , a0);
+        long[] args = stubArgs(1);
+        args[0] = a0;
+        return  hookBridge(getMethodId(1, 19), null, args);
     }
 
 
 	//stub of arg size 2, index 0
     public static long stub_hook_0(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 0), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 0), null, args);
     }
 
 
 	//stub of arg size 2, index 1
     public static long stub_hook_1(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 1), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 1), null, args);
     }
 
 
 	//stub of arg size 2, index 2
     public static long stub_hook_2(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 2), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 2), null, args);
     }
 
 
 	//stub of arg size 2, index 3
     public static long stub_hook_3(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 3), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 3), null, args);
     }
 
 
 	//stub of arg size 2, index 4
     public static long stub_hook_4(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 4), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 4), null, args);
     }
 
 
 	//stub of arg size 2, index 5
     public static long stub_hook_5(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 5), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 5), null, args);
     }
 
 
 	//stub of arg size 2, index 6
     public static long stub_hook_6(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 6), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 6), null, args);
     }
 
 
 	//stub of arg size 2, index 7
     public static long stub_hook_7(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 7), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 7), null, args);
     }
 
 
 	//stub of arg size 2, index 8
     public static long stub_hook_8(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 8), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 8), null, args);
     }
 
 
 	//stub of arg size 2, index 9
     public static long stub_hook_9(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 9), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 9), null, args);
     }
 
 
 	//stub of arg size 2, index 10
     public static long stub_hook_10(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 10), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 10), null, args);
     }
 
 
 	//stub of arg size 2, index 11
     public static long stub_hook_11(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 11), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 11), null, args);
     }
 
 
 	//stub of arg size 2, index 12
     public static long stub_hook_12(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 12), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 12), null, args);
     }
 
 
 	//stub of arg size 2, index 13
     public static long stub_hook_13(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 13), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 13), null, args);
     }
 
 
 	//stub of arg size 2, index 14
     public static long stub_hook_14(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 14), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 14), null, args);
     }
 
 
 	//stub of arg size 2, index 15
     public static long stub_hook_15(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 15), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 15), null, args);
     }
 
 
 	//stub of arg size 2, index 16
     public static long stub_hook_16(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 16), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 16), null, args);
     }
 
 
 	//stub of arg size 2, index 17
     public static long stub_hook_17(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 17), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 17), null, args);
     }
 
 
 	//stub of arg size 2, index 18
     public static long stub_hook_18(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 18), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 18), null, args);
     }
 
 
 	//stub of arg size 2, index 19
     public static long stub_hook_19(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 19), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 19), null, args);
     }
 
 
 	//stub of arg size 2, index 20
     public static long stub_hook_20(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 20), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 20), null, args);
     }
 
 
 	//stub of arg size 2, index 21
     public static long stub_hook_21(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 21), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 21), null, args);
     }
 
 
 	//stub of arg size 2, index 22
     public static long stub_hook_22(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 22), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 22), null, args);
     }
 
 
 	//stub of arg size 2, index 23
     public static long stub_hook_23(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 23), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 23), null, args);
     }
 
 
 	//stub of arg size 2, index 24
     public static long stub_hook_24(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 24), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 24), null, args);
     }
 
 
 	//stub of arg size 2, index 25
     public static long stub_hook_25(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 25), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 25), null, args);
     }
 
 
 	//stub of arg size 2, index 26
     public static long stub_hook_26(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 26), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 26), null, args);
     }
 
 
 	//stub of arg size 2, index 27
     public static long stub_hook_27(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 27), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 27), null, args);
     }
 
 
 	//stub of arg size 2, index 28
     public static long stub_hook_28(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 28), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 28), null, args);
     }
 
 
 	//stub of arg size 2, index 29
     public static long stub_hook_29(long a0, long a1) throws Throwable {
-        return  hookBridge(getMethodId(2, 29), null , a0, a1);
+        long[] args = stubArgs(2);
+        args[0] = a0;
+        args[1] = a1;
+        return  hookBridge(getMethodId(2, 29), null, args);
     }
 
 
 	//stub of arg size 3, index 0
     public static long stub_hook_0(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 0), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 0), null, args);
     }
 
 
 	//stub of arg size 3, index 1
     public static long stub_hook_1(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 1), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 1), null, args);
     }
 
 
 	//stub of arg size 3, index 2
     public static long stub_hook_2(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 2), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 2), null, args);
     }
 
 
 	//stub of arg size 3, index 3
     public static long stub_hook_3(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 3), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 3), null, args);
     }
 
 
 	//stub of arg size 3, index 4
     public static long stub_hook_4(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 4), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 4), null, args);
     }
 
 
 	//stub of arg size 3, index 5
     public static long stub_hook_5(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 5), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 5), null, args);
     }
 
 
 	//stub of arg size 3, index 6
     public static long stub_hook_6(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 6), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 6), null, args);
     }
 
 
 	//stub of arg size 3, index 7
     public static long stub_hook_7(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 7), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 7), null, args);
     }
 
 
 	//stub of arg size 3, index 8
     public static long stub_hook_8(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 8), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 8), null, args);
     }
 
 
 	//stub of arg size 3, index 9
     public static long stub_hook_9(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 9), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 9), null, args);
     }
 
 
 	//stub of arg size 3, index 10
     public static long stub_hook_10(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 10), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 10), null, args);
     }
 
 
 	//stub of arg size 3, index 11
     public static long stub_hook_11(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 11), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 11), null, args);
     }
 
 
 	//stub of arg size 3, index 12
     public static long stub_hook_12(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 12), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 12), null, args);
     }
 
 
 	//stub of arg size 3, index 13
     public static long stub_hook_13(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 13), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 13), null, args);
     }
 
 
 	//stub of arg size 3, index 14
     public static long stub_hook_14(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 14), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 14), null, args);
     }
 
 
 	//stub of arg size 3, index 15
     public static long stub_hook_15(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 15), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 15), null, args);
     }
 
 
 	//stub of arg size 3, index 16
     public static long stub_hook_16(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 16), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 16), null, args);
     }
 
 
 	//stub of arg size 3, index 17
     public static long stub_hook_17(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 17), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 17), null, args);
     }
 
 
 	//stub of arg size 3, index 18
     public static long stub_hook_18(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 18), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 18), null, args);
     }
 
 
 	//stub of arg size 3, index 19
     public static long stub_hook_19(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 19), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 19), null, args);
     }
 
 
 	//stub of arg size 3, index 20
     public static long stub_hook_20(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 20), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 20), null, args);
     }
 
 
 	//stub of arg size 3, index 21
     public static long stub_hook_21(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 21), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 21), null, args);
     }
 
 
 	//stub of arg size 3, index 22
     public static long stub_hook_22(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 22), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 22), null, args);
     }
 
 
 	//stub of arg size 3, index 23
     public static long stub_hook_23(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 23), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 23), null, args);
     }
 
 
 	//stub of arg size 3, index 24
     public static long stub_hook_24(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 24), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 24), null, args);
     }
 
 
 	//stub of arg size 3, index 25
     public static long stub_hook_25(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 25), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 25), null, args);
     }
 
 
 	//stub of arg size 3, index 26
     public static long stub_hook_26(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 26), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 26), null, args);
     }
 
 
 	//stub of arg size 3, index 27
     public static long stub_hook_27(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 27), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 27), null, args);
     }
 
 
 	//stub of arg size 3, index 28
     public static long stub_hook_28(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 28), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 28), null, args);
     }
 
 
 	//stub of arg size 3, index 29
     public static long stub_hook_29(long a0, long a1, long a2) throws Throwable {
-        return  hookBridge(getMethodId(3, 29), null , a0, a1, a2);
+        long[] args = stubArgs(3);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        return  hookBridge(getMethodId(3, 29), null, args);
     }
 
 
 	//stub of arg size 4, index 0
     public static long stub_hook_0(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 0), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 0), null, args);
     }
 
 
 	//stub of arg size 4, index 1
     public static long stub_hook_1(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 1), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 1), null, args);
     }
 
 
 	//stub of arg size 4, index 2
     public static long stub_hook_2(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 2), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 2), null, args);
     }
 
 
 	//stub of arg size 4, index 3
     public static long stub_hook_3(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 3), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 3), null, args);
     }
 
 
 	//stub of arg size 4, index 4
     public static long stub_hook_4(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 4), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 4), null, args);
     }
 
 
 	//stub of arg size 4, index 5
     public static long stub_hook_5(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 5), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 5), null, args);
     }
 
 
 	//stub of arg size 4, index 6
     public static long stub_hook_6(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 6), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 6), null, args);
     }
 
 
 	//stub of arg size 4, index 7
     public static long stub_hook_7(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 7), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 7), null, args);
     }
 
 
 	//stub of arg size 4, index 8
     public static long stub_hook_8(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 8), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 8), null, args);
     }
 
 
 	//stub of arg size 4, index 9
     public static long stub_hook_9(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 9), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 9), null, args);
     }
 
 
 	//stub of arg size 4, index 10
     public static long stub_hook_10(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 10), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 10), null, args);
     }
 
 
 	//stub of arg size 4, index 11
     public static long stub_hook_11(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 11), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 11), null, args);
     }
 
 
 	//stub of arg size 4, index 12
     public static long stub_hook_12(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 12), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 12), null, args);
     }
 
 
 	//stub of arg size 4, index 13
     public static long stub_hook_13(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 13), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 13), null, args);
     }
 
 
 	//stub of arg size 4, index 14
     public static long stub_hook_14(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 14), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 14), null, args);
     }
 
 
 	//stub of arg size 4, index 15
     public static long stub_hook_15(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 15), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 15), null, args);
     }
 
 
 	//stub of arg size 4, index 16
     public static long stub_hook_16(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 16), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 16), null, args);
     }
 
 
 	//stub of arg size 4, index 17
     public static long stub_hook_17(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 17), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 17), null, args);
     }
 
 
 	//stub of arg size 4, index 18
     public static long stub_hook_18(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 18), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 18), null, args);
     }
 
 
 	//stub of arg size 4, index 19
     public static long stub_hook_19(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 19), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 19), null, args);
     }
 
 
 	//stub of arg size 4, index 20
     public static long stub_hook_20(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 20), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 20), null, args);
     }
 
 
 	//stub of arg size 4, index 21
     public static long stub_hook_21(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 21), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 21), null, args);
     }
 
 
 	//stub of arg size 4, index 22
     public static long stub_hook_22(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 22), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 22), null, args);
     }
 
 
 	//stub of arg size 4, index 23
     public static long stub_hook_23(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 23), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 23), null, args);
     }
 
 
 	//stub of arg size 4, index 24
     public static long stub_hook_24(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 24), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 24), null, args);
     }
 
 
 	//stub of arg size 4, index 25
     public static long stub_hook_25(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 25), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 25), null, args);
     }
 
 
 	//stub of arg size 4, index 26
     public static long stub_hook_26(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 26), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 26), null, args);
     }
 
 
 	//stub of arg size 4, index 27
     public static long stub_hook_27(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 27), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 27), null, args);
     }
 
 
 	//stub of arg size 4, index 28
     public static long stub_hook_28(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 28), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 28), null, args);
     }
 
 
 	//stub of arg size 4, index 29
     public static long stub_hook_29(long a0, long a1, long a2, long a3) throws Throwable {
-        return  hookBridge(getMethodId(4, 29), null , a0, a1, a2, a3);
+        long[] args = stubArgs(4);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        return  hookBridge(getMethodId(4, 29), null, args);
     }
 
 
 	//stub of arg size 5, index 0
     public static long stub_hook_0(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 0), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 0), null, args);
     }
 
 
 	//stub of arg size 5, index 1
     public static long stub_hook_1(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 1), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 1), null, args);
     }
 
 
 	//stub of arg size 5, index 2
     public static long stub_hook_2(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 2), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 2), null, args);
     }
 
 
 	//stub of arg size 5, index 3
     public static long stub_hook_3(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 3), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 3), null, args);
     }
 
 
 	//stub of arg size 5, index 4
     public static long stub_hook_4(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 4), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 4), null, args);
     }
 
 
 	//stub of arg size 5, index 5
     public static long stub_hook_5(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 5), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 5), null, args);
     }
 
 
 	//stub of arg size 5, index 6
     public static long stub_hook_6(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 6), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 6), null, args);
     }
 
 
 	//stub of arg size 5, index 7
     public static long stub_hook_7(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 7), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 7), null, args);
     }
 
 
 	//stub of arg size 5, index 8
     public static long stub_hook_8(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 8), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 8), null, args);
     }
 
 
 	//stub of arg size 5, index 9
     public static long stub_hook_9(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 9), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 9), null, args);
     }
 
 
 	//stub of arg size 5, index 10
     public static long stub_hook_10(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 10), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 10), null, args);
     }
 
 
 	//stub of arg size 5, index 11
     public static long stub_hook_11(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 11), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 11), null, args);
     }
 
 
 	//stub of arg size 5, index 12
     public static long stub_hook_12(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 12), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 12), null, args);
     }
 
 
 	//stub of arg size 5, index 13
     public static long stub_hook_13(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 13), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 13), null, args);
     }
 
 
 	//stub of arg size 5, index 14
     public static long stub_hook_14(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 14), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 14), null, args);
     }
 
 
 	//stub of arg size 5, index 15
     public static long stub_hook_15(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 15), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 15), null, args);
     }
 
 
 	//stub of arg size 5, index 16
     public static long stub_hook_16(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 16), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 16), null, args);
     }
 
 
 	//stub of arg size 5, index 17
     public static long stub_hook_17(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 17), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 17), null, args);
     }
 
 
 	//stub of arg size 5, index 18
     public static long stub_hook_18(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 18), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 18), null, args);
     }
 
 
 	//stub of arg size 5, index 19
     public static long stub_hook_19(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 19), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 19), null, args);
     }
 
 
 	//stub of arg size 5, index 20
     public static long stub_hook_20(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 20), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 20), null, args);
     }
 
 
 	//stub of arg size 5, index 21
     public static long stub_hook_21(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 21), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 21), null, args);
     }
 
 
 	//stub of arg size 5, index 22
     public static long stub_hook_22(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 22), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 22), null, args);
     }
 
 
 	//stub of arg size 5, index 23
     public static long stub_hook_23(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 23), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 23), null, args);
     }
 
 
 	//stub of arg size 5, index 24
     public static long stub_hook_24(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 24), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 24), null, args);
     }
 
 
 	//stub of arg size 5, index 25
     public static long stub_hook_25(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 25), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 25), null, args);
     }
 
 
 	//stub of arg size 5, index 26
     public static long stub_hook_26(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 26), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 26), null, args);
     }
 
 
 	//stub of arg size 5, index 27
     public static long stub_hook_27(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 27), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 27), null, args);
     }
 
 
 	//stub of arg size 5, index 28
     public static long stub_hook_28(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 28), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 28), null, args);
     }
 
 
 	//stub of arg size 5, index 29
     public static long stub_hook_29(long a0, long a1, long a2, long a3, long a4) throws Throwable {
-        return  hookBridge(getMethodId(5, 29), null , a0, a1, a2, a3, a4);
+        long[] args = stubArgs(5);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        return  hookBridge(getMethodId(5, 29), null, args);
     }
 
 
 	//stub of arg size 6, index 0
     public static long stub_hook_0(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 0), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 0), null, args);
     }
 
 
 	//stub of arg size 6, index 1
     public static long stub_hook_1(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 1), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 1), null, args);
     }
 
 
 	//stub of arg size 6, index 2
     public static long stub_hook_2(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 2), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 2), null, args);
     }
 
 
 	//stub of arg size 6, index 3
     public static long stub_hook_3(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 3), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 3), null, args);
     }
 
 
 	//stub of arg size 6, index 4
     public static long stub_hook_4(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 4), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 4), null, args);
     }
 
 
 	//stub of arg size 6, index 5
     public static long stub_hook_5(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 5), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 5), null, args);
     }
 
 
 	//stub of arg size 6, index 6
     public static long stub_hook_6(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 6), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 6), null, args);
     }
 
 
 	//stub of arg size 6, index 7
     public static long stub_hook_7(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 7), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 7), null, args);
     }
 
 
 	//stub of arg size 6, index 8
     public static long stub_hook_8(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 8), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 8), null, args);
     }
 
 
 	//stub of arg size 6, index 9
     public static long stub_hook_9(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 9), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 9), null, args);
     }
 
 
 	//stub of arg size 6, index 10
     public static long stub_hook_10(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 10), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 10), null, args);
     }
 
 
 	//stub of arg size 6, index 11
     public static long stub_hook_11(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 11), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 11), null, args);
     }
 
 
 	//stub of arg size 6, index 12
     public static long stub_hook_12(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 12), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 12), null, args);
     }
 
 
 	//stub of arg size 6, index 13
     public static long stub_hook_13(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 13), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 13), null, args);
     }
 
 
 	//stub of arg size 6, index 14
     public static long stub_hook_14(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 14), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 14), null, args);
     }
 
 
 	//stub of arg size 6, index 15
     public static long stub_hook_15(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 15), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 15), null, args);
     }
 
 
 	//stub of arg size 6, index 16
     public static long stub_hook_16(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 16), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 16), null, args);
     }
 
 
 	//stub of arg size 6, index 17
     public static long stub_hook_17(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 17), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 17), null, args);
     }
 
 
 	//stub of arg size 6, index 18
     public static long stub_hook_18(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 18), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 18), null, args);
     }
 
 
 	//stub of arg size 6, index 19
     public static long stub_hook_19(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 19), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 19), null, args);
     }
 
 
 	//stub of arg size 6, index 20
     public static long stub_hook_20(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 20), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 20), null, args);
     }
 
 
 	//stub of arg size 6, index 21
     public static long stub_hook_21(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 21), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 21), null, args);
     }
 
 
 	//stub of arg size 6, index 22
     public static long stub_hook_22(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 22), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 22), null, args);
     }
 
 
 	//stub of arg size 6, index 23
     public static long stub_hook_23(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 23), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 23), null, args);
     }
 
 
 	//stub of arg size 6, index 24
     public static long stub_hook_24(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 24), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 24), null, args);
     }
 
 
 	//stub of arg size 6, index 25
     public static long stub_hook_25(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 25), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 25), null, args);
     }
 
 
 	//stub of arg size 6, index 26
     public static long stub_hook_26(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 26), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 26), null, args);
     }
 
 
 	//stub of arg size 6, index 27
     public static long stub_hook_27(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 27), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 27), null, args);
     }
 
 
 	//stub of arg size 6, index 28
     public static long stub_hook_28(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 28), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 28), null, args);
     }
 
 
 	//stub of arg size 6, index 29
     public static long stub_hook_29(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 29), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 29), null, args);
     }
 
 
 	//stub of arg size 6, index 30
     public static long stub_hook_30(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 30), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 30), null, args);
     }
 
 
 	//stub of arg size 6, index 31
     public static long stub_hook_31(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 31), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 31), null, args);
     }
 
 
 	//stub of arg size 6, index 32
     public static long stub_hook_32(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 32), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 32), null, args);
     }
 
 
 	//stub of arg size 6, index 33
     public static long stub_hook_33(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 33), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 33), null, args);
     }
 
 
 	//stub of arg size 6, index 34
     public static long stub_hook_34(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 34), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 34), null, args);
     }
 
 
 	//stub of arg size 6, index 35
     public static long stub_hook_35(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 35), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 35), null, args);
     }
 
 
 	//stub of arg size 6, index 36
     public static long stub_hook_36(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 36), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 36), null, args);
     }
 
 
 	//stub of arg size 6, index 37
     public static long stub_hook_37(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 37), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 37), null, args);
     }
 
 
 	//stub of arg size 6, index 38
     public static long stub_hook_38(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 38), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 38), null, args);
     }
 
 
 	//stub of arg size 6, index 39
     public static long stub_hook_39(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 39), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 39), null, args);
     }
 
 
 	//stub of arg size 6, index 40
     public static long stub_hook_40(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 40), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 40), null, args);
     }
 
 
 	//stub of arg size 6, index 41
     public static long stub_hook_41(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 41), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 41), null, args);
     }
 
 
 	//stub of arg size 6, index 42
     public static long stub_hook_42(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 42), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 42), null, args);
     }
 
 
 	//stub of arg size 6, index 43
     public static long stub_hook_43(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 43), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 43), null, args);
     }
 
 
 	//stub of arg size 6, index 44
     public static long stub_hook_44(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 44), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 44), null, args);
     }
 
 
 	//stub of arg size 6, index 45
     public static long stub_hook_45(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 45), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 45), null, args);
     }
 
 
 	//stub of arg size 6, index 46
     public static long stub_hook_46(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 46), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 46), null, args);
     }
 
 
 	//stub of arg size 6, index 47
     public static long stub_hook_47(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 47), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 47), null, args);
     }
 
 
 	//stub of arg size 6, index 48
     public static long stub_hook_48(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 48), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 48), null, args);
     }
 
 
 	//stub of arg size 6, index 49
     public static long stub_hook_49(long a0, long a1, long a2, long a3, long a4, long a5) throws Throwable {
-        return  hookBridge(getMethodId(6, 49), null , a0, a1, a2, a3, a4, a5);
+        long[] args = stubArgs(6);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        return  hookBridge(getMethodId(6, 49), null, args);
     }
 
 
 	//stub of arg size 7, index 0
     public static long stub_hook_0(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 0), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 0), null, args);
     }
 
 
 	//stub of arg size 7, index 1
     public static long stub_hook_1(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 1), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 1), null, args);
     }
 
 
 	//stub of arg size 7, index 2
     public static long stub_hook_2(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 2), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 2), null, args);
     }
 
 
 	//stub of arg size 7, index 3
     public static long stub_hook_3(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 3), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 3), null, args);
     }
 
 
 	//stub of arg size 7, index 4
     public static long stub_hook_4(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 4), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 4), null, args);
     }
 
 
 	//stub of arg size 7, index 5
     public static long stub_hook_5(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 5), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 5), null, args);
     }
 
 
 	//stub of arg size 7, index 6
     public static long stub_hook_6(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 6), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 6), null, args);
     }
 
 
 	//stub of arg size 7, index 7
     public static long stub_hook_7(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 7), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 7), null, args);
     }
 
 
 	//stub of arg size 7, index 8
     public static long stub_hook_8(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 8), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 8), null, args);
     }
 
 
 	//stub of arg size 7, index 9
     public static long stub_hook_9(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 9), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 9), null, args);
     }
 
 
 	//stub of arg size 7, index 10
     public static long stub_hook_10(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 10), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 10), null, args);
     }
 
 
 	//stub of arg size 7, index 11
     public static long stub_hook_11(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 11), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 11), null, args);
     }
 
 
 	//stub of arg size 7, index 12
     public static long stub_hook_12(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 12), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 12), null, args);
     }
 
 
 	//stub of arg size 7, index 13
     public static long stub_hook_13(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 13), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 13), null, args);
     }
 
 
 	//stub of arg size 7, index 14
     public static long stub_hook_14(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 14), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 14), null, args);
     }
 
 
 	//stub of arg size 7, index 15
     public static long stub_hook_15(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 15), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 15), null, args);
     }
 
 
 	//stub of arg size 7, index 16
     public static long stub_hook_16(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 16), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 16), null, args);
     }
 
 
 	//stub of arg size 7, index 17
     public static long stub_hook_17(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 17), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 17), null, args);
     }
 
 
 	//stub of arg size 7, index 18
     public static long stub_hook_18(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 18), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 18), null, args);
     }
 
 
 	//stub of arg size 7, index 19
     public static long stub_hook_19(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 19), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 19), null, args);
     }
 
 
 	//stub of arg size 7, index 20
     public static long stub_hook_20(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 20), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 20), null, args);
     }
 
 
 	//stub of arg size 7, index 21
     public static long stub_hook_21(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 21), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 21), null, args);
     }
 
 
 	//stub of arg size 7, index 22
     public static long stub_hook_22(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 22), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 22), null, args);
     }
 
 
 	//stub of arg size 7, index 23
     public static long stub_hook_23(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 23), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 23), null, args);
     }
 
 
 	//stub of arg size 7, index 24
     public static long stub_hook_24(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 24), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 24), null, args);
     }
 
 
 	//stub of arg size 7, index 25
     public static long stub_hook_25(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 25), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 25), null, args);
     }
 
 
 	//stub of arg size 7, index 26
     public static long stub_hook_26(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 26), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 26), null, args);
     }
 
 
 	//stub of arg size 7, index 27
     public static long stub_hook_27(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 27), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 27), null, args);
     }
 
 
 	//stub of arg size 7, index 28
     public static long stub_hook_28(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 28), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 28), null, args);
     }
 
 
 	//stub of arg size 7, index 29
     public static long stub_hook_29(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 29), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 29), null, args);
     }
 
 
 	//stub of arg size 7, index 30
     public static long stub_hook_30(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 30), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 30), null, args);
     }
 
 
 	//stub of arg size 7, index 31
     public static long stub_hook_31(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 31), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 31), null, args);
     }
 
 
 	//stub of arg size 7, index 32
     public static long stub_hook_32(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 32), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 32), null, args);
     }
 
 
 	//stub of arg size 7, index 33
     public static long stub_hook_33(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 33), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 33), null, args);
     }
 
 
 	//stub of arg size 7, index 34
     public static long stub_hook_34(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 34), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 34), null, args);
     }
 
 
 	//stub of arg size 7, index 35
     public static long stub_hook_35(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 35), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 35), null, args);
     }
 
 
 	//stub of arg size 7, index 36
     public static long stub_hook_36(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 36), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 36), null, args);
     }
 
 
 	//stub of arg size 7, index 37
     public static long stub_hook_37(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 37), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 37), null, args);
     }
 
 
 	//stub of arg size 7, index 38
     public static long stub_hook_38(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 38), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 38), null, args);
     }
 
 
 	//stub of arg size 7, index 39
     public static long stub_hook_39(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 39), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 39), null, args);
     }
 
 
 	//stub of arg size 7, index 40
     public static long stub_hook_40(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 40), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 40), null, args);
     }
 
 
 	//stub of arg size 7, index 41
     public static long stub_hook_41(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 41), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 41), null, args);
     }
 
 
 	//stub of arg size 7, index 42
     public static long stub_hook_42(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 42), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 42), null, args);
     }
 
 
 	//stub of arg size 7, index 43
     public static long stub_hook_43(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 43), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 43), null, args);
     }
 
 
 	//stub of arg size 7, index 44
     public static long stub_hook_44(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 44), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 44), null, args);
     }
 
 
 	//stub of arg size 7, index 45
     public static long stub_hook_45(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 45), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 45), null, args);
     }
 
 
 	//stub of arg size 7, index 46
     public static long stub_hook_46(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 46), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 46), null, args);
     }
 
 
 	//stub of arg size 7, index 47
     public static long stub_hook_47(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 47), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 47), null, args);
     }
 
 
 	//stub of arg size 7, index 48
     public static long stub_hook_48(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 48), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 48), null, args);
     }
 
 
 	//stub of arg size 7, index 49
     public static long stub_hook_49(long a0, long a1, long a2, long a3, long a4, long a5, long a6) throws Throwable {
-        return  hookBridge(getMethodId(7, 49), null , a0, a1, a2, a3, a4, a5, a6);
+        long[] args = stubArgs(7);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        return  hookBridge(getMethodId(7, 49), null, args);
+    }
+
+
+	//fp stub of arg size 0, index 0
+    public static long stub_hook_fp_0(double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(8);
+        args[0] = doubleToRawLongBits(f0);
+        args[1] = doubleToRawLongBits(f1);
+        args[2] = doubleToRawLongBits(f2);
+        args[3] = doubleToRawLongBits(f3);
+        args[4] = doubleToRawLongBits(f4);
+        args[5] = doubleToRawLongBits(f5);
+        args[6] = doubleToRawLongBits(f6);
+        args[7] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 0, 0), null, args);
+    }
+
+
+	//fp stub of arg size 0, index 1
+    public static long stub_hook_fp_1(double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(8);
+        args[0] = doubleToRawLongBits(f0);
+        args[1] = doubleToRawLongBits(f1);
+        args[2] = doubleToRawLongBits(f2);
+        args[3] = doubleToRawLongBits(f3);
+        args[4] = doubleToRawLongBits(f4);
+        args[5] = doubleToRawLongBits(f5);
+        args[6] = doubleToRawLongBits(f6);
+        args[7] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 0, 1), null, args);
+    }
+
+
+	//fp stub of arg size 0, index 2
+    public static long stub_hook_fp_2(double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(8);
+        args[0] = doubleToRawLongBits(f0);
+        args[1] = doubleToRawLongBits(f1);
+        args[2] = doubleToRawLongBits(f2);
+        args[3] = doubleToRawLongBits(f3);
+        args[4] = doubleToRawLongBits(f4);
+        args[5] = doubleToRawLongBits(f5);
+        args[6] = doubleToRawLongBits(f6);
+        args[7] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 0, 2), null, args);
+    }
+
+
+	//fp stub of arg size 0, index 3
+    public static long stub_hook_fp_3(double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(8);
+        args[0] = doubleToRawLongBits(f0);
+        args[1] = doubleToRawLongBits(f1);
+        args[2] = doubleToRawLongBits(f2);
+        args[3] = doubleToRawLongBits(f3);
+        args[4] = doubleToRawLongBits(f4);
+        args[5] = doubleToRawLongBits(f5);
+        args[6] = doubleToRawLongBits(f6);
+        args[7] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 0, 3), null, args);
+    }
+
+
+	//fp stub of arg size 0, index 4
+    public static long stub_hook_fp_4(double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(8);
+        args[0] = doubleToRawLongBits(f0);
+        args[1] = doubleToRawLongBits(f1);
+        args[2] = doubleToRawLongBits(f2);
+        args[3] = doubleToRawLongBits(f3);
+        args[4] = doubleToRawLongBits(f4);
+        args[5] = doubleToRawLongBits(f5);
+        args[6] = doubleToRawLongBits(f6);
+        args[7] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 0, 4), null, args);
+    }
+
+
+	//fp stub of arg size 1, index 0
+    public static long stub_hook_fp_0(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 1, 0), null, args);
+    }
+
+
+	//fp stub of arg size 1, index 1
+    public static long stub_hook_fp_1(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 1, 1), null, args);
+    }
+
+
+	//fp stub of arg size 1, index 2
+    public static long stub_hook_fp_2(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 1, 2), null, args);
+    }
+
+
+	//fp stub of arg size 1, index 3
+    public static long stub_hook_fp_3(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 1, 3), null, args);
+    }
+
+
+	//fp stub of arg size 1, index 4
+    public static long stub_hook_fp_4(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 1, 4), null, args);
+    }
+
+
+	//fp stub of arg size 1, index 5
+    public static long stub_hook_fp_5(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 1, 5), null, args);
+    }
+
+
+	//fp stub of arg size 1, index 6
+    public static long stub_hook_fp_6(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 1, 6), null, args);
+    }
+
+
+	//fp stub of arg size 1, index 7
+    public static long stub_hook_fp_7(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 1, 7), null, args);
+    }
+
+
+	//fp stub of arg size 1, index 8
+    public static long stub_hook_fp_8(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 1, 8), null, args);
+    }
+
+
+	//fp stub of arg size 1, index 9
+    public static long stub_hook_fp_9(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 1, 9), null, args);
+    }
+
+
+	//fp stub of arg size 2, index 0
+    public static long stub_hook_fp_0(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 2, 0), null, args);
+    }
+
+
+	//fp stub of arg size 2, index 1
+    public static long stub_hook_fp_1(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 2, 1), null, args);
+    }
+
+
+	//fp stub of arg size 2, index 2
+    public static long stub_hook_fp_2(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 2, 2), null, args);
+    }
+
+
+	//fp stub of arg size 2, index 3
+    public static long stub_hook_fp_3(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 2, 3), null, args);
+    }
+
+
+	//fp stub of arg size 2, index 4
+    public static long stub_hook_fp_4(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 2, 4), null, args);
+    }
+
+
+	//fp stub of arg size 2, index 5
+    public static long stub_hook_fp_5(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 2, 5), null, args);
+    }
+
+
+	//fp stub of arg size 2, index 6
+    public static long stub_hook_fp_6(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 2, 6), null, args);
+    }
+
+
+	//fp stub of arg size 2, index 7
+    public static long stub_hook_fp_7(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 2, 7), null, args);
+    }
+
+
+	//fp stub of arg size 2, index 8
+    public static long stub_hook_fp_8(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 2, 8), null, args);
+    }
+
+
+	//fp stub of arg size 2, index 9
+    public static long stub_hook_fp_9(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 2, 9), null, args);
+    }
+
+
+	//fp stub of arg size 3, index 0
+    public static long stub_hook_fp_0(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 3, 0), null, args);
+    }
+
+
+	//fp stub of arg size 3, index 1
+    public static long stub_hook_fp_1(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 3, 1), null, args);
+    }
+
+
+	//fp stub of arg size 3, index 2
+    public static long stub_hook_fp_2(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 3, 2), null, args);
+    }
+
+
+	//fp stub of arg size 3, index 3
+    public static long stub_hook_fp_3(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 3, 3), null, args);
+    }
+
+
+	//fp stub of arg size 3, index 4
+    public static long stub_hook_fp_4(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 3, 4), null, args);
+    }
+
+
+	//fp stub of arg size 3, index 5
+    public static long stub_hook_fp_5(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 3, 5), null, args);
+    }
+
+
+	//fp stub of arg size 3, index 6
+    public static long stub_hook_fp_6(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 3, 6), null, args);
+    }
+
+
+	//fp stub of arg size 3, index 7
+    public static long stub_hook_fp_7(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 3, 7), null, args);
+    }
+
+
+	//fp stub of arg size 3, index 8
+    public static long stub_hook_fp_8(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 3, 8), null, args);
+    }
+
+
+	//fp stub of arg size 3, index 9
+    public static long stub_hook_fp_9(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 3, 9), null, args);
+    }
+
+
+	//fp stub of arg size 4, index 0
+    public static long stub_hook_fp_0(long a0, long a1, long a2, long a3, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = doubleToRawLongBits(f0);
+        args[5] = doubleToRawLongBits(f1);
+        args[6] = doubleToRawLongBits(f2);
+        args[7] = doubleToRawLongBits(f3);
+        args[8] = doubleToRawLongBits(f4);
+        args[9] = doubleToRawLongBits(f5);
+        args[10] = doubleToRawLongBits(f6);
+        args[11] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 4, 0), null, args);
+    }
+
+
+	//fp stub of arg size 4, index 1
+    public static long stub_hook_fp_1(long a0, long a1, long a2, long a3, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = doubleToRawLongBits(f0);
+        args[5] = doubleToRawLongBits(f1);
+        args[6] = doubleToRawLongBits(f2);
+        args[7] = doubleToRawLongBits(f3);
+        args[8] = doubleToRawLongBits(f4);
+        args[9] = doubleToRawLongBits(f5);
+        args[10] = doubleToRawLongBits(f6);
+        args[11] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 4, 1), null, args);
+    }
+
+
+	//fp stub of arg size 4, index 2
+    public static long stub_hook_fp_2(long a0, long a1, long a2, long a3, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = doubleToRawLongBits(f0);
+        args[5] = doubleToRawLongBits(f1);
+        args[6] = doubleToRawLongBits(f2);
+        args[7] = doubleToRawLongBits(f3);
+        args[8] = doubleToRawLongBits(f4);
+        args[9] = doubleToRawLongBits(f5);
+        args[10] = doubleToRawLongBits(f6);
+        args[11] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 4, 2), null, args);
+    }
+
+
+	//fp stub of arg size 4, index 3
+    public static long stub_hook_fp_3(long a0, long a1, long a2, long a3, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = doubleToRawLongBits(f0);
+        args[5] = doubleToRawLongBits(f1);
+        args[6] = doubleToRawLongBits(f2);
+        args[7] = doubleToRawLongBits(f3);
+        args[8] = doubleToRawLongBits(f4);
+        args[9] = doubleToRawLongBits(f5);
+        args[10] = doubleToRawLongBits(f6);
+        args[11] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 4, 3), null, args);
+    }
+
+
+	//fp stub of arg size 4, index 4
+    public static long stub_hook_fp_4(long a0, long a1, long a2, long a3, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = doubleToRawLongBits(f0);
+        args[5] = doubleToRawLongBits(f1);
+        args[6] = doubleToRawLongBits(f2);
+        args[7] = doubleToRawLongBits(f3);
+        args[8] = doubleToRawLongBits(f4);
+        args[9] = doubleToRawLongBits(f5);
+        args[10] = doubleToRawLongBits(f6);
+        args[11] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 4, 4), null, args);
+    }
+
+
+	//fp stub of arg size 5, index 0
+    public static long stub_hook_fp_0(long a0, long a1, long a2, long a3, long a4, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(13);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = doubleToRawLongBits(f0);
+        args[6] = doubleToRawLongBits(f1);
+        args[7] = doubleToRawLongBits(f2);
+        args[8] = doubleToRawLongBits(f3);
+        args[9] = doubleToRawLongBits(f4);
+        args[10] = doubleToRawLongBits(f5);
+        args[11] = doubleToRawLongBits(f6);
+        args[12] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 5, 0), null, args);
+    }
+
+
+	//fp stub of arg size 5, index 1
+    public static long stub_hook_fp_1(long a0, long a1, long a2, long a3, long a4, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(13);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = doubleToRawLongBits(f0);
+        args[6] = doubleToRawLongBits(f1);
+        args[7] = doubleToRawLongBits(f2);
+        args[8] = doubleToRawLongBits(f3);
+        args[9] = doubleToRawLongBits(f4);
+        args[10] = doubleToRawLongBits(f5);
+        args[11] = doubleToRawLongBits(f6);
+        args[12] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 5, 1), null, args);
+    }
+
+
+	//fp stub of arg size 5, index 2
+    public static long stub_hook_fp_2(long a0, long a1, long a2, long a3, long a4, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(13);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = doubleToRawLongBits(f0);
+        args[6] = doubleToRawLongBits(f1);
+        args[7] = doubleToRawLongBits(f2);
+        args[8] = doubleToRawLongBits(f3);
+        args[9] = doubleToRawLongBits(f4);
+        args[10] = doubleToRawLongBits(f5);
+        args[11] = doubleToRawLongBits(f6);
+        args[12] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 5, 2), null, args);
+    }
+
+
+	//fp stub of arg size 5, index 3
+    public static long stub_hook_fp_3(long a0, long a1, long a2, long a3, long a4, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(13);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = doubleToRawLongBits(f0);
+        args[6] = doubleToRawLongBits(f1);
+        args[7] = doubleToRawLongBits(f2);
+        args[8] = doubleToRawLongBits(f3);
+        args[9] = doubleToRawLongBits(f4);
+        args[10] = doubleToRawLongBits(f5);
+        args[11] = doubleToRawLongBits(f6);
+        args[12] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 5, 3), null, args);
+    }
+
+
+	//fp stub of arg size 5, index 4
+    public static long stub_hook_fp_4(long a0, long a1, long a2, long a3, long a4, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(13);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = doubleToRawLongBits(f0);
+        args[6] = doubleToRawLongBits(f1);
+        args[7] = doubleToRawLongBits(f2);
+        args[8] = doubleToRawLongBits(f3);
+        args[9] = doubleToRawLongBits(f4);
+        args[10] = doubleToRawLongBits(f5);
+        args[11] = doubleToRawLongBits(f6);
+        args[12] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 5, 4), null, args);
+    }
+
+
+	//fp stub of arg size 6, index 0
+    public static long stub_hook_fp_0(long a0, long a1, long a2, long a3, long a4, long a5, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(14);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = doubleToRawLongBits(f0);
+        args[7] = doubleToRawLongBits(f1);
+        args[8] = doubleToRawLongBits(f2);
+        args[9] = doubleToRawLongBits(f3);
+        args[10] = doubleToRawLongBits(f4);
+        args[11] = doubleToRawLongBits(f5);
+        args[12] = doubleToRawLongBits(f6);
+        args[13] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 6, 0), null, args);
+    }
+
+
+	//fp stub of arg size 6, index 1
+    public static long stub_hook_fp_1(long a0, long a1, long a2, long a3, long a4, long a5, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(14);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = doubleToRawLongBits(f0);
+        args[7] = doubleToRawLongBits(f1);
+        args[8] = doubleToRawLongBits(f2);
+        args[9] = doubleToRawLongBits(f3);
+        args[10] = doubleToRawLongBits(f4);
+        args[11] = doubleToRawLongBits(f5);
+        args[12] = doubleToRawLongBits(f6);
+        args[13] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 6, 1), null, args);
+    }
+
+
+	//fp stub of arg size 6, index 2
+    public static long stub_hook_fp_2(long a0, long a1, long a2, long a3, long a4, long a5, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(14);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = doubleToRawLongBits(f0);
+        args[7] = doubleToRawLongBits(f1);
+        args[8] = doubleToRawLongBits(f2);
+        args[9] = doubleToRawLongBits(f3);
+        args[10] = doubleToRawLongBits(f4);
+        args[11] = doubleToRawLongBits(f5);
+        args[12] = doubleToRawLongBits(f6);
+        args[13] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 6, 2), null, args);
+    }
+
+
+	//fp stub of arg size 7, index 0
+    public static long stub_hook_fp_0(long a0, long a1, long a2, long a3, long a4, long a5, long a6, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(15);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = doubleToRawLongBits(f0);
+        args[8] = doubleToRawLongBits(f1);
+        args[9] = doubleToRawLongBits(f2);
+        args[10] = doubleToRawLongBits(f3);
+        args[11] = doubleToRawLongBits(f4);
+        args[12] = doubleToRawLongBits(f5);
+        args[13] = doubleToRawLongBits(f6);
+        args[14] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 7, 0), null, args);
+    }
+
+
+	//fp stub of arg size 7, index 1
+    public static long stub_hook_fp_1(long a0, long a1, long a2, long a3, long a4, long a5, long a6, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(15);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = doubleToRawLongBits(f0);
+        args[8] = doubleToRawLongBits(f1);
+        args[9] = doubleToRawLongBits(f2);
+        args[10] = doubleToRawLongBits(f3);
+        args[11] = doubleToRawLongBits(f4);
+        args[12] = doubleToRawLongBits(f5);
+        args[13] = doubleToRawLongBits(f6);
+        args[14] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 7, 1), null, args);
+    }
+
+
+	//fp stub of arg size 7, index 2
+    public static long stub_hook_fp_2(long a0, long a1, long a2, long a3, long a4, long a5, long a6, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(15);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = doubleToRawLongBits(f0);
+        args[8] = doubleToRawLongBits(f1);
+        args[9] = doubleToRawLongBits(f2);
+        args[10] = doubleToRawLongBits(f3);
+        args[11] = doubleToRawLongBits(f4);
+        args[12] = doubleToRawLongBits(f5);
+        args[13] = doubleToRawLongBits(f6);
+        args[14] = doubleToRawLongBits(f7);
+        return  hookBridge(getMethodId(STUB_FP, 7, 2), null, args);
+    }
+
+
+	//fp ret stub of arg size 0, index 0
+    public static double stub_hook_fpr_0(double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(8);
+        args[0] = doubleToRawLongBits(f0);
+        args[1] = doubleToRawLongBits(f1);
+        args[2] = doubleToRawLongBits(f2);
+        args[3] = doubleToRawLongBits(f3);
+        args[4] = doubleToRawLongBits(f4);
+        args[5] = doubleToRawLongBits(f5);
+        args[6] = doubleToRawLongBits(f6);
+        args[7] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 0, 0), null, args));
+    }
+
+
+	//fp ret stub of arg size 0, index 1
+    public static double stub_hook_fpr_1(double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(8);
+        args[0] = doubleToRawLongBits(f0);
+        args[1] = doubleToRawLongBits(f1);
+        args[2] = doubleToRawLongBits(f2);
+        args[3] = doubleToRawLongBits(f3);
+        args[4] = doubleToRawLongBits(f4);
+        args[5] = doubleToRawLongBits(f5);
+        args[6] = doubleToRawLongBits(f6);
+        args[7] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 0, 1), null, args));
+    }
+
+
+	//fp ret stub of arg size 0, index 2
+    public static double stub_hook_fpr_2(double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(8);
+        args[0] = doubleToRawLongBits(f0);
+        args[1] = doubleToRawLongBits(f1);
+        args[2] = doubleToRawLongBits(f2);
+        args[3] = doubleToRawLongBits(f3);
+        args[4] = doubleToRawLongBits(f4);
+        args[5] = doubleToRawLongBits(f5);
+        args[6] = doubleToRawLongBits(f6);
+        args[7] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 0, 2), null, args));
+    }
+
+
+	//fp ret stub of arg size 0, index 3
+    public static double stub_hook_fpr_3(double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(8);
+        args[0] = doubleToRawLongBits(f0);
+        args[1] = doubleToRawLongBits(f1);
+        args[2] = doubleToRawLongBits(f2);
+        args[3] = doubleToRawLongBits(f3);
+        args[4] = doubleToRawLongBits(f4);
+        args[5] = doubleToRawLongBits(f5);
+        args[6] = doubleToRawLongBits(f6);
+        args[7] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 0, 3), null, args));
+    }
+
+
+	//fp ret stub of arg size 0, index 4
+    public static double stub_hook_fpr_4(double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(8);
+        args[0] = doubleToRawLongBits(f0);
+        args[1] = doubleToRawLongBits(f1);
+        args[2] = doubleToRawLongBits(f2);
+        args[3] = doubleToRawLongBits(f3);
+        args[4] = doubleToRawLongBits(f4);
+        args[5] = doubleToRawLongBits(f5);
+        args[6] = doubleToRawLongBits(f6);
+        args[7] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 0, 4), null, args));
+    }
+
+
+	//fp ret stub of arg size 1, index 0
+    public static double stub_hook_fpr_0(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 1, 0), null, args));
+    }
+
+
+	//fp ret stub of arg size 1, index 1
+    public static double stub_hook_fpr_1(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 1, 1), null, args));
+    }
+
+
+	//fp ret stub of arg size 1, index 2
+    public static double stub_hook_fpr_2(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 1, 2), null, args));
+    }
+
+
+	//fp ret stub of arg size 1, index 3
+    public static double stub_hook_fpr_3(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 1, 3), null, args));
+    }
+
+
+	//fp ret stub of arg size 1, index 4
+    public static double stub_hook_fpr_4(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 1, 4), null, args));
+    }
+
+
+	//fp ret stub of arg size 1, index 5
+    public static double stub_hook_fpr_5(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 1, 5), null, args));
+    }
+
+
+	//fp ret stub of arg size 1, index 6
+    public static double stub_hook_fpr_6(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 1, 6), null, args));
+    }
+
+
+	//fp ret stub of arg size 1, index 7
+    public static double stub_hook_fpr_7(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 1, 7), null, args));
+    }
+
+
+	//fp ret stub of arg size 1, index 8
+    public static double stub_hook_fpr_8(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 1, 8), null, args));
+    }
+
+
+	//fp ret stub of arg size 1, index 9
+    public static double stub_hook_fpr_9(long a0, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(9);
+        args[0] = a0;
+        args[1] = doubleToRawLongBits(f0);
+        args[2] = doubleToRawLongBits(f1);
+        args[3] = doubleToRawLongBits(f2);
+        args[4] = doubleToRawLongBits(f3);
+        args[5] = doubleToRawLongBits(f4);
+        args[6] = doubleToRawLongBits(f5);
+        args[7] = doubleToRawLongBits(f6);
+        args[8] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 1, 9), null, args));
+    }
+
+
+	//fp ret stub of arg size 2, index 0
+    public static double stub_hook_fpr_0(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 2, 0), null, args));
+    }
+
+
+	//fp ret stub of arg size 2, index 1
+    public static double stub_hook_fpr_1(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 2, 1), null, args));
+    }
+
+
+	//fp ret stub of arg size 2, index 2
+    public static double stub_hook_fpr_2(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 2, 2), null, args));
+    }
+
+
+	//fp ret stub of arg size 2, index 3
+    public static double stub_hook_fpr_3(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 2, 3), null, args));
+    }
+
+
+	//fp ret stub of arg size 2, index 4
+    public static double stub_hook_fpr_4(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 2, 4), null, args));
+    }
+
+
+	//fp ret stub of arg size 2, index 5
+    public static double stub_hook_fpr_5(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 2, 5), null, args));
+    }
+
+
+	//fp ret stub of arg size 2, index 6
+    public static double stub_hook_fpr_6(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 2, 6), null, args));
+    }
+
+
+	//fp ret stub of arg size 2, index 7
+    public static double stub_hook_fpr_7(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 2, 7), null, args));
+    }
+
+
+	//fp ret stub of arg size 2, index 8
+    public static double stub_hook_fpr_8(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 2, 8), null, args));
+    }
+
+
+	//fp ret stub of arg size 2, index 9
+    public static double stub_hook_fpr_9(long a0, long a1, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(10);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = doubleToRawLongBits(f0);
+        args[3] = doubleToRawLongBits(f1);
+        args[4] = doubleToRawLongBits(f2);
+        args[5] = doubleToRawLongBits(f3);
+        args[6] = doubleToRawLongBits(f4);
+        args[7] = doubleToRawLongBits(f5);
+        args[8] = doubleToRawLongBits(f6);
+        args[9] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 2, 9), null, args));
+    }
+
+
+	//fp ret stub of arg size 3, index 0
+    public static double stub_hook_fpr_0(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 3, 0), null, args));
+    }
+
+
+	//fp ret stub of arg size 3, index 1
+    public static double stub_hook_fpr_1(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 3, 1), null, args));
+    }
+
+
+	//fp ret stub of arg size 3, index 2
+    public static double stub_hook_fpr_2(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 3, 2), null, args));
+    }
+
+
+	//fp ret stub of arg size 3, index 3
+    public static double stub_hook_fpr_3(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 3, 3), null, args));
+    }
+
+
+	//fp ret stub of arg size 3, index 4
+    public static double stub_hook_fpr_4(long a0, long a1, long a2, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(11);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = doubleToRawLongBits(f0);
+        args[4] = doubleToRawLongBits(f1);
+        args[5] = doubleToRawLongBits(f2);
+        args[6] = doubleToRawLongBits(f3);
+        args[7] = doubleToRawLongBits(f4);
+        args[8] = doubleToRawLongBits(f5);
+        args[9] = doubleToRawLongBits(f6);
+        args[10] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 3, 4), null, args));
+    }
+
+
+	//fp ret stub of arg size 4, index 0
+    public static double stub_hook_fpr_0(long a0, long a1, long a2, long a3, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = doubleToRawLongBits(f0);
+        args[5] = doubleToRawLongBits(f1);
+        args[6] = doubleToRawLongBits(f2);
+        args[7] = doubleToRawLongBits(f3);
+        args[8] = doubleToRawLongBits(f4);
+        args[9] = doubleToRawLongBits(f5);
+        args[10] = doubleToRawLongBits(f6);
+        args[11] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 4, 0), null, args));
+    }
+
+
+	//fp ret stub of arg size 4, index 1
+    public static double stub_hook_fpr_1(long a0, long a1, long a2, long a3, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = doubleToRawLongBits(f0);
+        args[5] = doubleToRawLongBits(f1);
+        args[6] = doubleToRawLongBits(f2);
+        args[7] = doubleToRawLongBits(f3);
+        args[8] = doubleToRawLongBits(f4);
+        args[9] = doubleToRawLongBits(f5);
+        args[10] = doubleToRawLongBits(f6);
+        args[11] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 4, 1), null, args));
+    }
+
+
+	//fp ret stub of arg size 4, index 2
+    public static double stub_hook_fpr_2(long a0, long a1, long a2, long a3, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = doubleToRawLongBits(f0);
+        args[5] = doubleToRawLongBits(f1);
+        args[6] = doubleToRawLongBits(f2);
+        args[7] = doubleToRawLongBits(f3);
+        args[8] = doubleToRawLongBits(f4);
+        args[9] = doubleToRawLongBits(f5);
+        args[10] = doubleToRawLongBits(f6);
+        args[11] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 4, 2), null, args));
+    }
+
+
+	//fp ret stub of arg size 4, index 3
+    public static double stub_hook_fpr_3(long a0, long a1, long a2, long a3, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = doubleToRawLongBits(f0);
+        args[5] = doubleToRawLongBits(f1);
+        args[6] = doubleToRawLongBits(f2);
+        args[7] = doubleToRawLongBits(f3);
+        args[8] = doubleToRawLongBits(f4);
+        args[9] = doubleToRawLongBits(f5);
+        args[10] = doubleToRawLongBits(f6);
+        args[11] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 4, 3), null, args));
+    }
+
+
+	//fp ret stub of arg size 4, index 4
+    public static double stub_hook_fpr_4(long a0, long a1, long a2, long a3, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(12);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = doubleToRawLongBits(f0);
+        args[5] = doubleToRawLongBits(f1);
+        args[6] = doubleToRawLongBits(f2);
+        args[7] = doubleToRawLongBits(f3);
+        args[8] = doubleToRawLongBits(f4);
+        args[9] = doubleToRawLongBits(f5);
+        args[10] = doubleToRawLongBits(f6);
+        args[11] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 4, 4), null, args));
+    }
+
+
+	//fp ret stub of arg size 5, index 0
+    public static double stub_hook_fpr_0(long a0, long a1, long a2, long a3, long a4, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(13);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = doubleToRawLongBits(f0);
+        args[6] = doubleToRawLongBits(f1);
+        args[7] = doubleToRawLongBits(f2);
+        args[8] = doubleToRawLongBits(f3);
+        args[9] = doubleToRawLongBits(f4);
+        args[10] = doubleToRawLongBits(f5);
+        args[11] = doubleToRawLongBits(f6);
+        args[12] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 5, 0), null, args));
+    }
+
+
+	//fp ret stub of arg size 5, index 1
+    public static double stub_hook_fpr_1(long a0, long a1, long a2, long a3, long a4, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(13);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = doubleToRawLongBits(f0);
+        args[6] = doubleToRawLongBits(f1);
+        args[7] = doubleToRawLongBits(f2);
+        args[8] = doubleToRawLongBits(f3);
+        args[9] = doubleToRawLongBits(f4);
+        args[10] = doubleToRawLongBits(f5);
+        args[11] = doubleToRawLongBits(f6);
+        args[12] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 5, 1), null, args));
+    }
+
+
+	//fp ret stub of arg size 5, index 2
+    public static double stub_hook_fpr_2(long a0, long a1, long a2, long a3, long a4, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(13);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = doubleToRawLongBits(f0);
+        args[6] = doubleToRawLongBits(f1);
+        args[7] = doubleToRawLongBits(f2);
+        args[8] = doubleToRawLongBits(f3);
+        args[9] = doubleToRawLongBits(f4);
+        args[10] = doubleToRawLongBits(f5);
+        args[11] = doubleToRawLongBits(f6);
+        args[12] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 5, 2), null, args));
+    }
+
+
+	//fp ret stub of arg size 6, index 0
+    public static double stub_hook_fpr_0(long a0, long a1, long a2, long a3, long a4, long a5, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(14);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = doubleToRawLongBits(f0);
+        args[7] = doubleToRawLongBits(f1);
+        args[8] = doubleToRawLongBits(f2);
+        args[9] = doubleToRawLongBits(f3);
+        args[10] = doubleToRawLongBits(f4);
+        args[11] = doubleToRawLongBits(f5);
+        args[12] = doubleToRawLongBits(f6);
+        args[13] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 6, 0), null, args));
+    }
+
+
+	//fp ret stub of arg size 6, index 1
+    public static double stub_hook_fpr_1(long a0, long a1, long a2, long a3, long a4, long a5, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(14);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = doubleToRawLongBits(f0);
+        args[7] = doubleToRawLongBits(f1);
+        args[8] = doubleToRawLongBits(f2);
+        args[9] = doubleToRawLongBits(f3);
+        args[10] = doubleToRawLongBits(f4);
+        args[11] = doubleToRawLongBits(f5);
+        args[12] = doubleToRawLongBits(f6);
+        args[13] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 6, 1), null, args));
+    }
+
+
+	//fp ret stub of arg size 6, index 2
+    public static double stub_hook_fpr_2(long a0, long a1, long a2, long a3, long a4, long a5, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(14);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = doubleToRawLongBits(f0);
+        args[7] = doubleToRawLongBits(f1);
+        args[8] = doubleToRawLongBits(f2);
+        args[9] = doubleToRawLongBits(f3);
+        args[10] = doubleToRawLongBits(f4);
+        args[11] = doubleToRawLongBits(f5);
+        args[12] = doubleToRawLongBits(f6);
+        args[13] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 6, 2), null, args));
+    }
+
+
+	//fp ret stub of arg size 7, index 0
+    public static double stub_hook_fpr_0(long a0, long a1, long a2, long a3, long a4, long a5, long a6, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(15);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = doubleToRawLongBits(f0);
+        args[8] = doubleToRawLongBits(f1);
+        args[9] = doubleToRawLongBits(f2);
+        args[10] = doubleToRawLongBits(f3);
+        args[11] = doubleToRawLongBits(f4);
+        args[12] = doubleToRawLongBits(f5);
+        args[13] = doubleToRawLongBits(f6);
+        args[14] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 7, 0), null, args));
+    }
+
+
+	//fp ret stub of arg size 7, index 1
+    public static double stub_hook_fpr_1(long a0, long a1, long a2, long a3, long a4, long a5, long a6, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(15);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = doubleToRawLongBits(f0);
+        args[8] = doubleToRawLongBits(f1);
+        args[9] = doubleToRawLongBits(f2);
+        args[10] = doubleToRawLongBits(f3);
+        args[11] = doubleToRawLongBits(f4);
+        args[12] = doubleToRawLongBits(f5);
+        args[13] = doubleToRawLongBits(f6);
+        args[14] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 7, 1), null, args));
+    }
+
+
+	//fp ret stub of arg size 7, index 2
+    public static double stub_hook_fpr_2(long a0, long a1, long a2, long a3, long a4, long a5, long a6, double f0, double f1, double f2, double f3, double f4, double f5, double f6, double f7) throws Throwable {
+        long[] args = stubArgs(15);
+        args[0] = a0;
+        args[1] = a1;
+        args[2] = a2;
+        args[3] = a3;
+        args[4] = a4;
+        args[5] = a5;
+        args[6] = a6;
+        args[7] = doubleToRawLongBits(f0);
+        args[8] = doubleToRawLongBits(f1);
+        args[9] = doubleToRawLongBits(f2);
+        args[10] = doubleToRawLongBits(f3);
+        args[11] = doubleToRawLongBits(f4);
+        args[12] = doubleToRawLongBits(f5);
+        args[13] = doubleToRawLongBits(f6);
+        args[14] = doubleToRawLongBits(f7);
+        return longBitsToDouble(hookBridge(getMethodId(STUB_FP_RET, 7, 2), null, args));
     }
 
 }
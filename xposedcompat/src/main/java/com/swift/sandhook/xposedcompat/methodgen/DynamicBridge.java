@@ -3,6 +3,7 @@ package com.swift.sandhook.xposedcompat.methodgen;
 import android.os.Trace;
 
 import com.swift.sandhook.SandHook;
+import com.swift.sandhook.SandHookConfig;
 import com.swift.sandhook.blacklist.HookBlackList;
 import com.swift.sandhook.wrapper.HookWrapper;
 import com.swift.sandhook.xposedcompat.XposedCompat;
@@ -17,48 +18,150 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import de.robv.android.xposed.XposedBridge;
 
 public final class DynamicBridge {
 
-    private static HookMaker defaultHookMaker = XposedCompat.useNewCallBackup ? new HookerDexMakerNew() : new HookerDexMaker();
     private static final AtomicBoolean dexPathInited = new AtomicBoolean(false);
-    private static File dexDir;
+    private static volatile File dexDir;
 
     //use internal stubs
-    private final static Map<Member,HookMethodEntity> entityMap = new HashMap<>();
+    private final static Map<Member,HookMethodEntity> entityMap = new ConcurrentHashMap<>();
     //use dex maker
-    private final static HashMap<Member, Method> hookedInfo = new HashMap<>();
+    private final static Map<Member, Method> hookedInfo = new ConcurrentHashMap<>();
+    //installing & installed hooks, a second hook of the same member waits on the first one
+    private final static ConcurrentHashMap<Member, HookInstallation> installations = new ConcurrentHashMap<>();
 
-    public static synchronized void hookMethod(Member hookMethod, XposedBridge.AdditionalHookInfo additionalHookInfo) {
+    private static volatile ExecutorService installExecutor;
 
-        if (!checkMember(hookMethod)) {
-            return;
+    static {
+        //origin calls of dex maker hookers go through the invokers generated with them
+        if (SandHookConfig.backupInvokerFactory == null) {
+            SandHookConfig.backupInvokerFactory = new HookerInvokerFactory();
         }
+    }
 
-        if (hookedInfo.containsKey(hookMethod) || entityMap.containsKey(hookMethod)) {
-            DexLog.w("already hook method:" + hookMethod.toString());
-            return;
+    public static void hookMethod(Member hookMethod, XposedBridge.AdditionalHookInfo additionalHookInfo) {
+        HookInstallation installation = startInstallation(hookMethod, additionalHookInfo, null, null);
+        if (installation != null) {
+            installation.run();
         }
+    }
 
-        try {
-            if (dexPathInited.compareAndSet(false, true)) {
+    //install hooks of different members in parallel, return after all of them are done
+    public static void hookMethods(Map<Member, XposedBridge.AdditionalHookInfo> hookMethods) {
+        ExecutorService executor = hookMethods.size() > 1 ? getInstallExecutor() : null;
+        //members falling back to dex maker are made in one dex of each class loader after all are prepared
+        HookerBatches batches = XposedCompat.batchDexMakerHooks && hookMethods.size() > 1 ? new HookerBatches() : null;
+        List<HookInstallation> waits = new ArrayList<>();
+        //installations of other callers, waited after ours are done, they may wait on ours too
+        List<HookInstallation> foreign = new ArrayList<>();
+        for (Map.Entry<Member, XposedBridge.AdditionalHookInfo> hookMethod : hookMethods.entrySet()) {
+            HookInstallation installation = startInstallation(hookMethod.getKey(), hookMethod.getValue(), batches, foreign);
+            if (installation != null) {
+                waits.add(installation);
+            }
+        }
+        final CountDownLatch prepared = new CountDownLatch(waits.size());
+        for (final HookInstallation installation : waits) {
+            Runnable task = new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        installation.run();
+                    } finally {
+                        prepared.countDown();
+                    }
+                }
+            };
+            if (executor != null) {
                 try {
-                    String fixedAppDataDir = XposedCompat.getCacheDir().getAbsolutePath();
-                    dexDir = new File(fixedAppDataDir, "/sandxposed/");
-                    if (!dexDir.exists())
-                        dexDir.mkdirs();
-                } catch (Throwable throwable) {
-                    DexLog.e("error when init dex path", throwable);
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    task.run();
                 }
+            } else {
+                task.run();
             }
+        }
+        if (batches != null) {
+            awaitUninterruptibly(prepared);
+            batches.make();
+        }
+        for (HookInstallation installation : waits) {
+            installation.await();
+        }
+        for (HookInstallation installation : foreign) {
+            installation.await();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        for (;;) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static boolean waitForInstall(Member hookMethod) {
+        HookInstallation installation = installations.get(hookMethod);
+        return installation != null && installation.await();
+    }
+
+    //returns the installation the caller has to run, or null if the member is already hooked or can not be hooked,
+    //installation of another caller is added to foreign if not null, or waited here
+    private static HookInstallation startInstallation(Member hookMethod, XposedBridge.AdditionalHookInfo additionalHookInfo, HookerBatches batches, List<HookInstallation> foreign) {
+        if (!checkMember(hookMethod)) {
+            return null;
+        }
+        HookInstallation installation = new HookInstallation(hookMethod, additionalHookInfo, batches);
+        HookInstallation installing = installations.putIfAbsent(hookMethod, installation);
+        if (installing != null) {
+            DexLog.w("already hook method:" + hookMethod.toString());
+            if (foreign != null) {
+                foreign.add(installing);
+            } else {
+                installing.await();
+            }
+            return null;
+        }
+        return installation;
+    }
+
+    //null if the hooker is declared in a batch, the batch completes the installation
+    private static Boolean install(Member hookMethod, XposedBridge.AdditionalHookInfo additionalHookInfo, HookerBatches batches) {
+        HookMethodEntity stub = null;
+        try {
+            initDexPath();
             Trace.beginSection("SandHook-Xposed");
             long timeStart = System.currentTimeMillis();
-            HookMethodEntity stub = null;
             if (XposedCompat.useInternalStub && !HookBlackList.canNotHookByStub(hookMethod) && !HookBlackList.canNotHookByBridge(hookMethod)) {
                 stub = HookStubManager.getHookMethodEntity(hookMethod, additionalHookInfo);
             }
@@ -66,23 +169,261 @@ public final class DynamicBridge {
                 SandHook.hook(new HookWrapper.HookEntity(hookMethod, stub.hook, stub.backup, false));
                 entityMap.put(hookMethod, stub);
             } else {
+                //hook makers keep state of the member in making, one for each install
                 HookMaker hookMaker;
-                if (HookBlackList.canNotHookByBridge(hookMethod)) {
+                if (HookBlackList.canNotHookByBridge(hookMethod) || !XposedCompat.useNewCallBackup) {
                     hookMaker = new HookerDexMaker();
                 } else {
-                    hookMaker = defaultHookMaker;
+                    hookMaker = new HookerDexMakerNew();
+                }
+                if (batches == null) {
+                    hookMaker.start(hookMethod, additionalHookInfo,
+                            new ProxyClassLoader(DynamicBridge.class.getClassLoader(), hookMethod.getDeclaringClass().getClassLoader()), getDexDirPath());
+                } else {
+                    HookerDexBatch batch = batches.getBatch(hookMethod);
+                    HookWrapper.HookEntity hookEntity = hookMaker.prepare(hookMethod, additionalHookInfo, batch.getAppClassLoader(), getDexDirPath());
+                    if (hookEntity == null) {
+                        batches.add(batch, hookMaker, installations.get(hookMethod));
+                        Trace.endSection();
+                        return null;
+                    }
+                    SandHook.hook(hookEntity);
                 }
-                hookMaker.start(hookMethod, additionalHookInfo,
-                        new ProxyClassLoader(DynamicBridge.class.getClassLoader(), hookMethod.getDeclaringClass().getClassLoader()), dexDir == null ? null : dexDir.getAbsolutePath());
                 hookedInfo.put(hookMethod, hookMaker.getCallBackupMethod());
             }
             DexLog.d("hook method <" + hookMethod.toString() + "> cost " + (System.currentTimeMillis() - timeStart) + " ms, by " + (stub != null ? "internal stub" : "dex maker"));
             Trace.endSection();
+            return true;
         } catch (Throwable e) {
             DexLog.e("error occur when hook method <" + hookMethod.toString() + ">", e);
+            //stub is not installed, give it back
+            if (stub != null && !entityMap.containsKey(hookMethod)) {
+                HookStubManager.releaseStub(stub);
+            }
+            return false;
+        }
+    }
+
+    private static void initDexPath() {
+        if (dexPathInited.get())
+            return;
+        synchronized (dexPathInited) {
+            if (dexPathInited.get())
+                return;
+            try {
+                String fixedAppDataDir = XposedCompat.getCacheDir().getAbsolutePath();
+                File dir = new File(fixedAppDataDir, "/sandxposed/");
+                if (!dir.exists())
+                    dir.mkdirs();
+                dexDir = dir;
+                HookerDexCache.open(dir);
+            } catch (Throwable throwable) {
+                DexLog.e("error when init dex path", throwable);
+            }
+            dexPathInited.set(true);
         }
     }
 
+    private static ExecutorService getInstallExecutor() {
+        int threads = XposedCompat.hookInstallThreads;
+        if (threads <= 1)
+            return null;
+        if (installExecutor == null) {
+            synchronized (DynamicBridge.class) {
+                if (installExecutor == null) {
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                        private final AtomicInteger count = new AtomicInteger();
+                        @Override
+                        public Thread newThread(Runnable runnable) {
+                            Thread thread = new Thread(runnable, "SandHook-Install-" + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+                    //no idle threads once startup hooks are done
+                    executor.allowCoreThreadTimeOut(true);
+                    installExecutor = executor;
+                }
+            }
+        }
+        return installExecutor;
+    }
+
+    //restore a method whose callbacks are all removed, internal stub of it can be reused
+    public static boolean unhookMethod(Member hookMethod) {
+        HookInstallation installation = installations.get(hookMethod);
+        if (installation == null || !installation.await())
+            return false;
+        synchronized (installation) {
+            if (installations.get(hookMethod) != installation)
+                return false;
+            HookMethodEntity stub = entityMap.get(hookMethod);
+            if (stub == null && !hookedInfo.containsKey(hookMethod))
+                return false;
+            if (!SandHook.unhook(hookMethod))
+                return false;
+            if (stub != null) {
+                entityMap.remove(hookMethod);
+                HookStubManager.retireStub(stub);
+            } else {
+                hookedInfo.remove(hookMethod);
+            }
+            installations.remove(hookMethod);
+            DexLog.d("unhook method <" + hookMethod.toString() + ">, by " + (stub != null ? "internal stub" : "dex maker"));
+            return true;
+        }
+    }
+
+    //dex maker hookers of one bulk hook, one batch for each class loader of hooked members
+    static class HookerBatches {
+
+        private final Map<ClassLoader, HookerDexBatch> batches = new HashMap<>();
+        private final Map<HookMaker, HookInstallation> pending = new HashMap<>();
+
+        synchronized HookerDexBatch getBatch(Member hookMethod) {
+            ClassLoader classLoader = hookMethod.getDeclaringClass().getClassLoader();
+            HookerDexBatch batch = batches.get(classLoader);
+            if (batch == null) {
+                batch = new HookerDexBatch(new ProxyClassLoader(DynamicBridge.class.getClassLoader(), classLoader), getDexDirPath());
+                batches.put(classLoader, batch);
+            }
+            return batch;
+        }
+
+        synchronized void add(HookerDexBatch batch, HookMaker hookMaker, HookInstallation installation) {
+            batch.add(hookMaker);
+            pending.put(hookMaker, installation);
+        }
+
+        //called once all installations are prepared
+        synchronized void make() {
+            for (HookerDexBatch batch : batches.values()) {
+                List<HookMaker> hookMakers = batch.getHookMakers();
+                if (hookMakers.isEmpty())
+                    continue;
+                long timeStart = System.currentTimeMillis();
+                for (HookMaker hookMaker : hookMakers) {
+                    pending.get(hookMaker).installer = Thread.currentThread();
+                }
+                List<HookWrapper.HookEntity> hookEntities = null;
+                try {
+                    hookEntities = batch.make();
+                } catch (Throwable e) {
+                    DexLog.e("error when make hooker batch", e);
+                }
+                List<HookWrapper.HookEntity> hooking = new ArrayList<>();
+                List<HookMaker> hookingMakers = new ArrayList<>();
+                for (int i = 0; i < hookMakers.size(); i++) {
+                    HookMaker hookMaker = hookMakers.get(i);
+                    HookWrapper.HookEntity hookEntity = hookEntities == null ? null : hookEntities.get(i);
+                    if (hookEntity != null) {
+                        hooking.add(hookEntity);
+                        hookingMakers.add(hookMaker);
+                    } else {
+                        //make it alone
+                        HookInstallation installation = pending.get(hookMaker);
+                        installation.complete(install(installation.hookMethod, installation.additionalHookInfo, null));
+                    }
+                }
+                int[] results = SandHook.hook(hooking);
+                for (int i = 0; i < hooking.size(); i++) {
+                    HookMaker hookMaker = hookingMakers.get(i);
+                    boolean installed = results[i] >= 0;
+                    if (installed) {
+                        hookedInfo.put(hooking.get(i).target, hookMaker.getCallBackupMethod());
+                    }
+                    pending.get(hookMaker).complete(installed);
+                }
+                DexLog.d("hook " + hooking.size() + " methods by dex maker batch cost " + (System.currentTimeMillis() - timeStart) + " ms");
+            }
+            pending.clear();
+        }
+    }
+
+    static class HookInstallation extends FutureTask<Boolean> {
+
+        final Member hookMethod;
+        final XposedBridge.AdditionalHookInfo additionalHookInfo;
+        private final HookerBatches batches;
+        private volatile Thread installer;
+
+        HookInstallation(final Member hookMethod, final XposedBridge.AdditionalHookInfo additionalHookInfo, HookerBatches batches) {
+            super(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return install(hookMethod, additionalHookInfo, null);
+                }
+            });
+            this.hookMethod = hookMethod;
+            this.additionalHookInfo = additionalHookInfo;
+            this.batches = batches;
+        }
+
+        @Override
+        public void run() {
+            installer = Thread.currentThread();
+            if (batches == null) {
+                super.run();
+                return;
+            }
+            //not done yet if the hooker is left to the batch
+            Boolean installed = install(hookMethod, additionalHookInfo, batches);
+            if (installed != null) {
+                complete(installed);
+            }
+        }
+
+        void complete(boolean installed) {
+            set(installed);
+        }
+
+        @Override
+        protected void set(Boolean installed) {
+            //drop the failed member before waiters wake up, so they can hook it again
+            if (!installed) {
+                installations.remove(hookMethod, this);
+                XposedBridge.removeFailedCallbacks(hookMethod, additionalHookInfo.callbacks);
+            }
+            super.set(installed);
+        }
+
+        @Override
+        protected void done() {
+            //failed member can be hooked again
+            if (!await()) {
+                installations.remove(hookMethod, this);
+            }
+        }
+
+        //wait until installed, true if hook success
+        boolean await() {
+            //hooking the same member again while installing it, do not wait on itself
+            if (!isDone() && installer == Thread.currentThread())
+                return false;
+            boolean interrupted = false;
+            try {
+                for (;;) {
+                    try {
+                        return get();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } catch (ExecutionException | CancellationException e) {
+                return false;
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    public static String getDexDirPath() {
+        return dexDir == null ? null : dexDir.getAbsolutePath();
+    }
+
     public static void clearOatFile() {
         String fixedAppDataDir = XposedCompat.getCacheDir().getAbsolutePath();
         File dexOatDir = new File(fixedAppDataDir, "/sandxposed/oat/");
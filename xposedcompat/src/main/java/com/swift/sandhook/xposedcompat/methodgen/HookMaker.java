@@ -1,5 +1,8 @@
 package com.swift.sandhook.xposedcompat.methodgen;
 
+import com.android.dx.DexMaker;
+import com.swift.sandhook.wrapper.HookWrapper;
+
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 
@@ -11,4 +14,12 @@ public interface HookMaker {
     Method getHookMethod();
     Method getBackupMethod();
     Method getCallBackupMethod();
+
+    //make in batch: prepare, declare hookers of many members in one dex, load each from its class loader & hook them together
+    //returns the hook entity if the hooker is loaded from dex cache, null if it has to be declared
+    HookWrapper.HookEntity prepare(Member member, XposedBridge.AdditionalHookInfo hookInfo,
+                      ClassLoader appClassLoader, String dexDirPath) throws Exception;
+    String getHookerClassName();
+    void declareHooker(DexMaker dexMaker);
+    HookWrapper.HookEntity loadHooker(ClassLoader loader) throws Exception;
 }
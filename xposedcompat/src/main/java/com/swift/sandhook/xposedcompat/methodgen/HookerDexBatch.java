@@ -0,0 +1,137 @@
+package com.swift.sandhook.xposedcompat.methodgen;
+
+import android.os.Build;
+import android.text.TextUtils;
+
+import com.android.dx.DexMaker;
+import com.swift.sandhook.SandHookConfig;
+import com.swift.sandhook.wrapper.HookWrapper;
+import com.swift.sandhook.xposedcompat.utils.DexLog;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import dalvik.system.InMemoryDexClassLoader;
+
+import static com.swift.sandhook.xposedcompat.utils.DexMakerUtils.MD5;
+
+/**
+ * hookers of many members in one dex file, generated once & loaded by one class loader,
+ * instead of one dex, one file & one class loader for each member
+ */
+public class HookerDexBatch {
+
+    private static final String DEX_NAME_PREFIX = "SandHookerBatch";
+
+    private final ClassLoader appClassLoader;
+    private final String dexDirPath;
+    private final List<HookMaker> hookMakers = new ArrayList<>();
+
+    //all hook makers must be prepared with this app class loader, hookers can see classes of all their members
+    public HookerDexBatch(ClassLoader appClassLoader, String dexDirPath) {
+        this.appClassLoader = appClassLoader;
+        this.dexDirPath = dexDirPath;
+    }
+
+    public ClassLoader getAppClassLoader() {
+        return appClassLoader;
+    }
+
+    public synchronized void add(HookMaker hookMaker) {
+        hookMakers.add(hookMaker);
+    }
+
+    public synchronized List<HookMaker> getHookMakers() {
+        return new ArrayList<>(hookMakers);
+    }
+
+    //hook entity of each hook maker, null if the hooker of it can not be loaded
+    public synchronized List<HookWrapper.HookEntity> make() throws Exception {
+        String key = getKey();
+        String dexName = DEX_NAME_PREFIX + "_" + MD5(key) + ".jar";
+        List<HookWrapper.HookEntity> hookEntities = null;
+        //same batch is made before
+        if (!TextUtils.isEmpty(dexDirPath) && HookerDexCache.lookup(dexName, key)) {
+            try {
+                ClassLoader loader = new DexMaker().loadClassDirect(appClassLoader, new File(dexDirPath), dexName);
+                if (loader != null) {
+                    hookEntities = loadHookers(loader, false);
+                }
+            } catch (Throwable throwable) {}
+            if (hookEntities == null) {
+                HookerDexCache.invalidate(dexName);
+            }
+        }
+        if (hookEntities == null) {
+            hookEntities = doMake(dexName, key);
+        }
+        return hookEntities;
+    }
+
+    private List<HookWrapper.HookEntity> doMake(String dexName, String key) throws Exception {
+        DexMaker dexMaker = new DexMaker();
+        for (HookMaker hookMaker : hookMakers) {
+            hookMaker.declareHooker(dexMaker);
+        }
+
+        ClassLoader loader = null;
+        if (TextUtils.isEmpty(dexDirPath)) {
+            if (SandHookConfig.SDK_INT < Build.VERSION_CODES.O) {
+                throw new IllegalArgumentException("dexDirPath should not be empty!!!");
+            } else {
+                byte[] dexBytes = dexMaker.generate();
+                loader = new InMemoryDexClassLoader(ByteBuffer.wrap(dexBytes), appClassLoader);
+            }
+        } else {
+            // Create the dex file and load it.
+            try {
+                loader = dexMaker.generateAndLoad(appClassLoader, new File(dexDirPath), dexName);
+                HookerDexCache.put(dexName, key);
+            } catch (IOException e) {
+                //can not write file
+                if (SandHookConfig.SDK_INT >= Build.VERSION_CODES.O) {
+                    byte[] dexBytes = dexMaker.generate();
+                    loader = new InMemoryDexClassLoader(ByteBuffer.wrap(dexBytes), appClassLoader);
+                }
+            }
+        }
+        if (loader == null)
+            throw new IOException("can not load hooker batch " + dexName);
+        return loadHookers(loader, true);
+    }
+
+    //a cached batch is all or nothing, a new made batch keeps the hookers which can be loaded
+    private List<HookWrapper.HookEntity> loadHookers(ClassLoader loader, boolean allowFailure) throws Exception {
+        List<HookWrapper.HookEntity> hookEntities = new ArrayList<>(hookMakers.size());
+        for (HookMaker hookMaker : hookMakers) {
+            try {
+                hookEntities.add(hookMaker.loadHooker(loader));
+            } catch (Exception e) {
+                if (!allowFailure)
+                    throw e;
+                DexLog.e("error when load hooker " + hookMaker.getHookerClassName(), e);
+                hookEntities.add(null);
+            }
+        }
+        return hookEntities;
+    }
+
+    //named by its hookers, the same hooks in the next launch hit the dex cache
+    private String getKey() {
+        List<String> classNames = new ArrayList<>(hookMakers.size());
+        for (HookMaker hookMaker : hookMakers) {
+            classNames.add(hookMaker.getHookerClassName());
+        }
+        Collections.sort(classNames);
+        StringBuilder builder = new StringBuilder();
+        for (String className : classNames) {
+            builder.append(className).append(';');
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,402 @@
+package com.swift.sandhook.xposedcompat.methodgen;
+
+import android.content.Context;
+import android.content.pm.PackageInfo;
+
+import com.android.dx.DexMaker;
+import com.swift.sandhook.xposedcompat.XposedCompat;
+import com.swift.sandhook.xposedcompat.utils.DexLog;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileLock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.swift.sandhook.xposedcompat.utils.DexMakerUtils.MD5;
+
+/**
+ * index of generated hooker jars in the dex dir, read once when the dir is opened,
+ * jars of another app, module or generator version, jars not in the index
+ * and least recently used jars over quota are deleted with their oat files,
+ * processes of the app share the dir, so the index is locked while read or written
+ * and entries saved by other processes are merged before it is written again
+ */
+public final class HookerDexCache {
+
+    //bump when generated hookers change
+    public static final int GENERATOR_VERSION = 4;
+
+    private static final String INDEX_FILE_NAME = "hooker_index";
+    private static final String INDEX_HEADER = "SandHookerIndex";
+    private static final String LOCK_FILE_NAME = "hooker_index.lock";
+    //jars of HookerDexMaker, HookerDexBatch, HookerDexMakerNew & shape hookers, not the stubs of DynamicStubMaker
+    private static final String[] DEX_PREFIXES = {"SandHooker_", "SandHookerBatch_", "SandHookerNew_", "SandHookerShape_"};
+    private static final String DEX_SUFFIX = ".jar";
+    //index writes within this delay are merged
+    private static final long SAVE_DELAY_MS = 2000;
+    //jars not in the index may be new ones of another process which has not saved its index yet
+    static final long UNINDEXED_GRACE_MS = 60 * 1000;
+
+    private static File dexDir;
+    private static String version;
+    //access ordered, eldest is the least recently used
+    private static final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    //jars found unusable in this process, generating them again is a regeneration
+    private static final Set<String> stale = new HashSet<>();
+    private static boolean saveScheduled;
+
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static final AtomicInteger misses = new AtomicInteger();
+    private static final AtomicInteger regenerations = new AtomicInteger();
+
+    public static synchronized void open(File dir) {
+        dexDir = dir;
+        version = getVersion();
+        entries.clear();
+        boolean changed;
+        FileLock lock = lockIndex(dir);
+        try {
+            List<Entry> saved = readIndex(dir);
+            changed = saved == null;
+            if (saved != null) {
+                for (Entry entry : saved) {
+                    entries.put(entry.dexName, entry);
+                }
+            }
+            //jars of other versions are not in the index
+            Set<String> present = new HashSet<>();
+            long graceStart = System.currentTimeMillis() - UNINDEXED_GRACE_MS;
+            File[] files = dir.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    String name = file.getName();
+                    if (!file.isFile() || !isHookerDex(name))
+                        continue;
+                    if (entries.containsKey(name)) {
+                        present.add(name);
+                    } else if (file.lastModified() < graceStart) {
+                        deleteDex(file);
+                        changed = true;
+                    }
+                }
+            }
+            if (entries.keySet().retainAll(present)) {
+                changed = true;
+            }
+            if (evict()) {
+                changed = true;
+            }
+        } finally {
+            unlock(lock);
+        }
+        if (changed) {
+            scheduleSave();
+        }
+        DexLog.d("hooker dex cache opened, " + entries.size() + " jars of version " + version);
+    }
+
+    static boolean isHookerDex(String name) {
+        if (!name.endsWith(DEX_SUFFIX))
+            return false;
+        for (String prefix : DEX_PREFIXES) {
+            if (name.startsWith(prefix))
+                return true;
+        }
+        return false;
+    }
+
+    //true if the jar is in cache & made for this key, an unusable jar is deleted
+    public static synchronized boolean lookup(String dexName, String key) {
+        if (dexDir == null)
+            return false;
+        Entry entry = entries.get(dexName);
+        File file = new File(dexDir, dexName);
+        if (entry != null && entry.key.equals(key) && file.exists()) {
+            entry.lastUsed = System.currentTimeMillis();
+            entry.usedInProcess = true;
+            hits.incrementAndGet();
+            scheduleSave();
+            return true;
+        }
+        if (entry != null || file.exists()) {
+            entries.remove(dexName);
+            deleteDex(file);
+            stale.add(dexName);
+            scheduleSave();
+        }
+        misses.incrementAndGet();
+        return false;
+    }
+
+    //jar passed lookup but can not be loaded
+    public static synchronized void invalidate(String dexName) {
+        if (dexDir == null)
+            return;
+        entries.remove(dexName);
+        deleteDex(new File(dexDir, dexName));
+        stale.add(dexName);
+        hits.decrementAndGet();
+        misses.incrementAndGet();
+        scheduleSave();
+    }
+
+    //jar is generated & loaded
+    public static synchronized void put(String dexName, String key) {
+        if (dexDir == null)
+            return;
+        File file = new File(dexDir, dexName);
+        Entry entry = new Entry(dexName, key, System.currentTimeMillis(), file.length());
+        entry.usedInProcess = true;
+        entries.put(dexName, entry);
+        if (stale.remove(dexName)) {
+            regenerations.incrementAndGet();
+        }
+        evict();
+        scheduleSave();
+        HookerDexOptimizer.enqueue(file);
+    }
+
+    public static int getHitCount() {
+        return hits.get();
+    }
+
+    public static int getMissCount() {
+        return misses.get();
+    }
+
+    public static int getRegenerationCount() {
+        return regenerations.get();
+    }
+
+    public static synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    //least recently used jars go first, jars loaded in this process are kept
+    private static boolean evict() {
+        int maxEntries = XposedCompat.hookerDexCacheMaxEntries;
+        long maxBytes = XposedCompat.hookerDexCacheMaxBytes;
+        int count = entries.size();
+        long totalSize = 0;
+        for (Entry entry : entries.values()) {
+            totalSize += entry.size;
+        }
+        boolean evicted = false;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while ((count > maxEntries || totalSize > maxBytes) && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.usedInProcess)
+                continue;
+            iterator.remove();
+            deleteDex(new File(dexDir, entry.dexName));
+            count--;
+            totalSize -= entry.size;
+            evicted = true;
+        }
+        return evicted;
+    }
+
+    private static void deleteDex(File file) {
+        try {
+            new DexMaker().deleteOldDex(file);
+        } catch (Throwable throwable) {}
+    }
+
+    private static void scheduleSave() {
+        if (saveScheduled)
+            return;
+        saveScheduled = true;
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(SAVE_DELAY_MS);
+                } catch (InterruptedException e) {}
+                save();
+            }
+        }, "SandHook-DexCache");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    static synchronized void save() {
+        saveScheduled = false;
+        if (dexDir == null)
+            return;
+        FileLock lock = lockIndex(dexDir);
+        try {
+            merge(readIndex(dexDir));
+            File indexFile = new File(dexDir, INDEX_FILE_NAME);
+            File tmpFile = new File(dexDir, INDEX_FILE_NAME + ".tmp");
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(tmpFile))) {
+                writer.write(INDEX_HEADER + "\t" + version);
+                writer.newLine();
+                //written in lru order, read back in the same order
+                for (Entry entry : entries.values()) {
+                    writer.write(entry.toString());
+                    writer.newLine();
+                }
+            } catch (Throwable throwable) {
+                DexLog.e("error when save hooker dex index", throwable);
+                return;
+            }
+            if (!tmpFile.renameTo(indexFile)) {
+                DexLog.e("error when save hooker dex index");
+            }
+        } finally {
+            unlock(lock);
+        }
+    }
+
+    //entries of jars other processes generated or used since the dir was opened, the later use wins
+    private static void merge(List<Entry> saved) {
+        if (saved == null || saved.isEmpty())
+            return;
+        boolean merged = false;
+        for (Entry entry : saved) {
+            Entry current = entries.get(entry.dexName);
+            if (current == null) {
+                //jars deleted in this process are not in the index again unless generated again
+                if (new File(dexDir, entry.dexName).exists()) {
+                    entries.put(entry.dexName, entry);
+                    merged = true;
+                }
+            } else if (current.key.equals(entry.key) && current.lastUsed < entry.lastUsed) {
+                current.lastUsed = entry.lastUsed;
+                merged = true;
+            }
+        }
+        if (!merged)
+            return;
+        List<Entry> ordered = new ArrayList<>(entries.values());
+        Collections.sort(ordered, new Comparator<Entry>() {
+            @Override
+            public int compare(Entry a, Entry b) {
+                return a.lastUsed < b.lastUsed ? -1 : (a.lastUsed == b.lastUsed ? 0 : 1);
+            }
+        });
+        entries.clear();
+        for (Entry entry : ordered) {
+            entries.put(entry.dexName, entry);
+        }
+    }
+
+    //null if there is no index of this version
+    private static List<Entry> readIndex(File dir) {
+        try (BufferedReader reader = new BufferedReader(new FileReader(new File(dir, INDEX_FILE_NAME)))) {
+            if (!(INDEX_HEADER + "\t" + version).equals(reader.readLine()))
+                return null;
+            List<Entry> saved = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Entry entry = Entry.parse(line);
+                if (entry != null) {
+                    saved.add(entry);
+                }
+            }
+            return saved;
+        } catch (Throwable throwable) {
+            return null;
+        }
+    }
+
+    //null if the dir can not be locked, the index is used unlocked then
+    private static FileLock lockIndex(File dir) {
+        RandomAccessFile file = null;
+        try {
+            file = new RandomAccessFile(new File(dir, LOCK_FILE_NAME), "rw");
+            return file.getChannel().lock();
+        } catch (Throwable throwable) {
+            DexLog.e("error when lock hooker dex index", throwable);
+            if (file != null) {
+                try {
+                    file.close();
+                } catch (IOException e) {}
+            }
+            return null;
+        }
+    }
+
+    private static void unlock(FileLock lock) {
+        if (lock == null)
+            return;
+        try {
+            //releases the lock too
+            lock.channel().close();
+        } catch (IOException e) {}
+    }
+
+    static String getVersion() {
+        return "app:" + getAppVersion() + ",module:" + getModuleVersion() + ",generator:" + GENERATOR_VERSION
+                + (XposedCompat.retryWhenCallOriginError ? "r" : "");
+    }
+
+    private static String getAppVersion() {
+        Context context = XposedCompat.context;
+        if (context == null)
+            return "unknown";
+        try {
+            PackageInfo packageInfo = context.getPackageManager().getPackageInfo(context.getPackageName(), 0);
+            return packageInfo.versionCode + "-" + packageInfo.lastUpdateTime;
+        } catch (Throwable throwable) {
+            return "unknown";
+        }
+    }
+
+    private static String getModuleVersion() {
+        String moduleVersion = XposedCompat.moduleVersion;
+        if (moduleVersion != null)
+            return MD5(moduleVersion);
+        StringBuilder builder = new StringBuilder();
+        for (String modulePath : XposedCompat.getModulePaths()) {
+            File module = new File(modulePath);
+            builder.append(modulePath).append(':').append(module.lastModified()).append(':').append(module.length()).append(';');
+        }
+        return MD5(builder.toString());
+    }
+
+    static class Entry {
+        final String dexName;
+        final String key;
+        final long size;
+        long lastUsed;
+        boolean usedInProcess;
+
+        Entry(String dexName, String key, long lastUsed, long size) {
+            this.dexName = dexName;
+            this.key = key;
+            this.lastUsed = lastUsed;
+            this.size = size;
+        }
+
+        static Entry parse(String line) {
+            String[] parts = line.split("\t", 4);
+            if (parts.length != 4)
+                return null;
+            try {
+                return new Entry(parts[0], parts[3], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return dexName + "\t" + lastUsed + "\t" + size + "\t" + key;
+        }
+    }
+
+}
@@ -15,6 +15,7 @@ import com.android.dx.TypeId;
 import com.swift.sandhook.SandHook;
 import com.swift.sandhook.SandHookConfig;
 import com.swift.sandhook.SandHookMethodResolver;
+import com.swift.sandhook.wrapper.BackupInvoker;
 import com.swift.sandhook.wrapper.HookWrapper;
 import com.swift.sandhook.xposedcompat.XposedCompat;
 import com.swift.sandhook.xposedcompat.utils.DexLog;
@@ -45,9 +46,11 @@ public class HookerDexMaker implements HookMaker {
     public static final String METHOD_NAME_CALL_BACKUP = "callBackup";
     public static final String METHOD_NAME_SETUP = "setup";
     public static final String METHOD_NAME_LOG = "printMethodHookIn";
+    public static final String METHOD_NAME_INVOKE = "invoke";
+    public static final String CLASS_NAME_SUFFIX_INVOKER = "_Invoker";
     public static final TypeId<Object[]> objArrayTypeId = TypeId.get(Object[].class);
     private static final String CLASS_DESC_PREFIX = "L";
-    private static final String CLASS_NAME_PREFIX = "SandHooker";
+    static final String CLASS_NAME_PREFIX = "SandHooker";
     private static final String FIELD_NAME_HOOK_INFO = "additionalHookInfo";
     private static final String FIELD_NAME_METHOD = "method";
     private static final String FIELD_NAME_BACKUP_METHOD = "backupMethod";
@@ -56,6 +59,7 @@ public class HookerDexMaker implements HookMaker {
     private static final String PARAMS_FIELD_NAME_ARGS = "args";
     private static final String CALLBACK_METHOD_NAME_BEFORE = "callBeforeHookedMethod";
     private static final String CALLBACK_METHOD_NAME_AFTER = "callAfterHookedMethod";
+    private static final TypeId<BackupInvoker> invokerTypeId = TypeId.get(BackupInvoker.class);
     private static final TypeId<Throwable> throwableTypeId = TypeId.get(Throwable.class);
     private static final TypeId<Member> memberTypeId = TypeId.get(Member.class);
     private static final TypeId<Method> methodTypeId = TypeId.get(Method.class);
@@ -64,6 +68,10 @@ public class HookerDexMaker implements HookMaker {
             = TypeId.get(XposedBridge.AdditionalHookInfo.class);
     private static final TypeId<XposedBridge.CopyOnWriteSortedSet> callbacksTypeId
             = TypeId.get(XposedBridge.CopyOnWriteSortedSet.class);
+    private static final TypeId<XposedBridge.DispatchPlan> planTypeId
+            = TypeId.get(XposedBridge.DispatchPlan.class);
+    private static final TypeId<XC_MethodHook[]> callbackArrayTypeId = TypeId.get(XC_MethodHook[].class);
+    private static final TypeId<int[]> intArrayTypeId = TypeId.get(int[].class);
     private static final TypeId<XC_MethodHook.MethodHookParam> paramTypeId
             = TypeId.get(XC_MethodHook.MethodHookParam.class);
     private static final MethodId<XC_MethodHook.MethodHookParam, Void> setResultMethodId =
@@ -83,8 +91,8 @@ public class HookerDexMaker implements HookMaker {
     private static final FieldId<XC_MethodHook.MethodHookParam, Boolean> returnEarlyFieldId =
             paramTypeId.getField(TypeId.BOOLEAN, "returnEarly");
     private static final TypeId<XposedBridge> xposedBridgeTypeId = TypeId.get(XposedBridge.class);
-    private static final MethodId<XposedBridge, Void> logThrowableMethodId =
-            xposedBridgeTypeId.getMethod(TypeId.VOID, "log", throwableTypeId);
+    private static final MethodId<DexLog, Void> printHookErrorMethodId =
+            TypeId.get(DexLog.class).getMethod(TypeId.VOID, "printHookError", memberTypeId, throwableTypeId);
 
     private FieldId<?, XposedBridge.AdditionalHookInfo> mHookInfoFieldId;
     private FieldId<?, Member> mMethodFieldId;
@@ -144,6 +152,17 @@ public class HookerDexMaker implements HookMaker {
 
     public void start(Member member, XposedBridge.AdditionalHookInfo hookInfo,
                       ClassLoader appClassLoader, String dexDirPath) throws Exception {
+        HookWrapper.HookEntity hookEntity = prepare(member, hookInfo, appClassLoader, dexDirPath);
+        //do generate
+        if (hookEntity == null) {
+            String className = getHookerClassName();
+            hookEntity = doMake(className, className + ".jar");
+        }
+        SandHook.hook(hookEntity);
+    }
+
+    public HookWrapper.HookEntity prepare(Member member, XposedBridge.AdditionalHookInfo hookInfo,
+                      ClassLoader appClassLoader, String dexDirPath) throws Exception {
         if (member instanceof Method) {
             Method method = (Method) member;
             mIsStatic = Modifier.isStatic(method.getModifiers());
@@ -191,21 +210,34 @@ public class HookerDexMaker implements HookMaker {
 
         HookWrapper.HookEntity hookEntity = null;
         //try load cache first
-        try {
-            ClassLoader loader = mDexMaker.loadClassDirect(mAppClassLoader, new File(mDexDirPath), dexName);
-            if (loader != null) {
-                hookEntity = loadHookerClass(loader, className);
+        if (HookerDexCache.lookup(dexName, mMember.toString())) {
+            try {
+                ClassLoader loader = mDexMaker.loadClassDirect(mAppClassLoader, new File(mDexDirPath), dexName);
+                if (loader != null) {
+                    hookEntity = loadHookerClass(loader, className);
+                }
+            } catch (Throwable throwable) {}
+            if (hookEntity == null) {
+                HookerDexCache.invalidate(dexName);
             }
-        } catch (Throwable throwable) {}
-
-        //do generate
-        if (hookEntity == null) {
-            hookEntity = doMake(className, dexName);
         }
-        SandHook.hook(hookEntity);
+        return hookEntity;
     }
 
-    private HookWrapper.HookEntity doMake(String className, String dexName) throws Exception {
+    public String getHookerClassName() {
+        return getClassName(mMember);
+    }
+
+    public void declareHooker(DexMaker dexMaker) {
+        mDexMaker = dexMaker;
+        declareHookerClass(getHookerClassName());
+    }
+
+    public HookWrapper.HookEntity loadHooker(ClassLoader loader) throws Exception {
+        return loadHookerClass(loader, getHookerClassName());
+    }
+
+    private void declareHookerClass(String className) {
         mHookerTypeId = TypeId.get(CLASS_DESC_PREFIX + className + ";");
         mDexMaker.declare(mHookerTypeId, className + ".generated", Modifier.PUBLIC, TypeId.OBJECT);
         generateFields();
@@ -217,6 +249,11 @@ public class HookerDexMaker implements HookMaker {
         }
         generateCallBackupMethod();
         generateHookMethod();
+        generateInvokerClass(className + CLASS_NAME_SUFFIX_INVOKER);
+    }
+
+    private HookWrapper.HookEntity doMake(String className, String dexName) throws Exception {
+        declareHookerClass(className);
 
         ClassLoader loader = null;
 
@@ -231,6 +268,7 @@ public class HookerDexMaker implements HookMaker {
             // Create the dex file and load it.
             try {
                 loader = mDexMaker.generateAndLoad(mAppClassLoader, new File(mDexDirPath), dexName);
+                HookerDexCache.put(dexName, mMember.toString());
             } catch (IOException e) {
                 //can not write file
                 if (SandHookConfig.SDK_INT >= Build.VERSION_CODES.O) {
@@ -468,13 +506,23 @@ public class HookerDexMaker implements HookMaker {
         Label decrementAndCheckAfter = new Label();
         Label noBackupThrowable = new Label();
         Label throwThrowable = new Label();
+        Label callbacksEnd = new Label();
+        Label loadCallbacks = new Label();
+        Label trySingleBeforeCatch = new Label();
+        Label callSingleAfter = new Label();
+        Label trySingleAfterCatch = new Label();
+        Label noSingleBackupThrowable = new Label();
         // prepare locals
         Local<Boolean> disableHooks = code.newLocal(TypeId.BOOLEAN);
         Local<XposedBridge.AdditionalHookInfo> hookInfo = code.newLocal(hookInfoTypeId);
         Local<XposedBridge.CopyOnWriteSortedSet> callbacks = code.newLocal(callbacksTypeId);
-        Local<Object[]> snapshot = code.newLocal(objArrayTypeId);
-        Local<Integer> snapshotLen = code.newLocal(TypeId.INT);
-        Local<Object> callbackObj = code.newLocal(TypeId.OBJECT);
+        Local<XposedBridge.DispatchPlan> plan = code.newLocal(planTypeId);
+        Local<Boolean> planEmpty = code.newLocal(TypeId.BOOLEAN);
+        Local<Boolean> single = code.newLocal(TypeId.BOOLEAN);
+        Local<XC_MethodHook[]> beforeCallbacks = code.newLocal(callbackArrayTypeId);
+        Local<XC_MethodHook[]> afterCallbacks = code.newLocal(callbackArrayTypeId);
+        Local<int[]> afterLimits = code.newLocal(intArrayTypeId);
+        Local<Integer> beforeLen = code.newLocal(TypeId.INT);
         Local<XC_MethodHook> callback = code.newLocal(callbackTypeId);
 
         Local<Object> resultObj = code.newLocal(TypeId.OBJECT); // as a temp Local
@@ -492,6 +540,7 @@ public class HookerDexMaker implements HookMaker {
         Local<Integer> argIndex = code.newLocal(TypeId.INT);
 
         Local<Integer> beforeIdx = code.newLocal(TypeId.INT);
+        Local<Integer> afterIdx = code.newLocal(TypeId.INT);
         Local<Object> lastResult = code.newLocal(TypeId.OBJECT);
         Local<Throwable> lastThrowable = code.newLocal(throwableTypeId);
         Local<Boolean> hasThrowable = code.newLocal(TypeId.BOOLEAN);
@@ -503,7 +552,7 @@ public class HookerDexMaker implements HookMaker {
         code.loadConstant(args, null);
         code.loadConstant(argIndex, 0);
         code.loadConstant(one, 1);
-        code.loadConstant(snapshotLen, 0);
+        code.loadConstant(beforeLen, 0);
         code.loadConstant(nullObj, null);
 
         code.sget(mMethodFieldId, method);
@@ -518,13 +567,13 @@ public class HookerDexMaker implements HookMaker {
         // disableHooks == true => no hooking
         code.compareZ(Comparison.NE, noHookReturn, disableHooks);
 
-        // check callbacks length
+        // check dispatch plan of callbacks
         code.sget(mHookInfoFieldId, hookInfo);
         code.iget(hookInfoTypeId.getField(callbacksTypeId, "callbacks"), callbacks, hookInfo);
-        code.invokeVirtual(callbacksTypeId.getMethod(objArrayTypeId, "getSnapshot"), snapshot, callbacks);
-        code.arrayLength(snapshotLen, snapshot);
-        // snapshotLen == 0 => no hooking
-        code.compareZ(Comparison.EQ, noHookReturn, snapshotLen);
+        code.invokeVirtual(callbacksTypeId.getMethod(planTypeId, "getDispatchPlan"), plan, callbacks);
+        code.invokeVirtual(planTypeId.getMethod(TypeId.BOOLEAN, "isEmpty"), planEmpty, plan);
+        // no callback overrides before or after => no hooking
+        code.compareZ(Comparison.NE, noHookReturn, planEmpty);
 
         // start hooking
 
@@ -558,15 +607,52 @@ public class HookerDexMaker implements HookMaker {
         code.iput(paramTypeId.getField(TypeId.OBJECT, PARAMS_FIELD_NAME_THIS_OBJECT), param, thisObject);
         code.iput(paramTypeId.getField(objArrayTypeId, PARAMS_FIELD_NAME_ARGS), param, args);
 
+        // both paths merge at checkAndCallBackup, the verifier needs locals of the loops assigned on either
+        code.loadConstant(beforeCallbacks, null);
+        code.loadConstant(afterCallbacks, null);
+        code.loadConstant(afterLimits, null);
+        code.loadConstant(afterIdx, 0);
+        code.loadConstant(beforeIdx, 0);
+
+        // only one callback => call it directly, no loops
+        code.iget(planTypeId.getField(TypeId.BOOLEAN, "single"), single, plan);
+        code.compareZ(Comparison.EQ, loadCallbacks, single);
+        code.iget(planTypeId.getField(callbackTypeId, "singleBefore"), callback, plan);
+        // no before => go to call backup
+        code.compareZ(Comparison.EQ, checkAndCallBackup, callback);
+        // try start
+        code.addCatchClause(throwableTypeId, trySingleBeforeCatch);
+        code.invokeVirtual(callBeforeCallbackMethodId, null, callback, param);
+        code.jump(checkAndCallBackup);
+        // try end
+        code.removeCatchClause(throwableTypeId);
+        // catch
+        code.mark(trySingleBeforeCatch);
+        code.moveException(throwable);
+        code.invokeStatic(printHookErrorMethodId, null, method, throwable);
+        code.invokeVirtual(setResultMethodId, null, param, nullObj);
+        code.loadConstant(returnEarly, false);
+        code.iput(returnEarlyFieldId, param, returnEarly);
+        code.jump(checkAndCallBackup);
+
+        // load plan
+        code.mark(loadCallbacks);
+        code.iget(planTypeId.getField(callbackArrayTypeId, "beforeCallbacks"), beforeCallbacks, plan);
+        code.iget(planTypeId.getField(callbackArrayTypeId, "afterCallbacks"), afterCallbacks, plan);
+        code.iget(planTypeId.getField(intArrayTypeId, "afterLimits"), afterLimits, plan);
+        code.arrayLength(beforeLen, beforeCallbacks);
+        // all afterCallbacks run if no one returns early
+        code.arrayLength(afterIdx, afterCallbacks);
+
         // call beforeCallbacks
         code.loadConstant(beforeIdx, 0);
+        code.compare(Comparison.GE, checkAndCallBackup, beforeIdx, beforeLen);
 
         code.mark(beginCallBefore);
         // start of try
         code.addCatchClause(throwableTypeId, tryBeforeCatch);
 
-        code.aget(callbackObj, snapshot, beforeIdx);
-        code.cast(callback, callbackObj);
+        code.aget(callback, beforeCallbacks, beforeIdx);
         code.invokeVirtual(callBeforeCallbackMethodId, null, callback, param);
         code.jump(noExceptionBefore);
 
@@ -576,7 +662,7 @@ public class HookerDexMaker implements HookMaker {
         // start of catch
         code.mark(tryBeforeCatch);
         code.moveException(throwable);
-        code.invokeStatic(logThrowableMethodId, null, throwable);
+        code.invokeStatic(printHookErrorMethodId, null, method, throwable);
         code.invokeVirtual(setResultMethodId, null, param, nullObj);
         code.loadConstant(returnEarly, false);
         code.iput(returnEarlyFieldId, param, returnEarly);
@@ -587,14 +673,14 @@ public class HookerDexMaker implements HookMaker {
         code.iget(returnEarlyFieldId, returnEarly, param);
         // if returnEarly == false, continue
         code.compareZ(Comparison.EQ, incrementAndCheckBefore, returnEarly);
-        // returnEarly == true, break
-        code.op(BinaryOp.ADD, beforeIdx, beforeIdx, one);
+        // returnEarly == true, only run afterCallbacks of callbacks before it, break
+        code.aget(afterIdx, afterLimits, beforeIdx);
         code.jump(checkAndCallBackup);
 
         // increment and check to continue
         code.mark(incrementAndCheckBefore);
         code.op(BinaryOp.ADD, beforeIdx, beforeIdx, one);
-        code.compare(Comparison.LT, beginCallBefore, beforeIdx, snapshotLen);
+        code.compare(Comparison.LT, beginCallBefore, beforeIdx, beforeLen);
 
         // check and call backup
         code.mark(checkAndCallBackup);
@@ -637,7 +723,11 @@ public class HookerDexMaker implements HookMaker {
         code.invokeVirtual(setThrowableMethodId, null, param, throwable);
 
         code.mark(noExceptionOrig);
-        code.op(BinaryOp.SUBTRACT, beforeIdx, beforeIdx, one);
+        // only one callback => call its after directly
+        code.compareZ(Comparison.NE, callSingleAfter, single);
+        code.op(BinaryOp.SUBTRACT, afterIdx, afterIdx, one);
+        // no afterCallbacks to run
+        code.compareZ(Comparison.LT, callbacksEnd, afterIdx);
 
         // call afterCallbacks
         code.mark(beginCallAfter);
@@ -646,8 +736,7 @@ public class HookerDexMaker implements HookMaker {
         code.invokeVirtual(getThrowableMethodId, lastThrowable, param);
         // try start
         code.addCatchClause(throwableTypeId, tryAfterCatch);
-        code.aget(callbackObj, snapshot, beforeIdx);
-        code.cast(callback, callbackObj);
+        code.aget(callback, afterCallbacks, afterIdx);
         code.invokeVirtual(callAfterCallbackMethodId, null, callback, param);
         // all good, just continue
         code.jump(decrementAndCheckAfter);
@@ -656,7 +745,7 @@ public class HookerDexMaker implements HookMaker {
         // catch
         code.mark(tryAfterCatch);
         code.moveException(throwable);
-        code.invokeStatic(logThrowableMethodId, null, throwable);
+        code.invokeStatic(printHookErrorMethodId, null, method, throwable);
         // if lastThrowable == null, go to recover lastResult
         code.compareZ(Comparison.EQ, noBackupThrowable, lastThrowable);
         // lastThrowable != null, recover lastThrowable
@@ -668,10 +757,11 @@ public class HookerDexMaker implements HookMaker {
         code.invokeVirtual(setResultMethodId, null, param, lastResult);
         // decrement and check continue
         code.mark(decrementAndCheckAfter);
-        code.op(BinaryOp.SUBTRACT, beforeIdx, beforeIdx, one);
-        code.compareZ(Comparison.GE, beginCallAfter, beforeIdx);
+        code.op(BinaryOp.SUBTRACT, afterIdx, afterIdx, one);
+        code.compareZ(Comparison.GE, beginCallAfter, afterIdx);
 
         // callbacks end
+        code.mark(callbacksEnd);
         // return
         code.invokeVirtual(hasThrowableMethodId, hasThrowable, param);
         // if hasThrowable, throw the throwable and return
@@ -698,6 +788,32 @@ public class HookerDexMaker implements HookMaker {
         code.invokeVirtual(getThrowableMethodId, throwable, param);
         code.throwValue(throwable);
 
+        // call after of the only callback
+        code.mark(callSingleAfter);
+        code.iget(planTypeId.getField(callbackTypeId, "singleAfter"), callback, plan);
+        // no after => return
+        code.compareZ(Comparison.EQ, callbacksEnd, callback);
+        // save results of backup calling
+        code.invokeVirtual(getResultMethodId, lastResult, param);
+        code.invokeVirtual(getThrowableMethodId, lastThrowable, param);
+        // try start
+        code.addCatchClause(throwableTypeId, trySingleAfterCatch);
+        code.invokeVirtual(callAfterCallbackMethodId, null, callback, param);
+        code.jump(callbacksEnd);
+        // try end
+        code.removeCatchClause(throwableTypeId);
+        // catch
+        code.mark(trySingleAfterCatch);
+        code.moveException(throwable);
+        code.invokeStatic(printHookErrorMethodId, null, method, throwable);
+        // recover results of backup calling
+        code.compareZ(Comparison.EQ, noSingleBackupThrowable, lastThrowable);
+        code.invokeVirtual(setThrowableMethodId, null, param, lastThrowable);
+        code.jump(callbacksEnd);
+        code.mark(noSingleBackupThrowable);
+        code.invokeVirtual(setResultMethodId, null, param, lastResult);
+        code.jump(callbacksEnd);
+
         // call backup and return
         code.mark(noHookReturn);
         if (mReturnTypeId.equals(TypeId.VOID)) {
@@ -710,6 +826,52 @@ public class HookerDexMaker implements HookMaker {
         }
     }
 
+    //typed invoker of callBackup in the same dex, origin calls skip Method.invoke, see HookerInvokerFactory
+    private void generateInvokerClass(String className) {
+        TypeId<?> invokerClassTypeId = TypeId.get(CLASS_DESC_PREFIX + className + ";");
+        mDexMaker.declare(invokerClassTypeId, className + ".generated", Modifier.PUBLIC | Modifier.FINAL, invokerTypeId);
+
+        Code constructor = mDexMaker.declare(invokerClassTypeId.getConstructor(), Modifier.PUBLIC);
+        Local thisInvoker = constructor.getThis(invokerClassTypeId);
+        constructor.invokeDirect(invokerTypeId.getConstructor(), null, thisInvoker);
+        constructor.returnVoid();
+
+        MethodId<?, Object> invokeMethodId = invokerClassTypeId.getMethod(TypeId.OBJECT, METHOD_NAME_INVOKE, TypeId.OBJECT, objArrayTypeId);
+        Code code = mDexMaker.declare(invokeMethodId, Modifier.PUBLIC);
+
+        Local<Object> thisObject = code.getParameter(0, TypeId.OBJECT);
+        Local<Object[]> args = code.getParameter(1, objArrayTypeId);
+        Local<Integer> argIndex = code.newLocal(TypeId.INT);
+        Local<Object> argObj = code.newLocal(TypeId.OBJECT);
+        Local<Object> resultObj = code.newLocal(TypeId.OBJECT);
+        int offset = mIsStatic ? 0 : 1;
+        Local[] allArgsLocals = new Local[mParameterTypeIds.length];
+        if (!mIsStatic) {
+            allArgsLocals[0] = thisObject;
+        }
+        for (int i = offset; i < mParameterTypeIds.length; i++) {
+            allArgsLocals[i] = code.newLocal(mParameterTypeIds[i]);
+        }
+        Map<TypeId, Local> resultLocals = createResultLocals(code);
+
+        // unbox args to the types of callBackup
+        for (int i = offset; i < mParameterTypeIds.length; i++) {
+            code.loadConstant(argIndex, i - offset);
+            code.aget(argObj, args, argIndex);
+            autoUnboxIfNecessary(code, allArgsLocals[i], argObj, resultLocals, true);
+        }
+
+        if (mReturnTypeId.equals(TypeId.VOID)) {
+            code.invokeStatic(mCallBackupMethodId, null, allArgsLocals);
+            code.loadConstant(resultObj, null);
+        } else {
+            Local result = resultLocals.get(mReturnTypeId);
+            code.invokeStatic(mCallBackupMethodId, result, allArgsLocals);
+            autoBoxIfNecessary(code, resultObj, result);
+        }
+        code.returnValue(resultObj);
+    }
+
     private Local[] createParameterLocals(Code code) {
         Local[] paramLocals = new Local[mParameterTypeIds.length];
         for (int i = 0; i < mParameterTypeIds.length; i++) {
@@ -12,6 +12,7 @@ import com.android.dx.TypeId;
 import com.swift.sandhook.SandHook;
 import com.swift.sandhook.SandHookConfig;
 import com.swift.sandhook.wrapper.HookWrapper;
+import com.swift.sandhook.xposedcompat.XposedCompat;
 import com.swift.sandhook.xposedcompat.hookstub.HookStubManager;
 
 import java.io.File;
@@ -21,6 +22,9 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import dalvik.system.InMemoryDexClassLoader;
@@ -47,11 +51,27 @@ public class HookerDexMakerNew implements HookMaker {
     private static final TypeId<Method> methodTypeId = TypeId.get(Method.class);
     private static final TypeId<XposedBridge.AdditionalHookInfo> hookInfoTypeId
             = TypeId.get(XposedBridge.AdditionalHookInfo.class);
+    private static final TypeId<Member[]> memberArrayTypeId = TypeId.get(Member[].class);
+    private static final TypeId<Method[]> methodArrayTypeId = TypeId.get(Method[].class);
+    private static final TypeId<XposedBridge.AdditionalHookInfo[]> hookInfoArrayTypeId
+            = TypeId.get(XposedBridge.AdditionalHookInfo[].class);
+
+    //shared hookers, one class holds hook & backup methods of SHAPE_SLOTS members with the same erased signature
+    public static final int SHAPE_SLOTS = 16;
+    private static final String SHAPE_CLASS_NAME_PREFIX = "SandHookerShape";
+    private static final String FIELD_NAME_HOOK_INFOS = "additionalHookInfos";
+    private static final String FIELD_NAME_METHODS = "methods";
+    private static final String FIELD_NAME_BACKUP_METHODS = "backupMethods";
+    //shape -> hooker classes of it, guarded by itself
+    private static final Map<String, List<ShapeTable>> shapeTables = new HashMap<>();
 
 
     private FieldId<?, XposedBridge.AdditionalHookInfo> mHookInfoFieldId;
     private FieldId<?, Member> mMethodFieldId;
     private FieldId<?, Method> mBackupMethodFieldId;
+    private FieldId<?, Member[]> mMethodsFieldId;
+    private FieldId<?, Method[]> mBackupMethodsFieldId;
+    private FieldId<?, XposedBridge.AdditionalHookInfo[]> mHookInfosFieldId;
     private MethodId<?, ?> mHookMethodId;
     private MethodId<?, ?> mBackupMethodId;
     private MethodId<?, ?> mSandHookBridgeMethodId;
@@ -104,6 +124,17 @@ public class HookerDexMakerNew implements HookMaker {
 
     public void start(Member member, XposedBridge.AdditionalHookInfo hookInfo,
                       ClassLoader appClassLoader, String dexDirPath) throws Exception {
+        HookWrapper.HookEntity hookEntity = prepare(member, hookInfo, appClassLoader, dexDirPath);
+        //do generate
+        if (hookEntity == null) {
+            String className = getHookerClassName();
+            hookEntity = doMake(className, className + ".jar");
+        }
+        SandHook.hook(hookEntity);
+    }
+
+    public HookWrapper.HookEntity prepare(Member member, XposedBridge.AdditionalHookInfo hookInfo,
+                      ClassLoader appClassLoader, String dexDirPath) throws Exception {
         if (member instanceof Method) {
             Method method = (Method) member;
             mIsStatic = Modifier.isStatic(method.getModifiers());
@@ -144,6 +175,10 @@ public class HookerDexMakerNew implements HookMaker {
             mAppClassLoader = appClassLoader;
         }
 
+        if (XposedCompat.shareHookerByShape) {
+            return prepareShared();
+        }
+
         mDexMaker = new DexMaker();
         // Generate a Hooker class.
         String className = getClassName(mMember);
@@ -151,26 +186,43 @@ public class HookerDexMakerNew implements HookMaker {
 
         HookWrapper.HookEntity hookEntity = null;
         //try load cache first
-        try {
-            ClassLoader loader = mDexMaker.loadClassDirect(mAppClassLoader, new File(mDexDirPath), dexName);
-            if (loader != null) {
-                hookEntity = loadHookerClass(loader, className);
+        if (HookerDexCache.lookup(dexName, mMember.toString())) {
+            try {
+                ClassLoader loader = mDexMaker.loadClassDirect(mAppClassLoader, new File(mDexDirPath), dexName);
+                if (loader != null) {
+                    hookEntity = loadHookerClass(loader, className);
+                }
+            } catch (Throwable throwable) {}
+            if (hookEntity == null) {
+                HookerDexCache.invalidate(dexName);
             }
-        } catch (Throwable throwable) {}
-
-        //do generate
-        if (hookEntity == null) {
-            hookEntity = doMake(className, dexName);
         }
-        SandHook.hook(hookEntity);
+        return hookEntity;
     }
 
-    private HookWrapper.HookEntity doMake(String className, String dexName) throws Exception {
+    public String getHookerClassName() {
+        return getClassName(mMember);
+    }
+
+    public void declareHooker(DexMaker dexMaker) {
+        mDexMaker = dexMaker;
+        declareHookerClass(getHookerClassName());
+    }
+
+    public HookWrapper.HookEntity loadHooker(ClassLoader loader) throws Exception {
+        return loadHookerClass(loader, getHookerClassName());
+    }
+
+    private void declareHookerClass(String className) {
         mHookerTypeId = TypeId.get(CLASS_DESC_PREFIX + className + ";");
         mDexMaker.declare(mHookerTypeId, className + ".generated", Modifier.PUBLIC, TypeId.OBJECT);
         generateFields();
         generateHookMethod();
         generateBackupMethod();
+    }
+
+    private HookWrapper.HookEntity doMake(String className, String dexName) throws Exception {
+        declareHookerClass(className);
 
         ClassLoader loader = null;
         if (TextUtils.isEmpty(mDexDirPath)) {
@@ -184,6 +236,7 @@ public class HookerDexMakerNew implements HookMaker {
             // Create the dex file and load it.
             try {
                 loader = mDexMaker.generateAndLoad(mAppClassLoader, new File(mDexDirPath), dexName);
+                HookerDexCache.put(dexName, mMember.toString());
             } catch (IOException e) {
                 //can not write file
                 if (SandHookConfig.SDK_INT >= Build.VERSION_CODES.O) {
@@ -241,14 +294,139 @@ public class HookerDexMakerNew implements HookMaker {
         mDexMaker.declare(mBackupMethodFieldId, Modifier.STATIC, null);
     }
 
+    //take a free slot of a shared hooker class of the member's shape, make a new class of the shape if all are used
+    private HookWrapper.HookEntity prepareShared() throws Exception {
+        mActualParameterTypes = getErasedTypes(mActualParameterTypes);
+        mParameterTypeIds = getParameterTypeIds(mActualParameterTypes, true);
+        String shape = getShape();
+        synchronized (shapeTables) {
+            List<ShapeTable> tables = shapeTables.get(shape);
+            if (tables == null) {
+                tables = new ArrayList<>();
+                shapeTables.put(shape, tables);
+            }
+            ShapeTable table = tables.isEmpty() ? null : tables.get(tables.size() - 1);
+            if (table == null || table.isFull()) {
+                table = makeShapeTable(shape, tables.size());
+                tables.add(table);
+            }
+            int slot = table.nextSlot++;
+            mHookClass = table.hookerClass;
+            mHookMethod = table.hooks[slot];
+            mBackupMethod = table.backups[slot];
+            table.methods[slot] = mMember;
+            table.backupMethods[slot] = mBackupMethod;
+            table.hookInfos[slot] = mHookInfo;
+        }
+        return new HookWrapper.HookEntity(mMember, mHookMethod, mBackupMethod, false);
+    }
+
+    private ShapeTable makeShapeTable(String shape, int classIndex) throws Exception {
+        String className = SHAPE_CLASS_NAME_PREFIX + "_" + MD5(shape) + "_" + classIndex;
+        String dexName = className + ".jar";
+        String key = shape + "#" + SHAPE_SLOTS + "#" + classIndex;
+        //shared hookers only see erased types, no app class loader needed
+        ClassLoader parent = HookerDexMakerNew.class.getClassLoader();
+        Class<?> hookerClass = null;
+        if (HookerDexCache.lookup(dexName, key)) {
+            try {
+                ClassLoader loader = new DexMaker().loadClassDirect(parent, new File(mDexDirPath), dexName);
+                if (loader != null) {
+                    hookerClass = loader.loadClass(className);
+                }
+            } catch (Throwable throwable) {}
+            if (hookerClass == null) {
+                HookerDexCache.invalidate(dexName);
+            }
+        }
+        if (hookerClass == null) {
+            mDexMaker = new DexMaker();
+            declareShapeClass(className);
+            ClassLoader loader = null;
+            if (TextUtils.isEmpty(mDexDirPath)) {
+                if (SandHookConfig.SDK_INT < Build.VERSION_CODES.O) {
+                    throw new IllegalArgumentException("dexDirPath should not be empty!!!");
+                } else {
+                    byte[] dexBytes = mDexMaker.generate();
+                    loader = new InMemoryDexClassLoader(ByteBuffer.wrap(dexBytes), parent);
+                }
+            } else {
+                try {
+                    loader = mDexMaker.generateAndLoad(parent, new File(mDexDirPath), dexName);
+                    HookerDexCache.put(dexName, key);
+                } catch (IOException e) {
+                    //can not write file
+                    if (SandHookConfig.SDK_INT >= Build.VERSION_CODES.O) {
+                        byte[] dexBytes = mDexMaker.generate();
+                        loader = new InMemoryDexClassLoader(ByteBuffer.wrap(dexBytes), parent);
+                    }
+                }
+            }
+            if (loader == null)
+                throw new IOException("can not load shared hooker " + className);
+            hookerClass = loader.loadClass(className);
+        }
+        return new ShapeTable(hookerClass, mActualParameterTypes);
+    }
+
+    private void declareShapeClass(String className) {
+        mHookerTypeId = TypeId.get(CLASS_DESC_PREFIX + className + ";");
+        mDexMaker.declare(mHookerTypeId, className + ".generated", Modifier.PUBLIC, TypeId.OBJECT);
+        mMethodsFieldId = mHookerTypeId.getField(memberArrayTypeId, FIELD_NAME_METHODS);
+        mBackupMethodsFieldId = mHookerTypeId.getField(methodArrayTypeId, FIELD_NAME_BACKUP_METHODS);
+        mHookInfosFieldId = mHookerTypeId.getField(hookInfoArrayTypeId, FIELD_NAME_HOOK_INFOS);
+        mDexMaker.declare(mMethodsFieldId, Modifier.STATIC, null);
+        mDexMaker.declare(mBackupMethodsFieldId, Modifier.STATIC, null);
+        mDexMaker.declare(mHookInfosFieldId, Modifier.STATIC, null);
+        for (int slot = 0; slot < SHAPE_SLOTS; slot++) {
+            generateHookMethod(slot);
+            generateBackupMethod(slot);
+        }
+    }
+
+    //static-ness, return & parameter types with all references as Object
+    private String getShape() {
+        StringBuilder builder = new StringBuilder(mIsStatic ? "static " : "virtual ");
+        builder.append(mReturnTypeId.getName()).append('(');
+        for (TypeId<?> typeId : mParameterTypeIds) {
+            builder.append(typeId.getName());
+        }
+        return builder.append(')').toString();
+    }
+
+    private static Class<?>[] getErasedTypes(Class<?>[] types) {
+        Class<?>[] erasedTypes = new Class<?>[types.length];
+        for (int i = 0; i < types.length; i++) {
+            erasedTypes[i] = types[i].isPrimitive() ? types[i] : Object.class;
+        }
+        return erasedTypes;
+    }
+
+    private static String getHookMethodName(int slot) {
+        return slot < 0 ? METHOD_NAME_HOOK : METHOD_NAME_HOOK + "_" + slot;
+    }
+
+    private static String getBackupMethodName(int slot) {
+        return slot < 0 ? METHOD_NAME_BACKUP : METHOD_NAME_BACKUP + "_" + slot;
+    }
+
     private void generateBackupMethod() {
-        mBackupMethodId = mHookerTypeId.getMethod(TypeId.VOID, METHOD_NAME_BACKUP);
+        generateBackupMethod(-1);
+    }
+
+    private void generateBackupMethod(int slot) {
+        mBackupMethodId = mHookerTypeId.getMethod(TypeId.VOID, getBackupMethodName(slot));
         Code code = mDexMaker.declare(mBackupMethodId, Modifier.PUBLIC | Modifier.STATIC);
         code.returnVoid();
     }
 
     private void generateHookMethod() {
-        mHookMethodId = mHookerTypeId.getMethod(mReturnTypeId, METHOD_NAME_HOOK, mParameterTypeIds);
+        generateHookMethod(-1);
+    }
+
+    //slot >= 0: hook method of a shared class, reads its member, backup & hook info from the slot of static arrays
+    private void generateHookMethod(int slot) {
+        mHookMethodId = mHookerTypeId.getMethod(mReturnTypeId, getHookMethodName(slot), mParameterTypeIds);
         mSandHookBridgeMethodId = TypeId.get(HookStubManager.class).getMethod(TypeId.get(Object.class), "hookBridge", memberTypeId, methodTypeId, hookInfoTypeId, TypeId.get(Object.class), TypeId.get(Object[].class));
 
         Code code = mDexMaker.declare(mHookMethodId, Modifier.PUBLIC | Modifier.STATIC);
@@ -261,6 +439,10 @@ public class HookerDexMakerNew implements HookMaker {
         Local<Integer> actualParamSize = code.newLocal(TypeId.INT);
         Local<Integer> argIndex = code.newLocal(TypeId.INT);
         Local<Object> resultObj = code.newLocal(TypeId.OBJECT);
+        Local<Member[]> methods = slot < 0 ? null : code.newLocal(memberArrayTypeId);
+        Local<Method[]> backupMethods = slot < 0 ? null : code.newLocal(methodArrayTypeId);
+        Local<XposedBridge.AdditionalHookInfo[]> hookInfos = slot < 0 ? null : code.newLocal(hookInfoArrayTypeId);
+        Local<Integer> slotIndex = slot < 0 ? null : code.newLocal(TypeId.INT);
 
         Local[] allArgsLocals = createParameterLocals(code);
         Map<TypeId, Local> resultLocals = createResultLocals(code);
@@ -268,9 +450,19 @@ public class HookerDexMakerNew implements HookMaker {
 
         code.loadConstant(args, null);
         code.loadConstant(argIndex, 0);
-        code.sget(mMethodFieldId, originMethod);
-        code.sget(mBackupMethodFieldId, backupMethod);
-        code.sget(mHookInfoFieldId, hookInfo);
+        if (slot < 0) {
+            code.sget(mMethodFieldId, originMethod);
+            code.sget(mBackupMethodFieldId, backupMethod);
+            code.sget(mHookInfoFieldId, hookInfo);
+        } else {
+            code.loadConstant(slotIndex, slot);
+            code.sget(mMethodsFieldId, methods);
+            code.aget(originMethod, methods, slotIndex);
+            code.sget(mBackupMethodsFieldId, backupMethods);
+            code.aget(backupMethod, backupMethods, slotIndex);
+            code.sget(mHookInfosFieldId, hookInfos);
+            code.aget(hookInfo, hookInfos, slotIndex);
+        }
 
         int paramsSize = mParameterTypeIds.length;
         int offset = 0;
@@ -319,4 +511,31 @@ public class HookerDexMakerNew implements HookMaker {
         }
         return paramLocals;
     }
+
+    static class ShapeTable {
+
+        final Class<?> hookerClass;
+        final Method[] hooks = new Method[SHAPE_SLOTS];
+        final Method[] backups = new Method[SHAPE_SLOTS];
+        //static arrays of the hooker class, a slot is filled before its hook is installed
+        final Member[] methods = new Member[SHAPE_SLOTS];
+        final Method[] backupMethods = new Method[SHAPE_SLOTS];
+        final XposedBridge.AdditionalHookInfo[] hookInfos = new XposedBridge.AdditionalHookInfo[SHAPE_SLOTS];
+        int nextSlot;
+
+        ShapeTable(Class<?> hookerClass, Class<?>[] parameterTypes) throws Exception {
+            this.hookerClass = hookerClass;
+            for (int slot = 0; slot < SHAPE_SLOTS; slot++) {
+                hooks[slot] = hookerClass.getMethod(getHookMethodName(slot), parameterTypes);
+                backups[slot] = hookerClass.getMethod(getBackupMethodName(slot));
+            }
+            XposedHelpers.setStaticObjectField(hookerClass, FIELD_NAME_METHODS, methods);
+            XposedHelpers.setStaticObjectField(hookerClass, FIELD_NAME_BACKUP_METHODS, backupMethods);
+            XposedHelpers.setStaticObjectField(hookerClass, FIELD_NAME_HOOK_INFOS, hookInfos);
+        }
+
+        boolean isFull() {
+            return nextSlot >= SHAPE_SLOTS;
+        }
+    }
 }
@@ -0,0 +1,242 @@
+package com.swift.sandhook.xposedcompat.methodgen;
+
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.os.BatteryManager;
+import android.os.Build;
+import android.os.PowerManager;
+import android.os.Process;
+import android.os.SystemClock;
+
+import com.swift.sandhook.SandHook;
+import com.swift.sandhook.SandHookConfig;
+import com.swift.sandhook.utils.ArtDexOptimizer;
+import com.swift.sandhook.xposedcompat.XposedCompat;
+import com.swift.sandhook.xposedcompat.utils.DexLog;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * compiles generated hooker jars with dex2oat in background, the next launch loads compiled hookers,
+ * jobs start when no jar was queued for a while & the device is charging or has enough battery
+ */
+public final class HookerDexOptimizer {
+
+    public static final int STATE_UNKNOWN = -1;
+    public static final int STATE_QUEUED = 0;
+    public static final int STATE_RUNNING = 1;
+    public static final int STATE_COMPILED = 2;
+    public static final int STATE_FAILED = 3;
+
+    //hooks of startup are done once no jar is queued for this long
+    private static final long QUIET_MS = 10 * 1000;
+    //check battery again after
+    private static final long RETRY_MS = 60 * 1000;
+
+    private static final Map<String, Integer> states = new HashMap<>();
+    private static final ArrayDeque<File> queue = new ArrayDeque<>();
+    private static int running;
+    private static int compiled;
+    private static int failed;
+    private static long lastQueued;
+    private static String lastError;
+    private static boolean tickScheduled;
+
+    private static ScheduledExecutorService scheduler;
+    private static ExecutorService compileExecutor;
+
+    //apps can not exec dex2oat since Q, before O jars are compiled when they are loaded
+    public static boolean isSupported() {
+        return SandHookConfig.SDK_INT >= Build.VERSION_CODES.O && SandHookConfig.SDK_INT < Build.VERSION_CODES.Q;
+    }
+
+    public static synchronized void enqueue(File dexFile) {
+        if (!XposedCompat.precompileHookerDex || !isSupported())
+            return;
+        String path = dexFile.getAbsolutePath();
+        Integer state = states.get(path);
+        if (state != null && (state == STATE_QUEUED || state == STATE_RUNNING))
+            return;
+        File oatFile = getOatFile(dexFile);
+        if (oatFile.exists() && oatFile.lastModified() >= dexFile.lastModified()) {
+            states.put(path, STATE_COMPILED);
+            return;
+        }
+        states.put(path, STATE_QUEUED);
+        queue.add(dexFile);
+        lastQueued = SystemClock.elapsedRealtime();
+        schedule(QUIET_MS);
+    }
+
+    public static synchronized int getState(File dexFile) {
+        Integer state = states.get(dexFile.getAbsolutePath());
+        return state == null ? STATE_UNKNOWN : state;
+    }
+
+    public static synchronized Status getStatus() {
+        Status status = new Status();
+        status.supported = isSupported();
+        status.queued = queue.size();
+        status.running = running;
+        status.compiled = compiled;
+        status.failed = failed;
+        status.lastError = lastError;
+        return status;
+    }
+
+    //odex next to the jar, where the runtime looks for it when the jar is loaded
+    public static File getOatFile(File dexFile) {
+        String name = dexFile.getName();
+        int dot = name.lastIndexOf('.');
+        if (dot > 0) {
+            name = name.substring(0, dot);
+        }
+        File oatDir = new File(new File(dexFile.getParentFile(), "oat"), SandHook.is64Bit() ? "arm64" : "arm");
+        return new File(oatDir, name + ".odex");
+    }
+
+    private static void schedule(long delay) {
+        if (tickScheduled)
+            return;
+        tickScheduled = true;
+        getScheduler().schedule(new Runnable() {
+            @Override
+            public void run() {
+                tick();
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static synchronized void tick() {
+        tickScheduled = false;
+        if (queue.isEmpty())
+            return;
+        long quiet = QUIET_MS - (SystemClock.elapsedRealtime() - lastQueued);
+        if (quiet > 0) {
+            schedule(quiet);
+            return;
+        }
+        if (!canRun()) {
+            schedule(RETRY_MS);
+            return;
+        }
+        int threads = Math.max(1, XposedCompat.dexOptThreads);
+        while (running < threads && !queue.isEmpty()) {
+            final File dexFile = queue.poll();
+            states.put(dexFile.getAbsolutePath(), STATE_RUNNING);
+            running++;
+            getCompileExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    compile(dexFile);
+                }
+            });
+        }
+    }
+
+    private static void compile(File dexFile) {
+        String error = null;
+        try {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+        } catch (Throwable throwable) {}
+        long timeStart = System.currentTimeMillis();
+        try {
+            if (dexFile.exists()) {
+                ArtDexOptimizer.dexoatAndDisableInline(dexFile.getAbsolutePath(), getOatFile(dexFile).getAbsolutePath());
+            } else {
+                error = "dex file is deleted";
+            }
+        } catch (Throwable throwable) {
+            error = throwable.toString();
+        }
+        synchronized (HookerDexOptimizer.class) {
+            running--;
+            if (error == null) {
+                compiled++;
+                states.put(dexFile.getAbsolutePath(), STATE_COMPILED);
+                DexLog.d("compiled hooker dex " + dexFile.getName() + " cost " + (System.currentTimeMillis() - timeStart) + " ms");
+            } else {
+                failed++;
+                lastError = dexFile.getName() + ": " + error;
+                states.put(dexFile.getAbsolutePath(), STATE_FAILED);
+                DexLog.w("error when compile hooker dex " + lastError);
+            }
+            if (!queue.isEmpty()) {
+                schedule(0);
+            }
+        }
+    }
+
+    private static boolean canRun() {
+        Context context = XposedCompat.context;
+        if (context == null)
+            return true;
+        try {
+            PowerManager powerManager = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+            if (powerManager != null && powerManager.isPowerSaveMode())
+                return false;
+            Intent battery = context.registerReceiver(null, new IntentFilter(Intent.ACTION_BATTERY_CHANGED));
+            if (battery == null)
+                return true;
+            int status = battery.getIntExtra(BatteryManager.EXTRA_STATUS, -1);
+            if (status == BatteryManager.BATTERY_STATUS_CHARGING || status == BatteryManager.BATTERY_STATUS_FULL)
+                return true;
+            int level = battery.getIntExtra(BatteryManager.EXTRA_LEVEL, -1);
+            int scale = battery.getIntExtra(BatteryManager.EXTRA_SCALE, -1);
+            return level < 0 || scale <= 0 || level * 100 / scale >= XposedCompat.dexOptMinBatteryLevel;
+        } catch (Throwable throwable) {
+            return true;
+        }
+    }
+
+    private static ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(newThreadFactory("SandHook-DexOpt"));
+        }
+        return scheduler;
+    }
+
+    private static ExecutorService getCompileExecutor() {
+        if (compileExecutor == null) {
+            compileExecutor = Executors.newCachedThreadPool(newThreadFactory("SandHook-Dex2oat"));
+        }
+        return compileExecutor;
+    }
+
+    private static ThreadFactory newThreadFactory(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    public static class Status {
+        public boolean supported;
+        public int queued;
+        public int running;
+        public int compiled;
+        public int failed;
+        public String lastError;
+
+        @Override
+        public String toString() {
+            return "supported=" + supported + ", queued=" + queued + ", running=" + running
+                    + ", compiled=" + compiled + ", failed=" + failed
+                    + (lastError == null ? "" : ", last error: " + lastError);
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.swift.sandhook.xposedcompat.methodgen;
+
+import com.swift.sandhook.wrapper.BackupInvoker;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+/**
+ * binds the invoker generated with each HookerDexMaker hooker,
+ * other backups (stubs, HookerDexMakerNew) fall back to reflection
+ */
+public class HookerInvokerFactory implements BackupInvoker.Factory {
+
+    @Override
+    public BackupInvoker create(Member origin, Method backup) throws Throwable {
+        Class<?> hookerClass = backup.getDeclaringClass();
+        if (!hookerClass.getName().startsWith(HookerDexMaker.CLASS_NAME_PREFIX + "_"))
+            return null;
+        //jars of older generators have no invoker, ClassNotFoundException falls back too
+        Class<?> invokerClass = Class.forName(hookerClass.getName() + HookerDexMaker.CLASS_NAME_SUFFIX_INVOKER,
+                true, hookerClass.getClassLoader());
+        return (BackupInvoker) invokerClass.newInstance();
+    }
+
+}
@@ -3,6 +3,7 @@ package com.swift.sandhook.xposedcompat.utils;
 import android.util.Log;
 
 import com.swift.sandhook.HookLog;
+import com.swift.sandhook.utils.AsyncLogger;
 
 import java.lang.reflect.Member;
 
@@ -14,39 +15,46 @@ public class DexLog {
     public static boolean DEBUG = HookLog.DEBUG;
 
     public static int v(String s) {
-        return Log.v(TAG, s);
+        return AsyncLogger.println(Log.VERBOSE, TAG, s);
     }
 
     public static int i(String s) {
-        return Log.i(TAG, s);
+        return AsyncLogger.println(Log.INFO, TAG, s);
     }
 
     public static int d(String s) {
-        return Log.d(TAG, s);
+        return AsyncLogger.println(Log.DEBUG, TAG, s);
     }
 
     public static void printMethodHookIn(Member member) {
         if (DEBUG && member != null) {
-            Log.d(TAG, "method <" + member.toString() + "> hook in");
+            AsyncLogger.println(Log.DEBUG, TAG, member, "method <" + member.toString() + "> hook in", null);
         }
     }
 
     public static void printCallOriginError(Member member) {
         if (member != null) {
-            Log.e(TAG, "method <" + member.toString() + "> call origin error!");
+            AsyncLogger.println(Log.ERROR, TAG, member, "method <" + member.toString() + "> call origin error!", null);
+        }
+    }
+
+    //exception of a callback or the origin method in hook bridge, rate limited per hooked method
+    public static void printHookError(Member member, Throwable throwable) {
+        if (DEBUG) {
+            AsyncLogger.println(Log.ERROR, TAG, member, null, throwable);
         }
     }
 
     public static int w(String s) {
-        return Log.w(TAG, s);
+        return AsyncLogger.println(Log.WARN, TAG, s);
     }
 
     public static int e(String s) {
-        return Log.e(TAG, s);
+        return AsyncLogger.println(Log.ERROR, TAG, s);
     }
 
     public static int e(String s, Throwable t) {
-        return Log.e(TAG, s, t);
+        return AsyncLogger.println(Log.ERROR, TAG, s, t);
     }
 
 
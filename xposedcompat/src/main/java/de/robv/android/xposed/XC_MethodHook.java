@@ -134,6 +134,20 @@ public abstract class XC_MethodHook extends XCallback {
 				throw throwable;
 			return result;
 		}
+
+		/**
+		 * Clears this param so that it can be reused for another call.
+		 * @hide
+		 */
+		public void reset() {
+			method = null;
+			thisObject = null;
+			args = null;
+			result = null;
+			throwable = null;
+			returnEarly = false;
+			resetExtra();
+		}
 	}
 
 	/**
@@ -4,6 +4,8 @@ import android.annotation.SuppressLint;
 import android.util.Log;
 
 import com.swift.sandhook.SandHook;
+import com.swift.sandhook.utils.AsyncLogger;
+import com.swift.sandhook.xposedcompat.XposedCompat;
 import com.swift.sandhook.xposedcompat.methodgen.DynamicBridge;
 import com.swift.sandhook.xposedcompat.utils.DexLog;
 
@@ -15,11 +17,17 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import de.robv.android.xposed.callbacks.XC_InitPackageResources;
 import de.robv.android.xposed.callbacks.XC_LoadPackage;
@@ -61,7 +69,9 @@ public final class XposedBridge {
 	private static final Object[] EMPTY_ARRAY = new Object[0];
 
 	// built-in handlers
-	public static final Map<Member, CopyOnWriteSortedSet<XC_MethodHook>> sHookedMethodCallbacks = new HashMap<>();
+	// callbacks of one member are guarded by their own set, so hooks of different members never wait on each other
+	private static final ConcurrentHashMap<Member, CopyOnWriteSortedSet<XC_MethodHook>> sHookedMethodRegistry = new ConcurrentHashMap<>();
+	public static final Map<Member, CopyOnWriteSortedSet<XC_MethodHook>> sHookedMethodCallbacks = sHookedMethodRegistry;
 	public static final CopyOnWriteSortedSet<XC_LoadPackage> sLoadedPackageCallbacks = new CopyOnWriteSortedSet<>();
 	public static final CopyOnWriteSortedSet<XC_InitPackageResources> sInitPackageResourcesCallbacks = new CopyOnWriteSortedSet<>();
 
@@ -98,9 +108,9 @@ public final class XposedBridge {
 	 *
 	 * @param text The log message.
 	 */
-	public synchronized static void log(String text) {
+	public static void log(String text) {
 		if (DexLog.DEBUG) {
-			Log.i(TAG, text);
+			AsyncLogger.println(Log.INFO, TAG, text);
 		}
 	}
 
@@ -112,9 +122,9 @@ public final class XposedBridge {
 	 *
 	 * @param t The Throwable object for the stack trace.
 	 */
-	public synchronized static void log(Throwable t) {
+	public static void log(Throwable t) {
 		if (DexLog.DEBUG) {
-			Log.e(TAG, Log.getStackTraceString(t));
+			AsyncLogger.println(Log.ERROR, TAG, null, t);
 		}
 	}
 
@@ -134,54 +144,138 @@ public final class XposedBridge {
 	 * @see #hookAllConstructors
 	 */
 	public static XC_MethodHook.Unhook hookMethod(Member hookMethod, XC_MethodHook callback) {
-		if (!(hookMethod instanceof Method) && !(hookMethod instanceof Constructor<?>)) {
-			throw new IllegalArgumentException("Only methods and constructors can be hooked: " + hookMethod.toString());
-		} else if (hookMethod.getDeclaringClass().isInterface()) {
-			throw new IllegalArgumentException("Cannot hook interfaces: " + hookMethod.toString());
-		} else if (Modifier.isAbstract(hookMethod.getModifiers())) {
-			throw new IllegalArgumentException("Cannot hook abstract methods: " + hookMethod.toString());
-		}
+		checkHookMethod(hookMethod);
 
 		if (callback == null) {
 			throw new IllegalArgumentException("callback should not be null!");
 		}
 
-		boolean newMethod = false;
-		CopyOnWriteSortedSet<XC_MethodHook> callbacks;
-		synchronized (sHookedMethodCallbacks) {
-			callbacks = sHookedMethodCallbacks.get(hookMethod);
+		CopyOnWriteSortedSet<XC_MethodHook> callbacks = addCallback(hookMethod, callback);
+
+		if (callbacks != null) {
+			installHook(hookMethod, callbacks);
+		} else {
+			// the hook may still be installing by another thread
+			waitForInstall(hookMethod, callback);
+		}
+
+		return callback.new Unhook(hookMethod);
+	}
+
+	/**
+	 * Waits for the hook installed by another caller. If that install failed, its callbacks
+	 * are dropped with the callback of this caller, so the member is hooked again.
+	 */
+	private static void waitForInstall(Member hookMethod, XC_MethodHook callback) {
+		if (!DynamicBridge.waitForInstall(hookMethod) && !sHookedMethodRegistry.containsKey(hookMethod)) {
+			hookMethod(hookMethod, callback);
+		}
+	}
+
+	/**
+	 * Drops the callbacks of a member whose hook failed to install, a later hook installs it again.
+	 * Only for the hook bridge. The monitor of the callbacks is not taken, its holder may wait for this install.
+	 * A callback added to the dropped callbacks meanwhile is hooked again by {@link #waitForInstall}.
+	 */
+	public static void removeFailedCallbacks(Member hookMethod, CopyOnWriteSortedSet<XC_MethodHook> callbacks) {
+		sHookedMethodRegistry.remove(hookMethod, callbacks);
+	}
+
+	/**
+	 * Adds the callback to the callbacks of the member.
+	 * @return The new callbacks if the member has no hook yet, otherwise {@code null}.
+	 */
+	private static CopyOnWriteSortedSet<XC_MethodHook> addCallback(Member hookMethod, XC_MethodHook callback) {
+		for (;;) {
+			boolean newMethod = false;
+			CopyOnWriteSortedSet<XC_MethodHook> callbacks = sHookedMethodCallbacks.get(hookMethod);
 			if (callbacks == null) {
-				callbacks = new CopyOnWriteSortedSet<>();
-				sHookedMethodCallbacks.put(hookMethod, callbacks);
-				newMethod = true;
+				CopyOnWriteSortedSet<XC_MethodHook> newCallbacks = new CopyOnWriteSortedSet<>();
+				callbacks = sHookedMethodRegistry.putIfAbsent(hookMethod, newCallbacks);
+				if (callbacks == null) {
+					callbacks = newCallbacks;
+					newMethod = true;
+				}
 			}
+			synchronized (callbacks) {
+				// restored and removed by a concurrent unhook, hook it again
+				if (sHookedMethodCallbacks.get(hookMethod) != callbacks)
+					continue;
+				callbacks.add(callback);
+			}
+			return newMethod ? callbacks : null;
+		}
+	}
+
+	/**
+	 * Hook many methods (or constructors) with the same callback in one pass. All members are
+	 * checked before any of them is hooked.
+	 *
+	 * @param hookMethods The methods to be hooked.
+	 * @param callback The callback to be executed when the hooked methods are called.
+	 * @return A set containing one object for each method which can be used to unhook it.
+	 *
+	 * @see #hookMethod(Member, XC_MethodHook)
+	 */
+	public static Set<XC_MethodHook.Unhook> hookMethods(Collection<? extends Member> hookMethods, XC_MethodHook callback) {
+		for (Member hookMethod : hookMethods)
+			checkHookMethod(hookMethod);
+
+		if (callback == null) {
+			throw new IllegalArgumentException("callback should not be null!");
 		}
-		callbacks.add(callback);
-
-		if (newMethod) {
-			Class<?> declaringClass = hookMethod.getDeclaringClass();
-			int slot;
-			Class<?>[] parameterTypes;
-			Class<?> returnType;
-			if (runtime == RUNTIME_ART) {
-				slot = 0;
-				parameterTypes = null;
-				returnType = null;
-			} else if (hookMethod instanceof Method) {
-				slot = getIntField(hookMethod, "slot");
-				parameterTypes = ((Method) hookMethod).getParameterTypes();
-				returnType = ((Method) hookMethod).getReturnType();
+
+		Set<XC_MethodHook.Unhook> unhooks = new HashSet<>();
+		Map<Member, AdditionalHookInfo> newMethods = new LinkedHashMap<>();
+		List<Member> hookedMethods = new ArrayList<>();
+		for (Member hookMethod : hookMethods) {
+			CopyOnWriteSortedSet<XC_MethodHook> callbacks = addCallback(hookMethod, callback);
+			if (callbacks != null) {
+				newMethods.put(hookMethod, newHookInfo(hookMethod, callbacks));
 			} else {
-				slot = getIntField(hookMethod, "slot");
-				parameterTypes = ((Constructor<?>) hookMethod).getParameterTypes();
-				returnType = null;
+				hookedMethods.add(hookMethod);
 			}
+			unhooks.add(callback.new Unhook(hookMethod));
+		}
+
+		// new hooks are installed in parallel
+		DynamicBridge.hookMethods(newMethods);
+		for (Member hookMethod : hookedMethods) {
+			waitForInstall(hookMethod, callback);
+		}
+
+		return unhooks;
+	}
+
+	private static void checkHookMethod(Member hookMethod) {
+		if (!(hookMethod instanceof Method) && !(hookMethod instanceof Constructor<?>)) {
+			throw new IllegalArgumentException("Only methods and constructors can be hooked: " + hookMethod.toString());
+		} else if (hookMethod.getDeclaringClass().isInterface()) {
+			throw new IllegalArgumentException("Cannot hook interfaces: " + hookMethod.toString());
+		} else if (Modifier.isAbstract(hookMethod.getModifiers())) {
+			throw new IllegalArgumentException("Cannot hook abstract methods: " + hookMethod.toString());
+		}
+	}
 
-            AdditionalHookInfo additionalInfo = new AdditionalHookInfo(callbacks, parameterTypes, returnType);
-            hookMethodNative(hookMethod, declaringClass, slot, additionalInfo);
-        }
+	private static void installHook(Member hookMethod, CopyOnWriteSortedSet<XC_MethodHook> callbacks) {
+		int slot = runtime == RUNTIME_ART ? 0 : getIntField(hookMethod, "slot");
+		hookMethodNative(hookMethod, hookMethod.getDeclaringClass(), slot, newHookInfo(hookMethod, callbacks));
+	}
 
-        return callback.new Unhook(hookMethod);
+	private static AdditionalHookInfo newHookInfo(Member hookMethod, CopyOnWriteSortedSet<XC_MethodHook> callbacks) {
+		Class<?>[] parameterTypes;
+		Class<?> returnType;
+		if (runtime == RUNTIME_ART) {
+			parameterTypes = null;
+			returnType = null;
+		} else if (hookMethod instanceof Method) {
+			parameterTypes = ((Method) hookMethod).getParameterTypes();
+			returnType = ((Method) hookMethod).getReturnType();
+		} else {
+			parameterTypes = ((Constructor<?>) hookMethod).getParameterTypes();
+			returnType = null;
+		}
+		return new AdditionalHookInfo(callbacks, parameterTypes, returnType);
 	}
 
 	/**
@@ -195,13 +289,20 @@ public final class XposedBridge {
 	 */
 	@Deprecated
 	public static void unhookMethod(Member hookMethod, XC_MethodHook callback) {
-		CopyOnWriteSortedSet<XC_MethodHook> callbacks;
-		synchronized (sHookedMethodCallbacks) {
-			callbacks = sHookedMethodCallbacks.get(hookMethod);
-			if (callbacks == null)
-				return;
+		CopyOnWriteSortedSet<XC_MethodHook> callbacks = sHookedMethodCallbacks.get(hookMethod);
+		if (callbacks == null)
+			return;
+		// wait for the install outside the monitor, a failed install drops the callbacks
+		DynamicBridge.waitForInstall(hookMethod);
+		synchronized (callbacks) {
+			callbacks.remove(callback);
+			// restore the method once the last callback is gone, hooking it again installs a new hook
+			if (XposedCompat.restoreUnhookedMethod && callbacks.getSnapshot().length == 0
+					&& sHookedMethodRegistry.get(hookMethod) == callbacks
+					&& DynamicBridge.unhookMethod(hookMethod)) {
+				sHookedMethodRegistry.remove(hookMethod, callbacks);
+			}
 		}
-		callbacks.remove(callback);
 	}
 
 	/**
@@ -216,11 +317,11 @@ public final class XposedBridge {
 	 */
 	@SuppressWarnings("UnusedReturnValue")
 	public static Set<XC_MethodHook.Unhook> hookAllMethods(Class<?> hookClass, String methodName, XC_MethodHook callback) {
-		Set<XC_MethodHook.Unhook> unhooks = new HashSet<>();
+		List<Member> methods = new ArrayList<>();
 		for (Member method : hookClass.getDeclaredMethods())
 			if (method.getName().equals(methodName))
-				unhooks.add(hookMethod(method, callback));
-		return unhooks;
+				methods.add(method);
+		return hookMethods(methods, callback);
 	}
 
 	/**
@@ -232,10 +333,7 @@ public final class XposedBridge {
 	 */
 	@SuppressWarnings("UnusedReturnValue")
 	public static Set<XC_MethodHook.Unhook> hookAllConstructors(Class<?> hookClass, XC_MethodHook callback) {
-		Set<XC_MethodHook.Unhook> unhooks = new HashSet<>();
-		for (Member constructor : hookClass.getDeclaredConstructors())
-			unhooks.add(hookMethod(constructor, callback));
-		return unhooks;
+		return hookMethods(Arrays.asList(hookClass.getDeclaredConstructors()), callback);
 	}
 
 	/**
@@ -278,7 +376,7 @@ public final class XposedBridge {
 	 * Intercept every call to the specified method and call a handler function instead.
 	 * @param method The method to intercept
 	 */
-	private synchronized static void hookMethodNative(final Member method, Class<?> declaringClass,
+	private static void hookMethodNative(final Member method, Class<?> declaringClass,
                                                       int slot, final Object additionalInfoObj) {
 		DynamicBridge.hookMethod(method, (AdditionalHookInfo) additionalInfoObj);
 
@@ -334,21 +432,80 @@ public final class XposedBridge {
 	/** @hide */
 	public static final class CopyOnWriteSortedSet<E> {
 		private transient volatile Object[] elements = EMPTY_ARRAY;
+		private transient volatile DispatchPlan plan = DispatchPlan.EMPTY;
 
 		@SuppressWarnings("UnusedReturnValue")
 		public synchronized boolean add(E e) {
-			int index = indexOf(e);
-			if (index >= 0)
+			Object[] current = elements;
+			int index = Arrays.binarySearch(current, e);
+			if (index >= 0 && containsEqual(current, current.length, index, e))
 				return false;
 
-			Object[] newElements = new Object[elements.length + 1];
-			System.arraycopy(elements, 0, newElements, 0, elements.length);
-			newElements[elements.length] = e;
-			Arrays.sort(newElements);
-			elements = newElements;
+			// insert at the sorted position instead of sorting again
+			int insert = index >= 0 ? index + 1 : -index - 1;
+			Object[] newElements = new Object[current.length + 1];
+			System.arraycopy(current, 0, newElements, 0, insert);
+			newElements[insert] = e;
+			System.arraycopy(current, insert, newElements, insert + 1, current.length - insert);
+			publish(newElements);
+			return true;
+		}
+
+		/**
+		 * Adds all elements which are not in the set yet, publishing only one new snapshot.
+		 */
+		@SuppressWarnings("UnusedReturnValue")
+		public synchronized boolean addAll(Collection<? extends E> c) {
+			Object[] added = c.toArray();
+			if (added.length == 0)
+				return false;
+			Arrays.sort(added);
+
+			Object[] current = elements;
+			int addCount = 0;
+			for (int i = 0; i < added.length; i++) {
+				Object e = added[i];
+				int index = Arrays.binarySearch(current, e);
+				if (index >= 0 && containsEqual(current, current.length, index, e))
+					continue;
+				// elements kept so far are sorted too, duplicates in c are skipped
+				if (addCount > 0 && containsEqual(added, addCount, addCount - 1, e))
+					continue;
+				added[addCount++] = e;
+			}
+			if (addCount == 0)
+				return false;
+
+			// merge two sorted arrays
+			Object[] newElements = new Object[current.length + addCount];
+			int i = 0, j = 0, k = 0;
+			while (i < current.length && j < addCount) {
+				if (compare(added[j], current[i]) < 0)
+					newElements[k++] = added[j++];
+				else
+					newElements[k++] = current[i++];
+			}
+			while (i < current.length)
+				newElements[k++] = current[i++];
+			while (j < addCount)
+				newElements[k++] = added[j++];
+			publish(newElements);
 			return true;
 		}
 
+		// duplicates are still decided by equals as in indexOf, the search only finds one of the elements comparing equal
+		private static boolean containsEqual(Object[] sorted, int length, int found, Object e) {
+			for (int i = found; i >= 0 && compare(sorted[i], e) == 0; i--) {
+				if (e.equals(sorted[i]))
+					return true;
+			}
+			for (int i = found + 1; i < length && compare(sorted[i], e) == 0; i++) {
+				if (e.equals(sorted[i]))
+					return true;
+			}
+			return false;
+		}
+
 		@SuppressWarnings("UnusedReturnValue")
 		public synchronized boolean remove(E e) {
 			int index = indexOf(e);
@@ -358,10 +515,15 @@ public final class XposedBridge {
 			Object[] newElements = new Object[elements.length - 1];
 			System.arraycopy(elements, 0, newElements, 0, index);
 			System.arraycopy(elements, index + 1, newElements, index, elements.length - index - 1);
-			elements = newElements;
+			publish(newElements);
 			return true;
 		}
 
+		@SuppressWarnings("unchecked")
+		private static int compare(Object a, Object b) {
+			return ((Comparable<Object>) a).compareTo(b);
+		}
+
 		private int indexOf(Object o) {
 			for (int i = 0; i < elements.length; i++) {
 				if (o.equals(elements[i]))
@@ -374,8 +536,124 @@ public final class XposedBridge {
 			return elements;
 		}
 
+		/**
+		 * Returns the dispatch plan of the current snapshot, use its snapshot instead of {@link #getSnapshot}
+		 * when both are needed.
+		 */
+		public DispatchPlan getDispatchPlan() {
+			return plan;
+		}
+
 		public synchronized void clear() {
-			elements = EMPTY_ARRAY;
+			publish(EMPTY_ARRAY);
+		}
+
+		private void publish(Object[] newElements) {
+			elements = newElements;
+			plan = newElements.length == 0 ? DispatchPlan.EMPTY : new DispatchPlan(newElements);
+		}
+	}
+
+	/**
+	 * Immutable plan of the method hook callbacks of one snapshot, only callbacks that override
+	 * {@code beforeHookedMethod} / {@code afterHookedMethod} are dispatched.
+	 *
+	 * <p>Before callbacks run in order. If {@code beforeCallbacks[i]} returns early, only
+	 * {@code afterCallbacks[afterLimits[i] - 1]} down to {@code afterCallbacks[0]} run,
+	 * otherwise all after callbacks run in reversed order.
+	 *
+	 * <p>If the snapshot has exactly one callback, {@code single} is true and {@code singleBefore} /
+	 * {@code singleAfter} hold that callback, or null if it does not override that method.
+	 * @hide
+	 */
+	public static final class DispatchPlan {
+		private static final int OVERRIDE_BEFORE = 1;
+		private static final int OVERRIDE_AFTER = 2;
+
+		// callback class -> overridden methods, found once by reflection
+		private static final Map<Class<?>, Integer> sOverrides = Collections.synchronizedMap(new WeakHashMap<Class<?>, Integer>());
+
+		static final DispatchPlan EMPTY = new DispatchPlan(EMPTY_ARRAY);
+
+		public final Object[] snapshot;
+		public final XC_MethodHook[] beforeCallbacks;
+		public final int[] afterLimits;
+		public final XC_MethodHook[] afterCallbacks;
+		public final boolean single;
+		public final XC_MethodHook singleBefore;
+		public final XC_MethodHook singleAfter;
+
+		DispatchPlan(Object[] snapshot) {
+			this.snapshot = snapshot;
+			int beforeCount = 0;
+			int afterCount = 0;
+			int[] overrides = new int[snapshot.length];
+			for (int i = 0; i < snapshot.length; i++) {
+				overrides[i] = getOverrides(snapshot[i]);
+				if ((overrides[i] & OVERRIDE_BEFORE) != 0)
+					beforeCount++;
+				if ((overrides[i] & OVERRIDE_AFTER) != 0)
+					afterCount++;
+			}
+			beforeCallbacks = new XC_MethodHook[beforeCount];
+			afterLimits = new int[beforeCount];
+			afterCallbacks = new XC_MethodHook[afterCount];
+			beforeCount = 0;
+			afterCount = 0;
+			for (int i = 0; i < snapshot.length; i++) {
+				// the after callback of a callback that returns early still runs
+				if ((overrides[i] & OVERRIDE_AFTER) != 0)
+					afterCallbacks[afterCount++] = (XC_MethodHook) snapshot[i];
+				if ((overrides[i] & OVERRIDE_BEFORE) != 0) {
+					afterLimits[beforeCount] = afterCount;
+					beforeCallbacks[beforeCount++] = (XC_MethodHook) snapshot[i];
+				}
+			}
+			single = snapshot.length == 1;
+			singleBefore = single && beforeCount == 1 ? beforeCallbacks[0] : null;
+			singleAfter = single && afterCount == 1 ? afterCallbacks[0] : null;
+		}
+
+		/** Returns true if no callback would see the call, the original method can be called directly. */
+		public boolean isEmpty() {
+			return beforeCallbacks.length == 0 && afterCallbacks.length == 0;
+		}
+
+		private static int getOverrides(Object callback) {
+			if (!(callback instanceof XC_MethodHook))
+				return 0;
+			Class<?> callbackClass = callback.getClass();
+			Integer overrides = sOverrides.get(callbackClass);
+			if (overrides == null) {
+				overrides = findOverrides(callbackClass);
+				sOverrides.put(callbackClass, overrides);
+			}
+			return overrides;
+		}
+
+		private static int findOverrides(Class<?> callbackClass) {
+			int overrides = 0;
+			for (Class<?> clazz = callbackClass; clazz != XC_MethodHook.class && clazz != null; clazz = clazz.getSuperclass()) {
+				if (declares(clazz, "beforeHookedMethod") || declares(clazz, "callBeforeHookedMethod"))
+					overrides |= OVERRIDE_BEFORE;
+				// the after method of XC_MethodReplacement is final and empty
+				if (clazz != XC_MethodReplacement.class
+						&& (declares(clazz, "afterHookedMethod") || declares(clazz, "callAfterHookedMethod")))
+					overrides |= OVERRIDE_AFTER;
+			}
+			return overrides;
+		}
+
+		private static boolean declares(Class<?> clazz, String name) {
+			try {
+				clazz.getDeclaredMethod(name, XC_MethodHook.MethodHookParam.class);
+				return true;
+			} catch (NoSuchMethodException e) {
+				return false;
+			} catch (Throwable throwable) {
+				// can not tell, keep calling it
+				return true;
+			}
 		}
 	}
 
@@ -69,6 +69,11 @@ public abstract class XCallback implements Comparable<XCallback> {
 			return extra;
 		}
 
+		/** @hide */
+		protected synchronized void resetExtra() {
+			extra = null;
+		}
+
 		/**
 		 * Returns an object stored with {@link #setObjectExtra}.
 		 */
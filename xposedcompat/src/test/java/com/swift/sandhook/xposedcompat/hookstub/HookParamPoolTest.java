@@ -0,0 +1,71 @@
+package com.swift.sandhook.xposedcompat.hookstub;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class HookParamPoolTest {
+
+    @Test
+    public void reusesFrameOfSameDepth() {
+        HookParamPool pool = new HookParamPool(4);
+        HookParamPool.Frame frame = pool.enter();
+        Object[] args = frame.args(2);
+        long[] stubArgs = frame.stubArgs(3);
+        pool.exit();
+        assertSame(frame, pool.next());
+        assertSame(frame, pool.enter());
+        assertSame(args, frame.args(2));
+        assertSame(stubArgs, frame.stubArgs(3));
+        pool.exit();
+    }
+
+    @Test
+    public void nestedCallsGetOwnFrames() {
+        HookParamPool pool = new HookParamPool(4);
+        HookParamPool.Frame outer = pool.enter();
+        HookParamPool.Frame inner = pool.enter();
+        assertNotSame(outer, inner);
+        assertNotSame(outer.param, inner.param);
+        //deeper than the initial frames
+        pool.enter();
+        pool.enter();
+        pool.enter();
+        pool.exit();
+        pool.exit();
+        pool.exit();
+        pool.exit();
+        assertSame(inner, pool.next());
+        pool.exit();
+    }
+
+    @Test
+    public void exitResetsFrame() {
+        HookParamPool pool = new HookParamPool(4);
+        HookParamPool.Frame frame = pool.enter();
+        Object[] args = frame.args(2);
+        args[0] = "a";
+        args[1] = 1;
+        frame.param.args = args;
+        frame.param.thisObject = this;
+        frame.param.setResult("result");
+        pool.exit();
+        assertNull(args[0]);
+        assertNull(args[1]);
+        assertNull(frame.param.args);
+        assertNull(frame.param.thisObject);
+        assertNull(frame.param.getResult());
+        assertFalse(frame.param.returnEarly);
+    }
+
+    @Test
+    public void emptyStubArgsAreShared() {
+        HookParamPool pool = new HookParamPool(4);
+        assertSame(HookParamPool.emptyStubArgs(), pool.enter().stubArgs(0));
+        pool.exit();
+    }
+
+}
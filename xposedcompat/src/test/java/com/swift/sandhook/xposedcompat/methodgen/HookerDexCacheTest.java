@@ -0,0 +1,213 @@
+package com.swift.sandhook.xposedcompat.methodgen;
+
+import com.swift.sandhook.xposedcompat.XposedCompat;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HookerDexCacheTest {
+
+    private File dir;
+    private boolean precompileHookerDex;
+    private int maxEntries;
+
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("hooker_dex", "");
+        dir.delete();
+        dir.mkdirs();
+        precompileHookerDex = XposedCompat.precompileHookerDex;
+        maxEntries = XposedCompat.hookerDexCacheMaxEntries;
+        XposedCompat.precompileHookerDex = false;
+    }
+
+    @After
+    public void tearDown() {
+        XposedCompat.precompileHookerDex = precompileHookerDex;
+        XposedCompat.hookerDexCacheMaxEntries = maxEntries;
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void parseEntry() {
+        HookerDexCache.Entry entry = new HookerDexCache.Entry("SandHooker_a.jar", "void a.B.c(int, java.lang.String)", 123L, 456L);
+        HookerDexCache.Entry parsed = HookerDexCache.Entry.parse(entry.toString());
+        assertEquals(entry.dexName, parsed.dexName);
+        assertEquals(entry.key, parsed.key);
+        assertEquals(123L, parsed.lastUsed);
+        assertEquals(456L, parsed.size);
+        assertFalse(parsed.usedInProcess);
+    }
+
+    @Test
+    public void parseKeyWithTabs() {
+        HookerDexCache.Entry parsed = HookerDexCache.Entry.parse("SandHookerBatch_a.jar\t1\t2\tkey\twith\ttabs");
+        assertEquals("key\twith\ttabs", parsed.key);
+    }
+
+    @Test
+    public void parseBadLines() {
+        assertNull(HookerDexCache.Entry.parse("SandHooker_a.jar\t1\t2"));
+        assertNull(HookerDexCache.Entry.parse("SandHooker_a.jar\tx\t2\tkey"));
+        assertNull(HookerDexCache.Entry.parse(""));
+    }
+
+    @Test
+    public void ownedJars() {
+        assertTrue(HookerDexCache.isHookerDex("SandHooker_a.jar"));
+        assertTrue(HookerDexCache.isHookerDex("SandHookerBatch_a.jar"));
+        assertTrue(HookerDexCache.isHookerDex("SandHookerNew_a.jar"));
+        assertTrue(HookerDexCache.isHookerDex("SandHookerShape_a_0.jar"));
+        assertFalse(HookerDexCache.isHookerDex("SandHookerStubs_0.jar"));
+        assertFalse(HookerDexCache.isHookerDex("SandHooker_a.dex"));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() throws IOException {
+        XposedCompat.hookerDexCacheMaxEntries = 2;
+        File a = newJar("SandHooker_a.jar");
+        File b = newJar("SandHooker_b.jar");
+        File c = newJar("SandHooker_c.jar");
+        File notIndexed = newJar("SandHooker_x.jar");
+        notIndexed.setLastModified(System.currentTimeMillis() - HookerDexCache.UNINDEXED_GRACE_MS - 1000);
+        File stubs = newJar("SandHookerStubs_0.jar");
+        //index is written in lru order
+        writeIndex(HookerDexCache.getVersion(), "SandHooker_a.jar\t1\t4\ta", "SandHooker_b.jar\t2\t4\tb", "SandHooker_c.jar\t3\t4\tc");
+
+        HookerDexCache.open(dir);
+        assertFalse(a.exists());
+        assertTrue(b.exists());
+        assertTrue(c.exists());
+        assertFalse(notIndexed.exists());
+        assertTrue(stubs.exists());
+        assertEquals(2, HookerDexCache.getEntryCount());
+
+        //b is used now, c is the least recently used one
+        assertTrue(HookerDexCache.lookup("SandHooker_b.jar", "b"));
+        File d = newJar("SandHooker_d.jar");
+        HookerDexCache.put("SandHooker_d.jar", "d");
+        assertTrue(b.exists());
+        assertFalse(c.exists());
+        assertTrue(d.exists());
+        assertEquals(2, HookerDexCache.getEntryCount());
+    }
+
+    @Test
+    public void dropOtherVersion() throws IOException {
+        File a = newJar("SandHooker_a.jar");
+        a.setLastModified(System.currentTimeMillis() - HookerDexCache.UNINDEXED_GRACE_MS - 1000);
+        writeIndex("other", "SandHooker_a.jar\t1\t4\ta");
+        HookerDexCache.open(dir);
+        assertFalse(a.exists());
+        assertFalse(HookerDexCache.lookup("SandHooker_a.jar", "a"));
+        assertEquals(0, HookerDexCache.getEntryCount());
+    }
+
+    @Test
+    public void lookupOtherKey() throws IOException {
+        File a = newJar("SandHooker_a.jar");
+        writeIndex(HookerDexCache.getVersion(), "SandHooker_a.jar\t1\t4\ta");
+        HookerDexCache.open(dir);
+        assertFalse(HookerDexCache.lookup("SandHooker_a.jar", "b"));
+        assertFalse(a.exists());
+    }
+
+    @Test
+    public void keepRecentJarNotIndexed() throws IOException {
+        //may be generated by another process which has not saved the index yet
+        File a = newJar("SandHooker_a.jar");
+        writeIndex(HookerDexCache.getVersion());
+        HookerDexCache.open(dir);
+        assertTrue(a.exists());
+        assertEquals(0, HookerDexCache.getEntryCount());
+    }
+
+    @Test
+    public void mergeIndexOfOtherProcess() throws IOException {
+        newJar("SandHooker_a.jar");
+        writeIndex(HookerDexCache.getVersion(), "SandHooker_a.jar\t1\t4\ta");
+        HookerDexCache.open(dir);
+
+        //another process generates b & saves its index
+        newJar("SandHooker_b.jar");
+        writeIndex(HookerDexCache.getVersion(), "SandHooker_a.jar\t1\t4\ta", "SandHooker_b.jar\t5\t4\tb");
+        newJar("SandHooker_c.jar");
+        HookerDexCache.put("SandHooker_c.jar", "c");
+        HookerDexCache.save();
+
+        assertEquals(3, HookerDexCache.getEntryCount());
+        List<String> lines = readIndex();
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(1).startsWith("SandHooker_a.jar\t1\t"));
+        assertTrue(lines.get(2).startsWith("SandHooker_b.jar\t5\t"));
+        assertTrue(lines.get(3).startsWith("SandHooker_c.jar\t"));
+        assertTrue(HookerDexCache.lookup("SandHooker_b.jar", "b"));
+    }
+
+    @Test
+    public void mergeSkipsDeletedJar() throws IOException {
+        newJar("SandHooker_a.jar");
+        newJar("SandHooker_b.jar");
+        writeIndex(HookerDexCache.getVersion(), "SandHooker_a.jar\t1\t4\ta", "SandHooker_b.jar\t2\t4\tb");
+        HookerDexCache.open(dir);
+        //b is deleted for another key, the saved index still has it
+        assertFalse(HookerDexCache.lookup("SandHooker_b.jar", "x"));
+        HookerDexCache.save();
+
+        assertEquals(1, HookerDexCache.getEntryCount());
+        List<String> lines = readIndex();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith("SandHooker_a.jar\t"));
+    }
+
+    private File newJar(String name) throws IOException {
+        File file = new File(dir, name);
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[4]);
+        }
+        return file;
+    }
+
+    private List<String> readIndex() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(new File(dir, "hooker_index")))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private void writeIndex(String version, String... lines) throws IOException {
+        try (Writer writer = new FileWriter(new File(dir, "hooker_index"))) {
+            writer.write("SandHookerIndex\t" + version + "\n");
+            for (String line : lines) {
+                writer.write(line + "\n");
+            }
+        }
+    }
+
+}
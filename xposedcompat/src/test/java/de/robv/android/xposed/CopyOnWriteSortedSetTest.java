@@ -0,0 +1,111 @@
+package de.robv.android.xposed;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CopyOnWriteSortedSetTest {
+
+    @Test
+    public void insertsAtSortedPosition() {
+        XposedBridge.CopyOnWriteSortedSet<Item> set = new XposedBridge.CopyOnWriteSortedSet<>();
+        Item a = new Item(1), b = new Item(5), c = new Item(3), d = new Item(0);
+        set.add(a);
+        set.add(b);
+        set.add(c);
+        set.add(d);
+        assertArrayEquals(new Object[] {d, a, c, b}, set.getSnapshot());
+    }
+
+    @Test
+    public void skipsDuplicates() {
+        XposedBridge.CopyOnWriteSortedSet<Item> set = new XposedBridge.CopyOnWriteSortedSet<>();
+        Item a = new Item(1);
+        assertTrue(set.add(a));
+        assertFalse(set.add(a));
+        assertEquals(1, set.getSnapshot().length);
+    }
+
+    @Test
+    public void keepsDistinctElementsComparingEqual() {
+        XposedBridge.CopyOnWriteSortedSet<Item> set = new XposedBridge.CopyOnWriteSortedSet<>();
+        Item a = new Item(2), b = new Item(2), c = new Item(2);
+        assertTrue(set.add(a));
+        assertTrue(set.add(b));
+        assertTrue(set.add(c));
+        //duplicates among them are found by equals, not only at the searched index
+        assertFalse(set.add(a));
+        assertFalse(set.add(b));
+        assertFalse(set.add(c));
+        assertEquals(3, set.getSnapshot().length);
+        assertTrue(Arrays.asList(set.getSnapshot()).containsAll(Arrays.asList(a, b, c)));
+    }
+
+    @Test
+    public void removeKeepsOrder() {
+        XposedBridge.CopyOnWriteSortedSet<Item> set = new XposedBridge.CopyOnWriteSortedSet<>();
+        Item a = new Item(1), b = new Item(2), c = new Item(3);
+        set.add(c);
+        set.add(a);
+        set.add(b);
+        assertTrue(set.remove(b));
+        assertFalse(set.remove(b));
+        assertArrayEquals(new Object[] {a, c}, set.getSnapshot());
+    }
+
+    @Test
+    public void addAllMergesSorted() {
+        XposedBridge.CopyOnWriteSortedSet<Item> set = new XposedBridge.CopyOnWriteSortedSet<>();
+        Item a = new Item(1), b = new Item(5), c = new Item(3), d = new Item(0);
+        set.add(c);
+        assertTrue(set.addAll(Arrays.asList(b, a, d)));
+        assertArrayEquals(new Object[] {d, a, c, b}, set.getSnapshot());
+    }
+
+    @Test
+    public void addAllSkipsDuplicates() {
+        XposedBridge.CopyOnWriteSortedSet<Item> set = new XposedBridge.CopyOnWriteSortedSet<>();
+        Item a = new Item(2), b = new Item(2), c = new Item(2), d = new Item(4);
+        set.add(a);
+        set.add(b);
+        //duplicates in the set and in the batch are found by equals, the distinct c is kept
+        assertTrue(set.addAll(Arrays.asList(b, c, a, c, d, d)));
+        assertEquals(4, set.getSnapshot().length);
+        assertTrue(Arrays.asList(set.getSnapshot()).containsAll(Arrays.asList(a, b, c, d)));
+        assertFalse(set.addAll(Arrays.asList(a, b, c, d)));
+        assertFalse(set.addAll(Collections.<Item>emptyList()));
+        assertEquals(4, set.getSnapshot().length);
+    }
+
+    @Test
+    public void addAllPublishesOneSnapshot() {
+        XposedBridge.CopyOnWriteSortedSet<Item> set = new XposedBridge.CopyOnWriteSortedSet<>();
+        Object[] before = set.getSnapshot();
+        set.addAll(Arrays.asList(new Item(1), new Item(2)));
+        assertEquals(0, before.length);
+        assertEquals(2, set.getSnapshot().length);
+        assertEquals(2, set.getDispatchPlan().snapshot.length);
+    }
+
+    //equal only to itself, like callbacks
+    static class Item implements Comparable<Item> {
+
+        final int order;
+
+        Item(int order) {
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(Item other) {
+            return Integer.compare(order, other.order);
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package de.robv.android.xposed;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DispatchPlanTest {
+
+    @Test
+    public void afterLimits() {
+        XC_MethodHook both1 = new Both(), before = new Before(), after = new After(), both2 = new Both();
+        XposedBridge.DispatchPlan plan = new XposedBridge.DispatchPlan(new Object[] {both1, before, after, both2});
+        assertArrayEquals(new XC_MethodHook[] {both1, before, both2}, plan.beforeCallbacks);
+        assertArrayEquals(new XC_MethodHook[] {both1, after, both2}, plan.afterCallbacks);
+        //a before callback returning early runs the after callbacks of itself & the ones before it
+        assertArrayEquals(new int[] {1, 1, 3}, plan.afterLimits);
+        assertFalse(plan.single);
+    }
+
+    @Test
+    public void afterOnlyFirst() {
+        XC_MethodHook after = new After(), before = new Before();
+        XposedBridge.DispatchPlan plan = new XposedBridge.DispatchPlan(new Object[] {after, before});
+        assertArrayEquals(new int[] {1}, plan.afterLimits);
+    }
+
+    @Test
+    public void single() {
+        XC_MethodHook before = new Before();
+        XposedBridge.DispatchPlan plan = new XposedBridge.DispatchPlan(new Object[] {before});
+        assertTrue(plan.single);
+        assertSame(before, plan.singleBefore);
+        assertNull(plan.singleAfter);
+    }
+
+    @Test
+    public void emptyCallbacks() {
+        XposedBridge.DispatchPlan plan = new XposedBridge.DispatchPlan(new Object[] {new XC_MethodHook() {}});
+        assertTrue(plan.isEmpty());
+    }
+
+    static class Before extends XC_MethodHook {
+        @Override
+        protected void beforeHookedMethod(MethodHookParam param) throws Throwable {}
+    }
+
+    static class After extends XC_MethodHook {
+        @Override
+        protected void afterHookedMethod(MethodHookParam param) throws Throwable {}
+    }
+
+    static class Both extends XC_MethodHook {
+        @Override
+        protected void beforeHookedMethod(MethodHookParam param) throws Throwable {}
+
+        @Override
+        protected void afterHookedMethod(MethodHookParam param) throws Throwable {}
+    }
+
+}
@@ -11,8 +11,7 @@
 
 //bug fix hooks
 void* NewGetOatQuickMethodHeader(void* artMethod, uintptr_t pc) {
-    std::set<void*>::iterator it = hookMethods.find(artMethod);
-    if (it != hookMethods.end()) {
+    if (hookMethods.Contains(artMethod)) {
         LOGW("skip GetOatQuickMethodHeader");
         return nullptr;
     }
@@ -33,6 +32,14 @@ EXPORT_LANG_ClASS(Character);
 
 #undef EXPORT_LANG_ClASS
 
+jobject Types::box_Boolean[2];
+jobject Types::box_Byte[kBoxCacheHigh - kBoxCacheLow + 1];
+jobject Types::box_Short[kBoxCacheHigh - kBoxCacheLow + 1];
+jobject Types::box_Integer[kBoxCacheHigh - kBoxCacheLow + 1];
+jobject Types::box_Long[kBoxCacheHigh - kBoxCacheLow + 1];
+jobject Types::box_Character[kBoxCacheHigh + 1];
+jobjectArray Types::empty_args;
+
 void Types::Load(JNIEnv *env) {
     jclass clazz;
     env->PushLocalFrame(16);
@@ -67,28 +74,63 @@ void Types::Load(JNIEnv *env) {
     LOAD_METHOD(java_lang_Boolean, Boolean, "boolean", "()Z");
     LOAD_METHOD(java_lang_Character, Character, "char", "()C");
 
+    jmethodID valueOf;
+
+#define LOAD_BOX_CACHE(c, t, s, low, high)  \
+    valueOf = env->GetStaticMethodID(java_lang_##c, "valueOf", "(" s ")Ljava/lang/" #c ";");  \
+    for (int i = low; i <= high; ++i) {  \
+        jobject box = env->CallStaticObjectMethod(java_lang_##c, valueOf, static_cast<t>(i));  \
+        box_##c[i - (low)] = env->NewGlobalRef(box);  \
+        env->DeleteLocalRef(box);  \
+    }
+
+    LOAD_BOX_CACHE(Boolean, jboolean, "Z", 0, 1);
+    LOAD_BOX_CACHE(Byte, jbyte, "B", kBoxCacheLow, kBoxCacheHigh);
+    LOAD_BOX_CACHE(Short, jshort, "S", kBoxCacheLow, kBoxCacheHigh);
+    LOAD_BOX_CACHE(Integer, jint, "I", kBoxCacheLow, kBoxCacheHigh);
+    LOAD_BOX_CACHE(Long, jlong, "J", kBoxCacheLow, kBoxCacheHigh);
+    LOAD_BOX_CACHE(Character, jchar, "C", 0, kBoxCacheHigh);
+
+    jobjectArray empty = env->NewObjectArray(0, java_lang_Object, nullptr);
+    empty_args = reinterpret_cast<jobjectArray>(env->NewGlobalRef(empty));
+
     env->PopLocalFrame(nullptr);
 #undef LOAD_METHOD
 #undef LOAD_NUMBER
+#undef LOAD_BOX_CACHE
 }
 
 
 #define LANG_BOX(c, t) jobject Types::To##c(JNIEnv *env, t v) {  \
         return env->NewObject(Types::java_lang_##c, Types::java_lang_##c##_init, v);  \
 }
+//same values as valueOf caches, so boxes of small values are shared like in java
+#define LANG_BOX_CACHED(c, t) jobject Types::To##c(JNIEnv *env, t v) {  \
+        if (v >= kBoxCacheLow && v <= kBoxCacheHigh)  \
+            return Types::box_##c[v - kBoxCacheLow];  \
+        return env->NewObject(Types::java_lang_##c, Types::java_lang_##c##_init, v);  \
+}
 #define LANG_UNBOX_V(k, c, t) t Types::From##c(JNIEnv *env, jobject j) {  \
         return env->Call##k##Method(j, Types::java_value_##c);  \
 }
 #define LANG_UNBOX(c, t) LANG_UNBOX_V(c, c, t)
 
-LANG_BOX(Integer, jint);
-LANG_BOX(Long, jlong);
+LANG_BOX_CACHED(Integer, jint);
+LANG_BOX_CACHED(Long, jlong);
 LANG_BOX(Float, jfloat);
 LANG_BOX(Double, jdouble);
-LANG_BOX(Byte, jbyte);
-LANG_BOX(Short, jshort);
-LANG_BOX(Boolean, jboolean);
-LANG_BOX(Character, jchar);
+LANG_BOX_CACHED(Byte, jbyte);
+LANG_BOX_CACHED(Short, jshort);
+
+jobject Types::ToBoolean(JNIEnv *env, jboolean v) {
+    return Types::box_Boolean[v ? 1 : 0];
+}
+
+jobject Types::ToCharacter(JNIEnv *env, jchar v) {
+    if (v <= kBoxCacheHigh)
+        return Types::box_Character[v];
+    return env->NewObject(Types::java_lang_Character, Types::java_lang_Character_init, v);
+}
 
 jobject Types::ToObject(JNIEnv *env, jobject obj) {
     return obj;
@@ -109,6 +151,7 @@ jobject Types::FromObject(JNIEnv *env, jobject obj) {
 
 
 #undef LANG_BOX
+#undef LANG_BOX_CACHED
 #undef LANG_UNBOX_V
 #undef LANG_UNBOX
 
@@ -175,7 +218,7 @@ void FFIJniDispatcher(FFIClosure *closure, void *resp, void **args, void *userda
 
     ArtHookParam *param = reinterpret_cast<ArtHookParam *>(userdata);
     const char *argument = param->paramsShorty;
-    unsigned int argument_len = (unsigned int) strlen(argument);
+    unsigned int argument_len = param->paramsLen;
     JNIEnv *env = *reinterpret_cast<JNIEnv **>(args[0]);
     jobject this_object = nullptr;
     if (!param->is_static_) {
@@ -263,19 +306,26 @@ void FFIJniDispatcher(FFIClosure *closure, void *resp, void **args, void *userda
 }
 
 
-FFIClosure* BuildJniClosure(ArtHookParam *param) {
-    const char *argument = param->paramsShorty;
-    unsigned int java_argument_len = (unsigned int) strlen(argument);
-    unsigned int jni_argument_len = java_argument_len + 2;
+//key is return shorty + params shorty, static or not is the same to jni (jclass or jobject)
+static FFICallInterface* GetJniCif(const std::string &key) {
+    std::map<std::string, FFICallInterface*>::iterator it = cifCache.find(key);
+    if (it != cifCache.end()) {
+        return it->second;
+    }
     FFICallInterface *cif = new FFICallInterface(
-            FFIGetJniParameter(param->returnShorty)
+            FFIGetJniParameter(key[0])
     );
     cif->Parameter(FFIType::kFFITypePointer);  // JNIEnv *
     cif->Parameter(FFIType::kFFITypePointer);  // jclass or jobject
-    for (int i = 2; i < jni_argument_len; ++i) {
-        cif->Parameter(FFIGetJniParameter(argument[i - 2]));
+    for (int i = 1; i < key.length(); ++i) {
+        cif->Parameter(FFIGetJniParameter(key[i]));
     }
     cif->FinalizeCif();
+    cifCache[key] = cif;
+    return cif;
+}
+
+FFIClosure* BuildJniClosure(ArtHookParam *param, FFICallInterface *cif) {
     return cif->CreateClosure(param, FFIJniDispatcher);
 }
 
@@ -320,20 +370,25 @@ Java_com_swift_sandhook_xposedcompat_XposedCompat_init(JNIEnv *env, jclass type,
 extern "C"
 JNIEXPORT jlong JNICALL
 Java_com_swift_sandhook_xposedcompat_XposedCompat_getJNITrampoline(JNIEnv *env, jclass type, jint slot, jboolean isStatic, jchar retShorty, jcharArray paramShorty) {
-    ArtHookParam* artHookParam = new ArtHookParam();
-    hookParams.push_back(artHookParam);
+    jsize len = env->GetArrayLength(paramShorty);
+    std::string key(static_cast<size_t>(len + 1), '\0');
+    key[0] = static_cast<char>(retShorty);
+    jchar* jcs = env->GetCharArrayElements(paramShorty, NULL);
+    for (int i = 0; i < len; ++i) {
+        key[i + 1] = static_cast<char>(jcs[i]);
+    }
+    env->ReleaseCharArrayElements(paramShorty, jcs, JNI_ABORT);
+    std::lock_guard<std::mutex> guard(trampolineLock);
+    FFICallInterface *cif = GetJniCif(key);
+    hookParams.push_back(ArtHookParam());
+    ArtHookParam* artHookParam = &hookParams.back();
     artHookParam->is_static_ = isStatic;
     artHookParam->slot = slot;
     artHookParam->returnShorty = static_cast<char>(retShorty);
-    jchar* jcs = env->GetCharArrayElements(paramShorty, NULL);
-    char* params = new char[env->GetArrayLength(paramShorty) + 1];
-    for (int i = 0; i < env->GetArrayLength(paramShorty); ++i) {
-        params[i] = static_cast<char>(jcs[i]);
-    }
-    params[env->GetArrayLength(paramShorty)] = '\0';
-    artHookParam->paramsShorty = params;
-    env->ReleaseCharArrayElements(paramShorty, jcs, 0);
-    FFIClosure* closure = BuildJniClosure(artHookParam);
+    //the key string in cache is never freed, its params part is shared
+    artHookParam->paramsShorty = cifCache.find(key)->first.c_str() + 1;
+    artHookParam->paramsLen = static_cast<unsigned int>(len);
+    FFIClosure* closure = BuildJniClosure(artHookParam, cif);
     if (closure != nullptr) {
         return reinterpret_cast<jlong>(closure->GetCode());
     } else {
@@ -344,7 +399,7 @@ Java_com_swift_sandhook_xposedcompat_XposedCompat_getJNITrampoline(JNIEnv *env,
 extern "C"
 JNIEXPORT void JNICALL
 Java_com_swift_sandhook_xposedcompat_XposedCompat_addHookMethod(JNIEnv *env, jclass type, jobject hookMethod) {
-    hookMethods.insert(env->FromReflectedMethod(hookMethod));
+    hookMethods.Add(env->FromReflectedMethod(hookMethod));
 }
 
 
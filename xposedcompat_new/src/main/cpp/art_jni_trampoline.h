@@ -5,10 +5,13 @@
 #ifndef SANDHOOK_ART_JNI_TRAMPOLINE_H
 #define SANDHOOK_ART_JNI_TRAMPOLINE_H
 
+#include <atomic>
 #include <cstdint>
 #include <jni.h>
-#include <list>
-#include <set>
+#include <deque>
+#include <map>
+#include <mutex>
+#include <string>
 #include "ffi_cxx.h"
 
 jclass java_lang_Object;
@@ -24,11 +27,106 @@ struct ArtHookParam {
     jint slot;
     bool is_static_;
     char returnShorty;
-    char* paramsShorty;
+    //owned by the cif cache
+    const char* paramsShorty;
+    unsigned int paramsLen;
 };
 
-std::list<ArtHookParam*> hookParams = std::list<ArtHookParam*>();
-std::set<void*> hookMethods = std::set<void*>();
+//deque never moves its elements, params are allocated in blocks & live as long as their closures
+std::deque<ArtHookParam> hookParams = std::deque<ArtHookParam>();
+//jni call interfaces by return & params shorty, shared by all hooked methods of the same shape
+std::map<std::string, FFICallInterface*> cifCache = std::map<std::string, FFICallInterface*>();
+std::mutex trampolineLock;
+//open addressed set of hooked art methods, read by every stack walk without lock,
+//writers add in place or publish a bigger table, old tables are kept for readers still on them
+class HookMethodSet {
+public:
+    HookMethodSet() {
+        table_.store(NewTable(kInitCapacity), std::memory_order_release);
+    }
+
+    bool Contains(void *method) const {
+        const Table *table = table_.load(std::memory_order_acquire);
+        size_t mask = table->mask;
+        for (size_t i = Hash(method) & mask;; i = (i + 1) & mask) {
+            void *slot = table->slots[i].load(std::memory_order_acquire);
+            if (slot == method)
+                return true;
+            if (slot == nullptr)
+                return false;
+        }
+    }
+
+    void Add(void *method) {
+        if (method == nullptr)
+            return;
+        std::lock_guard<std::mutex> guard(lock_);
+        Table *table = table_.load(std::memory_order_relaxed);
+        //load factor at most 1/2, probes stay short
+        if ((table->count + 1) * 2 > table->mask + 1) {
+            Table *bigger = NewTable((table->mask + 1) * 2);
+            for (size_t i = 0; i <= table->mask; ++i) {
+                void *slot = table->slots[i].load(std::memory_order_relaxed);
+                if (slot != nullptr) {
+                    Insert(bigger, slot);
+                }
+            }
+            table_.store(bigger, std::memory_order_release);
+            retired_.push_back(table);
+            table = bigger;
+        }
+        Insert(table, method);
+    }
+
+private:
+    static const size_t kInitCapacity = 64;
+
+    struct Table {
+        size_t mask;
+        size_t count;
+        std::atomic<void*> *slots;
+    };
+
+    static Table *NewTable(size_t capacity) {
+        Table *table = new Table();
+        table->mask = capacity - 1;
+        table->count = 0;
+        table->slots = new std::atomic<void*>[capacity];
+        for (size_t i = 0; i < capacity; ++i) {
+            table->slots[i].store(nullptr, std::memory_order_relaxed);
+        }
+        return table;
+    }
+
+    static void Insert(Table *table, void *method) {
+        size_t mask = table->mask;
+        for (size_t i = Hash(method) & mask;; i = (i + 1) & mask) {
+            void *slot = table->slots[i].load(std::memory_order_relaxed);
+            if (slot == method)
+                return;
+            if (slot == nullptr) {
+                table->slots[i].store(method, std::memory_order_release);
+                table->count++;
+                return;
+            }
+        }
+    }
+
+    static size_t Hash(void *method) {
+        //art methods are aligned, mix the high bits down
+        uintptr_t h = reinterpret_cast<uintptr_t>(method) >> 3;
+        h ^= h >> 16;
+        h *= static_cast<uintptr_t>(0x45d9f3b);
+        h ^= h >> 16;
+        return static_cast<size_t>(h);
+    }
+
+    std::atomic<Table*> table_;
+    std::mutex lock_;
+    std::deque<Table*> retired_;
+};
+
+HookMethodSet hookMethods;
 
 template<typename U, typename T>
 U ForceCast(T *x) {
@@ -54,6 +152,18 @@ struct Types {
 
 #undef LANG_ClASS
 
+    //global refs of the boxes valueOf caches, boxing a small value is an array load
+    static const int kBoxCacheLow = -128;
+    static const int kBoxCacheHigh = 127;
+    static jobject box_Boolean[2];
+    static jobject box_Byte[kBoxCacheHigh - kBoxCacheLow + 1];
+    static jobject box_Short[kBoxCacheHigh - kBoxCacheLow + 1];
+    static jobject box_Integer[kBoxCacheHigh - kBoxCacheLow + 1];
+    static jobject box_Long[kBoxCacheHigh - kBoxCacheLow + 1];
+    static jobject box_Character[kBoxCacheHigh + 1];
+    //args of methods without params, an empty array can be shared
+    static jobjectArray empty_args;
+
     static void Load(JNIEnv *env);
 
 
@@ -138,6 +248,10 @@ static void UnBoxValue(JNIEnv *env, jvalue *jv, jobject obj, char type) {
 class QuickArgumentBuilder {
 public:
     QuickArgumentBuilder(JNIEnv *env, size_t len) : env_(env), index_(0) {
+        if (len == 0) {
+            array_ = Types::empty_args;
+            return;
+        }
         array_ = env->NewObjectArray(
                 static_cast<jsize>(len),
                 java_lang_Object,
@@ -168,11 +282,14 @@ public:
 
     APPEND_DEF(Long, jlong)
 
-    APPEND_DEF(Object, jobject)
-
 
 #undef APPEND_DEF
 
+    //arguments are refs of the caller, they stay valid
+    void AppendObject(jobject value) {
+        env_->SetObjectArrayElement(array_, index_++, value);
+    }
+
     jobjectArray GetArray() {
         return array_;
     }
@@ -1,5 +1,30 @@
 #include "ffi_cxx.h"
 
+std::mutex FFIClosureSlab::lock_;
+ffi_closure *FFIClosureSlab::chunk_ = nullptr;
+char *FFIClosureSlab::chunk_code_ = nullptr;
+size_t FFIClosureSlab::left_ = 0;
+
+ffi_closure *FFIClosureSlab::Alloc(void **code) {
+    std::lock_guard<std::mutex> guard(lock_);
+    if (left_ == 0) {
+        void *chunk_code;
+        //code of a chunk is mapped at a fixed offset of the writable chunk
+        chunk_ = reinterpret_cast<ffi_closure *>(ffi_closure_alloc(sizeof(ffi_closure) * kChunkClosures, &chunk_code));
+        if (chunk_ == nullptr) {
+            *code = nullptr;
+            return nullptr;
+        }
+        chunk_code_ = reinterpret_cast<char *>(chunk_code);
+        left_ = kChunkClosures;
+    }
+    ffi_closure *closure = chunk_++;
+    *code = chunk_code_;
+    chunk_code_ += sizeof(ffi_closure);
+    left_--;
+    return closure;
+}
+
 FFICallInterface::~FFICallInterface() {
     for (FFIClosure *closure : closures_) {
         delete closure;
@@ -19,6 +44,10 @@ void FFIDispatcher(ffi_cif *cif OPTION, void *ret, void **args, void *userdata)
 FFIClosure *FFICallInterface::CreateClosure(void *userdata, FFICallback callback) {
     std::lock_guard<std::mutex> guard(lock_);
     FFIClosure *closure = new FFIClosure(this, userdata, callback);
+    if (closure->closure_ == nullptr) {
+        delete closure;
+        return nullptr;
+    }
     ffi_prep_closure_loc(closure->closure_, cif_, FFIDispatcher, closure, closure->code_);
     closures_.push_back(closure);
     return closure;
@@ -27,6 +27,21 @@ class FFICallInterface;
 
 class FFIClosure;
 
+// closures are cut from shared executable chunks instead of one allocation each,
+// a cut closure is never given back
+class FFIClosureSlab {
+ public:
+    static ffi_closure *Alloc(void **code);
+
+ private:
+    static const size_t kChunkClosures = 64;
+
+    static std::mutex lock_;
+    static ffi_closure *chunk_;
+    static char *chunk_code_;
+    static size_t left_;
+};
+
 typedef void (*FFICallback)(FFIClosure *closure, void *ret, void **args, void *userdata);
 
 class FFIClosure {
@@ -34,12 +49,10 @@ class FFIClosure {
     FFIClosure(FFICallInterface *cif, void *userdata, FFICallback callback) : cif_(cif),
                                                                               userdata_(userdata),
                                                                               callback_(callback) {
-        closure_ = reinterpret_cast<ffi_closure *>(ffi_closure_alloc(sizeof(ffi_closure), &code_));
+        closure_ = FFIClosureSlab::Alloc(&code_);
     }
 
-    ~FFIClosure() {
-        ffi_closure_free(closure_);
-    }
+    ~FFIClosure() {}
 
     void *GetCode() {
         return code_;
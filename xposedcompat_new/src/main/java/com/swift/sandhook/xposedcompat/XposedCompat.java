@@ -18,7 +18,8 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import de.robv.android.xposed.IXposedHookLoadPackage;
 import de.robv.android.xposed.XC_MethodHook;
@@ -49,8 +50,13 @@ public class XposedCompat {
 
     private static ClassLoader sandHookXposedClassLoader;
 
-    private static volatile int curSlot = 0;
-    public static volatile HookInfo[] hookInfos = new HookInfo[100];
+    //hook infos by slot, pages are created on demand & never moved, so a slot is read without lock or copy
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int MAX_PAGES = 4096;
+    private static final AtomicReferenceArray<AtomicReferenceArray<HookInfo>> hookInfoPages = new AtomicReferenceArray<>(MAX_PAGES);
+    private static final AtomicInteger curSlot = new AtomicInteger();
 
     static {
         try {
@@ -84,18 +90,35 @@ public class XposedCompat {
         }
     }
 
-    private synchronized static int genSlot() {
-        curSlot++;
-        if (curSlot >= hookInfos.length) {
-            hookInfos = Arrays.copyOf(hookInfos, hookInfos.length + 30);
+    private static int genSlot() {
+        int slot = curSlot.incrementAndGet();
+        int pageIndex = slot >>> PAGE_SHIFT;
+        if (pageIndex >= MAX_PAGES)
+            return -1;
+        if (hookInfoPages.get(pageIndex) == null) {
+            hookInfoPages.compareAndSet(pageIndex, null, new AtomicReferenceArray<HookInfo>(PAGE_SIZE));
         }
-        return curSlot;
+        return slot;
     }
 
-    public synchronized static boolean hookMethod(Member origin, XposedBridge.AdditionalHookInfo additionalHookInfo) {
+    public static HookInfo getHookInfo(int slot) {
+        AtomicReferenceArray<HookInfo> page = hookInfoPages.get(slot >>> PAGE_SHIFT);
+        return page == null ? null : page.get(slot & PAGE_MASK);
+    }
+
+    private static void setHookInfo(int slot, HookInfo hookInfo) {
+        hookInfoPages.get(slot >>> PAGE_SHIFT).set(slot & PAGE_MASK, hookInfo);
+    }
+
+    //lock-free slots & hook infos are read by hookBridge, installs are still serialized
+    public static synchronized boolean hookMethod(Member origin, XposedBridge.AdditionalHookInfo additionalHookInfo) {
+        int slot = genSlot();
+        if (slot < 0) {
+            HookLog.e("no hook slot left for " + origin);
+            return false;
+        }
         Method hook = StubMethodsFactory.getStubMethod();
         Method backup = StubMethodsFactory.getStubMethod();
-        int slot = genSlot();
         long jniTrampoline = getJNITrampoline(origin, slot);
         if (jniTrampoline == 0) {
             return false;
@@ -108,7 +131,7 @@ public class XposedCompat {
         hookInfo.hook = hook;
         hookInfo.backup = backup;
         hookInfo.additionalHookInfo = additionalHookInfo;
-        hookInfos[slot] = hookInfo;
+        setHookInfo(slot, hookInfo);
         try {
             SandHook.hook(new HookWrapper.HookEntity(origin, hook, backup));
             addHookMethod(hook);
@@ -120,7 +143,7 @@ public class XposedCompat {
     }
 
     public static Object hookBridge(int slot, Object thiz, Object[] params) throws Throwable {
-        HookInfo hookInfo = hookInfos[slot];
+        HookInfo hookInfo = getHookInfo(slot);
 
         if (XposedBridge.disableHooks) {
             return SandHook.callOriginMethod(hookInfo.origin, hookInfo.backup, thiz, params);
@@ -5,6 +5,7 @@ import android.util.Log;
 
 import com.swift.sandhook.HookLog;
 import com.swift.sandhook.SandHook;
+import com.swift.sandhook.utils.AsyncLogger;
 import com.swift.sandhook.xposedcompat.XposedCompat;
 
 import java.io.File;
@@ -96,9 +97,9 @@ public final class XposedBridge {
 	 *
 	 * @param text The log message.
 	 */
-	public synchronized static void log(String text) {
+	public static void log(String text) {
 		if (HookLog.DEBUG) {
-			Log.i(TAG, text);
+			AsyncLogger.println(Log.INFO, TAG, text);
 		}
 	}
 
@@ -110,9 +111,9 @@ public final class XposedBridge {
 	 *
 	 * @param t The Throwable object for the stack trace.
 	 */
-	public synchronized static void log(Throwable t) {
+	public static void log(Throwable t) {
 		if (HookLog.DEBUG) {
-			Log.e(TAG, Log.getStackTraceString(t));
+			AsyncLogger.println(Log.ERROR, TAG, null, t);
 		}
 	}
 